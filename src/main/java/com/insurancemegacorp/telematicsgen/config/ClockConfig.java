@@ -0,0 +1,29 @@
+package com.insurancemegacorp.telematicsgen.config;
+
+import com.insurancemegacorp.telematicsgen.util.SimulationClock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Instant;
+import java.time.ZoneId;
+
+@Configuration
+public class ClockConfig {
+
+    @Value("${telematics.clock.warp-factor:1.0}")
+    private double warpFactor;
+
+    @Value("${telematics.clock.manual:false}")
+    private boolean manual;
+
+    // ISO-8601 instant to start simulated time from; empty = now
+    @Value("${telematics.clock.start:}")
+    private String start;
+
+    @Bean
+    public SimulationClock simulationClock() {
+        long startMillis = start.isBlank() ? System.currentTimeMillis() : Instant.parse(start).toEpochMilli();
+        return new SimulationClock(startMillis, warpFactor, manual, ZoneId.systemDefault());
+    }
+}
@@ -1,23 +1,37 @@
 package com.insurancemegacorp.telematicsgen.config;
 
+import com.insurancemegacorp.telematicsgen.util.TelematicsEncoding;
+import com.insurancemegacorp.telematicsgen.util.WireFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class RabbitConfig {
 
+    @Value("${telematics.encoding.publish:JSON}")
+    private WireFormat publishFormat;
+
     @Bean
-    public Jackson2JsonMessageConverter jsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public TelematicsMessageConverter messageConverter() {
+        // Reports in the configured wire format; everything else stays Jackson JSON
+        TelematicsEncoding encoding = publishFormat.newEncoding();
+        Logger logger = LoggerFactory.getLogger(RabbitConfig.class);
+        logger.info("📦 Publishing reports as {} ({})", publishFormat, publishFormat.contentType());
+        if (encoding.schema() != null) {
+            logger.info("📦 {} schema: {}", publishFormat, encoding.schema());
+        }
+        return new TelematicsMessageConverter(encoding);
     }
 
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
-        template.setMessageConverter(jsonMessageConverter());
+        template.setMessageConverter(messageConverter());
         
         // Enable publisher confirms for reliability
         template.setConfirmCallback((correlationData, ack, cause) -> {
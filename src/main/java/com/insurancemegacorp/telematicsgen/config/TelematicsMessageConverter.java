@@ -0,0 +1,70 @@
+package com.insurancemegacorp.telematicsgen.config;
+
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.model.MutableTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.util.TelematicsEncoding;
+import com.insurancemegacorp.telematicsgen.util.WireFormat;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Message converter that writes telematics reports with a {@link TelematicsEncoding} and
+ * advertises its format in {@code content_type}. In JSON the bytes and headers are the same as
+ * Jackson's, without its reflective serialization. Every other message type, such as summaries
+ * and crash pulses, stays Jackson JSON, and so does reading anything but encoded reports.
+ */
+public class TelematicsMessageConverter extends Jackson2JsonMessageConverter {
+
+    private final TelematicsEncoding encoding;
+
+    public TelematicsMessageConverter() {
+        this(WireFormat.JSON.newEncoding());
+    }
+
+    public TelematicsMessageConverter(TelematicsEncoding encoding) {
+        this.encoding = encoding;
+    }
+
+    public TelematicsEncoding getEncoding() {
+        return encoding;
+    }
+
+    @Override
+    protected Message createMessage(Object objectToConvert, MessageProperties messageProperties, Type genericType)
+            throws MessageConversionException {
+        byte[] body;
+        if (objectToConvert instanceof FlatTelematicsMessage flat) {
+            body = encoding.encode(flat);
+        } else if (objectToConvert instanceof MutableTelematicsMessage mutable) {
+            body = encoding.encode(mutable);
+        } else {
+            return super.createMessage(objectToConvert, messageProperties, genericType);
+        }
+        WireFormat format = encoding.format();
+        messageProperties.setContentType(format.contentType());
+        if (format.isText()) {
+            messageProperties.setContentEncoding(getDefaultCharset());
+        }
+        messageProperties.setContentLength(body.length);
+        getJavaTypeMapper().fromClass(objectToConvert.getClass(), messageProperties);
+        return new Message(body, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+        WireFormat format = encoding.format();
+        if (format.isText() || !format.contentType().equals(message.getMessageProperties().getContentType())) {
+            return super.fromMessage(message);
+        }
+        try {
+            return encoding.decode(message.getBody());
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to decode " + format + " report", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.insurancemegacorp.telematicsgen.controller;
+
+import com.insurancemegacorp.telematicsgen.service.HeadlessBenchmarkService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/benchmark")
+@CrossOrigin(originPatterns = "*", maxAge = 3600)
+public class BenchmarkController {
+
+    private final HeadlessBenchmarkService benchmarkService;
+
+    public BenchmarkController(HeadlessBenchmarkService benchmarkService) {
+        this.benchmarkService = benchmarkService;
+    }
+
+    @GetMapping
+    public ResponseEntity<Object> lastReport() {
+        HeadlessBenchmarkService.Report report = benchmarkService.getLastReport();
+        if (report == null) {
+            return ResponseEntity.ok(Map.of("status", "ok", "running", benchmarkService.isRunning(),
+                "message", "No benchmark has completed yet"));
+        }
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Re-run the benchmark. Only allowed in headless mode, where no engine is advancing the same drivers.
+     */
+    @PostMapping
+    public ResponseEntity<Object> run(@RequestParam(value = "seconds", defaultValue = "10") int seconds,
+                                      @RequestParam(value = "threads", defaultValue = "0") int threads) {
+        if (!benchmarkService.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("status", "error",
+                "message", "Benchmark runs require telematics.benchmark.enabled=true"));
+        }
+        if (benchmarkService.isRunning()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("status", "error",
+                "message", "A benchmark is already running"));
+        }
+        return ResponseEntity.ok(benchmarkService.run(seconds, threads));
+    }
+}
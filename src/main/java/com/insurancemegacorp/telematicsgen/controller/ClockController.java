@@ -0,0 +1,73 @@
+package com.insurancemegacorp.telematicsgen.controller;
+
+import com.insurancemegacorp.telematicsgen.util.SimulationClock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/clock")
+@CrossOrigin(originPatterns = "*", maxAge = 3600)
+public class ClockController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClockController.class);
+
+    private final SimulationClock clock;
+
+    public ClockController(SimulationClock clock) {
+        this.clock = clock;
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> status() {
+        return ResponseEntity.ok(describe());
+    }
+
+    /**
+     * Change the warp factor and/or switch between warped and manually stepped time.
+     */
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> configure(@RequestParam(required = false) Double warpFactor,
+                                                         @RequestParam(required = false) Boolean manual) {
+        if (warpFactor != null) {
+            clock.setWarpFactor(warpFactor);
+        }
+        if (manual != null) {
+            clock.setManual(manual);
+        }
+        logger.info("⏱️ Simulation clock set to {}x{} via REST API", clock.getWarpFactor(),
+            clock.isManual() ? " (manual)" : "");
+        return ResponseEntity.ok(describe());
+    }
+
+    @PostMapping("/advance")
+    public ResponseEntity<Map<String, Object>> advance(@RequestParam long seconds) {
+        clock.advance(Duration.ofSeconds(seconds));
+        logger.info("⏩ Simulation clock advanced {}s to {}", seconds, clock.instant());
+        return ResponseEntity.ok(describe());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> invalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("status", "error", "message", String.valueOf(e.getMessage())));
+    }
+
+    private Map<String, Object> describe() {
+        return Map.of(
+            "status", "ok",
+            "simulatedTime", clock.instant().toString(),
+            "warpFactor", clock.getWarpFactor(),
+            "manual", clock.isManual()
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package com.insurancemegacorp.telematicsgen.controller;
+
+import com.insurancemegacorp.telematicsgen.model.LoadProfile;
+import com.insurancemegacorp.telematicsgen.service.LoadProfileService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/load-profile")
+@CrossOrigin(originPatterns = "*", maxAge = 3600)
+public class LoadProfileController {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadProfileController.class);
+
+    private final LoadProfileService loadProfileService;
+
+    public LoadProfileController(LoadProfileService loadProfileService) {
+        this.loadProfileService = loadProfileService;
+    }
+
+    @PostMapping
+    public ResponseEntity<LoadProfileService.Status> start(@RequestBody LoadProfile profile) {
+        logger.info("📈 Load profile '{}' requested via REST API", profile.name());
+        return ResponseEntity.ok(loadProfileService.start(profile));
+    }
+
+    @GetMapping
+    public ResponseEntity<LoadProfileService.Status> status() {
+        return ResponseEntity.ok(loadProfileService.getStatus());
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Map<String, Object>> stop() {
+        boolean stopped = loadProfileService.stop();
+        return ResponseEntity.ok(Map.of("status", "ok", "stopped", stopped));
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<Map<String, Object>> invalidProfile(HttpMessageNotReadableException e) {
+        // Validation errors from the LoadProfile constructor arrive wrapped by Jackson
+        String message = String.valueOf(e.getMostSpecificCause().getMessage());
+        return ResponseEntity.badRequest().body(Map.of("status", "error", "message", message));
+    }
+}
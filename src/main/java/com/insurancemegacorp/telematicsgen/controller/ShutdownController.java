@@ -1,5 +1,9 @@
 package com.insurancemegacorp.telematicsgen.controller;
 
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.service.FleetCheckpointService;
+import com.insurancemegacorp.telematicsgen.service.TelematicsRateService;
+import com.insurancemegacorp.telematicsgen.service.TelematicsSimulator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,11 +11,15 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.context.ApplicationContext;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
 @RestController
 @RequestMapping("/api")
@@ -23,6 +31,12 @@ public class ShutdownController {
     @Autowired
     private ApplicationContext applicationContext;
 
+    @Autowired
+    private TelematicsRateService rateService;
+
+    @Autowired
+    private FleetCheckpointService checkpointService;
+
     @PostMapping("/shutdown")
     public ResponseEntity<Map<String, String>> shutdown() {
         logger.info("🛑 Shutdown request received from web dashboard");
@@ -77,17 +91,37 @@ public class ShutdownController {
         return ResponseEntity.ok(Map.of("status", "ok", "interval", simulator.getIntervalMs()));
     }
 
+    @PostMapping("/rate")
+    public ResponseEntity<Map<String, Object>> setRate(@RequestParam("msgPerSec") double msgPerSec) {
+        simulator.setTargetRate(msgPerSec);
+        return ResponseEntity.ok(Map.of("status", "ok", "targetRate", simulator.getTargetRate()));
+    }
+
+    @GetMapping("/rate")
+    public ResponseEntity<Map<String, Object>> getRate() {
+        return ResponseEntity.ok(Map.of(
+            "status", "ok",
+            "targetRate", rateService.getTargetRate(),
+            "generatedRate", rateService.getGeneratedRate(),
+            "measuredRate", rateService.getCurrentRate(),
+            "driftPercent", rateService.getDriftPercent()
+        ));
+    }
+
+    @PostMapping("/checkpoint")
+    public ResponseEntity<Map<String, Object>> checkpoint() {
+        if (!checkpointService.isEnabled()) {
+            return ResponseEntity.ok(Map.of("status", "error", "message", "Fleet checkpoints are disabled"));
+        }
+        long sequence = checkpointService.checkpoint();
+        return ResponseEntity.ok(Map.of("status", sequence >= 0 ? "ok" : "error", "sequence", sequence));
+    }
+
     @Autowired
     private com.insurancemegacorp.telematicsgen.service.DriverManager driverManager;
-    
-    @Autowired
-    private com.insurancemegacorp.telematicsgen.service.TelematicsDataGenerator dataGenerator;
-    
-    @Autowired
-    private com.insurancemegacorp.telematicsgen.service.TelematicsPublisher publisher;
 
     @PostMapping("/trigger-crash")
-    public ResponseEntity<Map<String, Object>> triggerRandomCrash() {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> triggerRandomCrash() {
         logger.info("🚨 REST API crash trigger requested");
 
         // Get a random active driver (not already in crash state)
@@ -97,11 +131,11 @@ public class ShutdownController {
 
         if (activeDrivers.isEmpty()) {
             logger.warn("⚠️ No active drivers available for crash simulation");
-            return ResponseEntity.ok(Map.of(
+            return CompletableFuture.completedFuture(ResponseEntity.ok(Map.of(
                 "success", false,
                 "message", "No active drivers available",
                 "timestamp", java.time.Instant.now().toString()
-            ));
+            )));
         }
 
         // Select random driver
@@ -109,44 +143,18 @@ public class ShutdownController {
 
         // Don't crash if already in crash state or crashed too recently
         if (targetDriver.getTimeSinceCrashSeconds() < 300) {
-            return ResponseEntity.ok(Map.of(
+            return CompletableFuture.completedFuture(ResponseEntity.ok(Map.of(
                 "success", false,
                 "message", "Driver crashed too recently (5 min cooldown)",
                 "timestamp", java.time.Instant.now().toString()
-            ));
+            )));
         }
 
-        // IMPORTANT: Generate crash event data BEFORE recording the crash
-        // This captures the speed at impact before it's set to 0
-        var crashMessage = dataGenerator.generateCrashEventData(targetDriver);
-
-        // Now record the crash (sets speed to 0 and state to POST_CRASH_IDLE)
-        targetDriver.recordCrashEvent(crashMessage.accidentType());
-
-        // Publish the crash event
-        try {
-            publisher.publishTelematicsData(crashMessage, targetDriver);
-            logger.info("🚗💥 Demo crash event published via REST API for {} at {} mph",
-                targetDriver.getDriverId(), crashMessage.speedMph());
-        } catch (Exception e) {
-            logger.warn("⚠️ Crash event publish failed for {}: {}", targetDriver.getDriverId(), e.getMessage());
-        }
-
-        logger.info("🚗💥 REST API crash triggered for driver {} - Speed at impact: {} mph, Type: {}",
-                   targetDriver.getDriverId(), crashMessage.speedMph(), crashMessage.accidentType());
-
-        return ResponseEntity.ok(Map.of(
-            "success", true,
-            "driver_id", targetDriver.getDriverId(),
-            "speed_at_impact", crashMessage.speedMph(),
-            "accident_type", crashMessage.accidentType(),
-            "message", "Crash triggered for " + targetDriver.getDriverId(),
-            "timestamp", java.time.Instant.now().toString()
-        ));
+        return crashResponse(targetDriver.getDriverId(), simulator.triggerCrash(targetDriver));
     }
 
     @PostMapping("/trigger-crash/{driverId}")
-    public ResponseEntity<Map<String, Object>> triggerSpecificCrash(
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> triggerSpecificCrash(
             @org.springframework.web.bind.annotation.PathVariable String driverId) {
         logger.info("🚨 REST API crash trigger requested for specific driver: {}", driverId);
 
@@ -159,60 +167,71 @@ public class ShutdownController {
             .orElse(null);
 
         if (targetDriver == null) {
-            return ResponseEntity.ok(Map.of(
+            return CompletableFuture.completedFuture(ResponseEntity.ok(Map.of(
                 "success", false,
                 "driver_id", driverId,
                 "message", "Driver not found: " + driverId,
                 "timestamp", java.time.Instant.now().toString()
-            ));
+            )));
         }
 
         // Don't crash if already in crash state
         if (targetDriver.getCurrentState().name().contains("CRASH")) {
-            return ResponseEntity.ok(Map.of(
+            return CompletableFuture.completedFuture(ResponseEntity.ok(Map.of(
                 "success", false,
                 "driver_id", driverId,
                 "message", "Driver already in crash state",
                 "timestamp", java.time.Instant.now().toString()
-            ));
+            )));
         }
 
         // Don't crash too soon after the last crash
         if (targetDriver.getTimeSinceCrashSeconds() < 300) {
-            return ResponseEntity.ok(Map.of(
+            return CompletableFuture.completedFuture(ResponseEntity.ok(Map.of(
                 "success", false,
                 "driver_id", driverId,
                 "message", "Driver crashed too recently (5 min cooldown)",
                 "timestamp", java.time.Instant.now().toString()
-            ));
+            )));
         }
 
-        // IMPORTANT: Generate crash event data BEFORE recording the crash
-        // This captures the speed at impact before it's set to 0
-        var crashMessage = dataGenerator.generateCrashEventData(targetDriver);
-
-        // Now record the crash (sets speed to 0 and state to POST_CRASH_IDLE)
-        targetDriver.recordCrashEvent(crashMessage.accidentType());
+        return crashResponse(driverId, simulator.triggerCrash(targetDriver));
+    }
 
-        // Publish the crash event
-        try {
-            publisher.publishTelematicsData(crashMessage, targetDriver);
-            logger.info("🚨 Manual crash event published to RabbitMQ for driver {} at {} mph",
-                driverId, crashMessage.speedMph());
-        } catch (Exception e) {
-            logger.warn("⚠️ Crash event publish failed for {}: {}", driverId, e.getMessage());
-        }
+    /**
+     * Answer once the driver's owning thread has crashed it, see {@link TelematicsSimulator#triggerCrash}.
+     */
+    private CompletableFuture<ResponseEntity<Map<String, Object>>> crashResponse(
+            Object driverId, CompletableFuture<FlatTelematicsMessage> crash) {
+        return crash.handle((crashMessage, error) -> {
+            if (error instanceof TimeoutException) {
+                return ResponseEntity.ok(Map.of(
+                    "success", false,
+                    "driver_id", driverId,
+                    "message", "Crash queued for " + driverId + "; it happens once the simulation advances the driver",
+                    "timestamp", java.time.Instant.now().toString()
+                ));
+            }
+            if (error != null || crashMessage == null) {
+                return ResponseEntity.ok(Map.of(
+                    "success", false,
+                    "driver_id", driverId,
+                    "message", "Failed to trigger crash for " + driverId,
+                    "timestamp", java.time.Instant.now().toString()
+                ));
+            }
 
-        logger.info("🚗💥 REST API crash triggered for driver {} - Speed at impact: {} mph, Type: {}",
-                   driverId, crashMessage.speedMph(), crashMessage.accidentType());
+            logger.info("🚗💥 REST API crash triggered for driver {} - Speed at impact: {} mph, Type: {}",
+                       driverId, crashMessage.speedMph(), crashMessage.accidentType());
 
-        return ResponseEntity.ok(Map.of(
-            "success", true,
-            "driver_id", driverId,
-            "speed_at_impact", crashMessage.speedMph(),
-            "accident_type", crashMessage.accidentType(),
-            "message", "Crash triggered for " + driverId,
-            "timestamp", java.time.Instant.now().toString()
-        ));
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "driver_id", driverId,
+                "speed_at_impact", crashMessage.speedMph(),
+                "accident_type", crashMessage.accidentType(),
+                "message", "Crash triggered for " + driverId,
+                "timestamp", java.time.Instant.now().toString()
+            ));
+        });
     }
-}
\ No newline at end of file
+}
@@ -5,8 +5,7 @@ import com.insurancemegacorp.telematicsgen.model.DriverConfig;
 import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
 import com.insurancemegacorp.telematicsgen.service.DriverConfigService;
 import com.insurancemegacorp.telematicsgen.service.DriverManager;
-import com.insurancemegacorp.telematicsgen.service.TelematicsDataGenerator;
-import com.insurancemegacorp.telematicsgen.service.TelematicsPublisher;
+import com.insurancemegacorp.telematicsgen.service.TelematicsSimulator;
 import com.insurancemegacorp.telematicsgen.service.WebSocketBroadcastService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,6 +14,9 @@ import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
 @Controller
 public class WebSocketController {
 
@@ -22,17 +24,14 @@ public class WebSocketController {
     private final WebSocketBroadcastService broadcastService;
     private final DriverManager driverManager;
     private final DriverConfigService driverConfigService;
-    private final TelematicsDataGenerator dataGenerator;
-    private final TelematicsPublisher publisher;
+    private final TelematicsSimulator simulator;
 
     public WebSocketController(WebSocketBroadcastService broadcastService, DriverManager driverManager,
-                              DriverConfigService driverConfigService,
-                              TelematicsDataGenerator dataGenerator, TelematicsPublisher publisher) {
+                              DriverConfigService driverConfigService, TelematicsSimulator simulator) {
         this.broadcastService = broadcastService;
         this.driverManager = driverManager;
         this.driverConfigService = driverConfigService;
-        this.dataGenerator = dataGenerator;
-        this.publisher = publisher;
+        this.simulator = simulator;
     }
 
     @SubscribeMapping("/topic/drivers")
@@ -66,7 +65,7 @@ public class WebSocketController {
 
     @MessageMapping("/drivers/trigger-accident")
     @SendTo("/topic/drivers/accident")
-    public Object triggerRandomAccident() {
+    public CompletableFuture<Object> triggerRandomAccident() {
         logger.info("🚨 Demo accident trigger requested (random)");
 
         // Get a random active driver (not already in crash state)
@@ -76,56 +75,25 @@ public class WebSocketController {
 
         if (activeDrivers.isEmpty()) {
             logger.warn("⚠️ No active drivers available for accident simulation");
-            return new java.util.HashMap<String, Object>() {{
+            return CompletableFuture.completedFuture(new java.util.HashMap<String, Object>() {{
                 put("success", false);
                 put("message", "No active drivers available");
                 put("timestamp", java.time.Instant.now().toString());
-            }};
+            }});
         }
 
         // Select random driver
         var targetDriver = activeDrivers.get((int) (Math.random() * activeDrivers.size()));
 
-        // Generate crash data BEFORE triggering (to capture speed at impact)
-        FlatTelematicsMessage crashMessage = dataGenerator.generateCrashEventData(targetDriver);
-
-        // Now trigger the accident (sets speed to 0)
-        boolean success = driverManager.triggerDemoAccident(targetDriver.getDriverId());
-
-        // If crash was successfully triggered, publish crash event to RabbitMQ
-        if (success) {
-            try {
-                publisher.publishTelematicsData(crashMessage, targetDriver);
-                logger.info("🚗💥 Demo crash event published for {}", targetDriver.getDriverId());
-            } catch (Exception e) {
-                logger.warn("⚠️ Crash event publish failed for {}: {}", targetDriver.getDriverId(), e.getMessage());
-            }
-        }
-
-        logger.info("🚗💥 Demo accident {} for driver {}",
-                   success ? "triggered" : "failed", targetDriver.getDriverId());
-
-        // Return comprehensive crash details for popup
-        var result = new java.util.HashMap<String, Object>();
-        result.put("success", success);
-        result.put("driver_id", targetDriver.getDriverId());
-        result.put("driver_name", getDriverName(targetDriver));
-        result.put("vehicle", targetDriver.getVin());
-        result.put("accident_type", crashMessage.accidentType());
-        result.put("speed_at_impact", crashMessage.speedMph());
-        result.put("speed_limit", crashMessage.speedLimitMph());
-        result.put("street", crashMessage.currentStreet());
-        result.put("g_force", crashMessage.gForce());
-        result.put("latitude", crashMessage.gpsLatitude());
-        result.put("longitude", crashMessage.gpsLongitude());
-        result.put("message", success ? "Accident triggered for " + targetDriver.getDriverId() : "Failed to trigger accident");
-        result.put("timestamp", java.time.Instant.now().toString());
-        return result;
+        // The driver's owning thread generates, records and publishes the crash on its next visit
+        return simulator.triggerCrash(targetDriver)
+            .handle((crashMessage, error) -> accidentResult(targetDriver, String.valueOf(targetDriver.getDriverId()),
+                crashMessage, error));
     }
 
     @MessageMapping("/drivers/trigger-accident-specific")
     @SendTo("/topic/drivers/accident")
-    public Object triggerSpecificAccident(String driverId) {
+    public CompletableFuture<Object> triggerSpecificAccident(String driverId) {
         logger.info("🚨 Demo accident trigger requested for specific driver: {}", driverId);
 
         int driverIdInt = Integer.parseInt(driverId);
@@ -142,42 +110,41 @@ public class WebSocketController {
             result.put("driver_id", driverIdInt);
             result.put("message", "Driver not found: " + driverId);
             result.put("timestamp", java.time.Instant.now().toString());
-            return result;
+            return CompletableFuture.completedFuture(result);
         }
 
-        // Generate crash data BEFORE triggering (to capture speed at impact)
-        FlatTelematicsMessage crashMessage = dataGenerator.generateCrashEventData(targetDriver);
-
-        // Now trigger the accident (sets speed to 0)
-        boolean success = driverManager.triggerDemoAccident(driverIdInt);
-
-        // If crash was successfully triggered, publish crash event to RabbitMQ
-        if (success) {
-            try {
-                publisher.publishTelematicsData(crashMessage, targetDriver);
-                logger.info("🚨 Manual crash event published to RabbitMQ for driver {}", driverId);
-            } catch (Exception e) {
-                logger.warn("⚠️ Crash event publish failed for {}: {}", driverId, e.getMessage());
-            }
-        }
+        return simulator.triggerCrash(targetDriver)
+            .handle((crashMessage, error) -> accidentResult(targetDriver, driverId, crashMessage, error));
+    }
 
+    /**
+     * Comprehensive crash details for the dashboard popup, once the driver's owner has crashed it
+     * (see {@link TelematicsSimulator#triggerCrash}).
+     */
+    private Object accidentResult(Driver targetDriver, String driverId, FlatTelematicsMessage crashMessage, Throwable error) {
+        boolean success = error == null && crashMessage != null;
         logger.info("🚗💥 Demo accident {} for driver {}",
-                   success ? "triggered" : "failed", driverId);
+                   success ? "triggered" : error instanceof TimeoutException ? "queued" : "failed", driverId);
 
-        // Return comprehensive crash details for popup
         var result = new java.util.HashMap<String, Object>();
         result.put("success", success);
         result.put("driver_id", targetDriver.getDriverId());
         result.put("driver_name", getDriverName(targetDriver));
         result.put("vehicle", targetDriver.getVin());
-        result.put("accident_type", crashMessage.accidentType());
-        result.put("speed_at_impact", crashMessage.speedMph());
-        result.put("speed_limit", crashMessage.speedLimitMph());
-        result.put("street", crashMessage.currentStreet());
-        result.put("g_force", crashMessage.gForce());
-        result.put("latitude", crashMessage.gpsLatitude());
-        result.put("longitude", crashMessage.gpsLongitude());
-        result.put("message", success ? "Accident triggered for " + targetDriver.getDriverId() : "Failed to trigger accident for " + driverId);
+        if (success) {
+            result.put("accident_type", crashMessage.accidentType());
+            result.put("speed_at_impact", crashMessage.speedMph());
+            result.put("speed_limit", crashMessage.speedLimitMph());
+            result.put("street", crashMessage.currentStreet());
+            result.put("g_force", crashMessage.gForce());
+            result.put("latitude", crashMessage.gpsLatitude());
+            result.put("longitude", crashMessage.gpsLongitude());
+            result.put("message", "Accident triggered for " + driverId);
+        } else if (error instanceof TimeoutException) {
+            result.put("message", "Accident queued for " + driverId + "; it happens once the simulation advances the driver");
+        } else {
+            result.put("message", "Failed to trigger accident for " + driverId);
+        }
         result.put("timestamp", java.time.Instant.now().toString());
         return result;
     }
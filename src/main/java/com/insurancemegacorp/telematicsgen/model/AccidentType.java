@@ -86,32 +86,32 @@ public enum AccidentType {
         double gyroZMin, double gyroZMax
     ) {
         /** Generate accelerometer X value within this profile's range */
-        public double generateAccelX(java.util.Random random) {
+        public double generateAccelX(java.util.random.RandomGenerator random) {
             return accelXMin + random.nextDouble() * (accelXMax - accelXMin);
         }
 
         /** Generate accelerometer Y value within this profile's range */
-        public double generateAccelY(java.util.Random random) {
+        public double generateAccelY(java.util.random.RandomGenerator random) {
             return accelYMin + random.nextDouble() * (accelYMax - accelYMin);
         }
 
         /** Generate accelerometer Z value within this profile's range */
-        public double generateAccelZ(java.util.Random random) {
+        public double generateAccelZ(java.util.random.RandomGenerator random) {
             return accelZMin + random.nextDouble() * (accelZMax - accelZMin);
         }
 
         /** Generate gyroscope X (pitch) value within this profile's range */
-        public double generateGyroX(java.util.Random random) {
+        public double generateGyroX(java.util.random.RandomGenerator random) {
             return gyroXMin + random.nextDouble() * (gyroXMax - gyroXMin);
         }
 
         /** Generate gyroscope Y (roll) value within this profile's range */
-        public double generateGyroY(java.util.Random random) {
+        public double generateGyroY(java.util.random.RandomGenerator random) {
             return gyroYMin + random.nextDouble() * (gyroYMax - gyroYMin);
         }
 
         /** Generate gyroscope Z (yaw) value within this profile's range */
-        public double generateGyroZ(java.util.Random random) {
+        public double generateGyroZ(java.util.random.RandomGenerator random) {
             return gyroZMin + random.nextDouble() * (gyroZMax - gyroZMin);
         }
     }
@@ -0,0 +1,276 @@
+package com.insurancemegacorp.telematicsgen.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Many reports in one message, laid out column by column: all {@code speed_mph} values together,
+ * then all {@code gps_latitude} values, and so on, so consumers decode each reading with one
+ * tight loop over a primitive array and the message compresses far better than row JSON.
+ * <p>
+ * Event times are delta-encoded: {@code base_event_time} is the first reading's time and
+ * {@code event_time_delta_ms[k]} the milliseconds since reading {@code k - 1} (0 for the first;
+ * negative for late, store-and-forward data). Drivers are dictionary-encoded: {@code drivers}
+ * holds each distinct driver's ids and VIN once, and {@code driver_index[k]} points into it.
+ * Street, accident type and orientation point into one shared {@code strings} dictionary, with
+ * -1 for null. All other fields keep their report names and units.
+ * <p>
+ * Columns are preallocated, so filling and serializing a batch creates no per-reading objects
+ * beyond new dictionary entries. Reusable and not thread-safe.
+ */
+@JsonSerialize(using = ColumnarTelematicsBatch.Serializer.class)
+public class ColumnarTelematicsBatch {
+
+    public static final String MESSAGE_TYPE = "telematics_batch";
+
+    // Double columns in report order
+    private static final String[] DOUBLE_COLUMNS = {
+        "speed_mph", "g_force", "gps_latitude", "gps_longitude", "gps_altitude", "gps_speed",
+        "gps_bearing", "gps_accuracy", "accelerometer_x", "accelerometer_y", "accelerometer_z",
+        "gyroscope_x", "gyroscope_y", "gyroscope_z", "magnetometer_x", "magnetometer_y",
+        "magnetometer_z", "magnetometer_heading", "barometric_pressure"};
+    private static final String[] INT_COLUMNS = {
+        "speed_limit_mph", "gps_satellite_count", "device_battery_level", "device_signal_strength"};
+    private static final String[] STRING_COLUMNS = {"current_street", "accident_type", "device_orientation"};
+    private static final String[] BOOLEAN_COLUMNS = {"device_screen_on", "device_charging"};
+
+    private final double[][] doubles;
+    private final int[][] ints;
+    private final int[][] stringIndexes;
+    private final boolean[][] booleans;
+    private final long[] gpsFixTime;
+    private final int[] eventTimeDelta;
+    private final int[] driverIndex;
+    private long baseEventMillis;
+    private long lastEventMillis;
+    private int size;
+
+    // Driver dictionary, with an open-addressing table from driver id to entry + 1
+    private final int[] driverTable;
+    private final int[] driverIds;
+    private final int[] policyIds;
+    private final int[] vehicleIds;
+    private final String[] vins;
+    private int driverCount;
+
+    private final Map<String, Integer> stringIndex = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    public ColumnarTelematicsBatch(int capacity) {
+        this.doubles = new double[DOUBLE_COLUMNS.length][capacity];
+        this.ints = new int[INT_COLUMNS.length][capacity];
+        this.stringIndexes = new int[STRING_COLUMNS.length][capacity];
+        this.booleans = new boolean[BOOLEAN_COLUMNS.length][capacity];
+        this.gpsFixTime = new long[capacity];
+        this.eventTimeDelta = new int[capacity];
+        this.driverIndex = new int[capacity];
+        this.driverTable = new int[Integer.highestOneBit(Math.max(1, capacity)) << 2];
+        this.driverIds = new int[capacity];
+        this.policyIds = new int[capacity];
+        this.vehicleIds = new int[capacity];
+        this.vins = new String[capacity];
+    }
+
+    /**
+     * Append a report; returns false, leaving the batch unchanged, when it is full or the
+     * report's time is too far from the previous one for an {@code int} delta.
+     */
+    public boolean add(FlatTelematicsMessage m) {
+        long eventMillis = m.eventTime().toEpochMilli();
+        long delta = size == 0 ? 0 : eventMillis - lastEventMillis;
+        if (size == capacity() || delta != (int) delta) {
+            return false;
+        }
+        int i = size++;
+        if (i == 0) {
+            baseEventMillis = eventMillis;
+        }
+        lastEventMillis = eventMillis;
+        eventTimeDelta[i] = (int) delta;
+        driverIndex[i] = driverEntry(m);
+
+        double[][] d = doubles;
+        d[0][i] = m.speedMph();
+        d[1][i] = m.gForce();
+        d[2][i] = m.gpsLatitude();
+        d[3][i] = m.gpsLongitude();
+        d[4][i] = m.gpsAltitude();
+        d[5][i] = m.gpsSpeed();
+        d[6][i] = m.gpsBearing();
+        d[7][i] = m.gpsAccuracy();
+        d[8][i] = m.accelerometerX();
+        d[9][i] = m.accelerometerY();
+        d[10][i] = m.accelerometerZ();
+        d[11][i] = m.gyroscopeX();
+        d[12][i] = m.gyroscopeY();
+        d[13][i] = m.gyroscopeZ();
+        d[14][i] = m.magnetometerX();
+        d[15][i] = m.magnetometerY();
+        d[16][i] = m.magnetometerZ();
+        d[17][i] = m.magnetometerHeading();
+        d[18][i] = m.barometricPressure();
+        ints[0][i] = m.speedLimitMph();
+        ints[1][i] = m.gpsSatelliteCount();
+        ints[2][i] = m.deviceBatteryLevel();
+        ints[3][i] = m.deviceSignalStrength();
+        stringIndexes[0][i] = stringEntry(m.currentStreet());
+        stringIndexes[1][i] = stringEntry(m.accidentType());
+        stringIndexes[2][i] = stringEntry(m.deviceOrientation());
+        booleans[0][i] = m.deviceScreenOn();
+        booleans[1][i] = m.deviceCharging();
+        gpsFixTime[i] = m.gpsFixTime();
+        return true;
+    }
+
+    /**
+     * Empty the batch and its dictionaries for reuse.
+     */
+    public void clear() {
+        size = 0;
+        Arrays.fill(driverTable, 0);
+        Arrays.fill(vins, 0, driverCount, null);
+        driverCount = 0;
+        stringIndex.clear();
+        strings.clear();
+    }
+
+    private int driverEntry(FlatTelematicsMessage m) {
+        int mask = driverTable.length - 1;
+        int hash = m.driverId() * 0x9E3779B9;
+        int bucket = (hash ^ hash >>> 16) & mask;
+        while (driverTable[bucket] != 0) {
+            int entry = driverTable[bucket] - 1;
+            if (driverIds[entry] == m.driverId()) {
+                return entry;
+            }
+            bucket = (bucket + 1) & mask;
+        }
+        int entry = driverCount++;
+        driverIds[entry] = m.driverId();
+        policyIds[entry] = m.policyId();
+        vehicleIds[entry] = m.vehicleId();
+        vins[entry] = m.vin();
+        driverTable[bucket] = entry + 1;
+        return entry;
+    }
+
+    private int stringEntry(String value) {
+        if (value == null) {
+            return -1;
+        }
+        Integer entry = stringIndex.get(value);
+        if (entry == null) {
+            entry = strings.size();
+            strings.add(value);
+            stringIndex.put(value, entry);
+        }
+        return entry;
+    }
+
+    public int capacity() {
+        return driverIndex.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int driverCount() {
+        return driverCount;
+    }
+
+    public long eventTimeMillis(int index) {
+        long millis = baseEventMillis;
+        for (int k = 1; k <= index; k++) {
+            millis += eventTimeDelta[k];
+        }
+        return millis;
+    }
+
+    /**
+     * Reading {@code index} as a report again, the way a consumer decodes it.
+     */
+    public FlatTelematicsMessage get(int index) {
+        double[][] d = doubles;
+        int driver = driverIndex[index];
+        return new FlatTelematicsMessage(policyIds[driver], vehicleIds[driver], vins[driver],
+            Instant.ofEpochMilli(eventTimeMillis(index)), d[0][index], ints[0][index], d[1][index], driverIds[driver],
+            string(stringIndexes[0][index]), string(stringIndexes[1][index]),
+            d[2][index], d[3][index], d[4][index], d[5][index], d[6][index], d[7][index],
+            ints[1][index], gpsFixTime[index],
+            d[8][index], d[9][index], d[10][index], d[11][index], d[12][index], d[13][index],
+            d[14][index], d[15][index], d[16][index], d[17][index], d[18][index],
+            ints[2][index], ints[3][index], string(stringIndexes[2][index]),
+            booleans[0][index], booleans[1][index]);
+    }
+
+    private String string(int entry) {
+        return entry < 0 ? null : strings.get(entry);
+    }
+
+    /**
+     * Writes the dictionaries and the first {@link #size()} entries of each column.
+     */
+    public static class Serializer extends StdSerializer<ColumnarTelematicsBatch> {
+        public Serializer() {
+            super(ColumnarTelematicsBatch.class);
+        }
+
+        @Override
+        public void serialize(ColumnarTelematicsBatch batch, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            int size = batch.size;
+            gen.writeStartObject();
+            gen.writeStringField("message_type", MESSAGE_TYPE);
+            gen.writeNumberField("reading_count", size);
+            provider.defaultSerializeField("base_event_time", Instant.ofEpochMilli(batch.baseEventMillis), gen);
+            writeColumn("event_time_delta_ms", batch.eventTimeDelta, size, gen);
+
+            gen.writeObjectFieldStart("drivers");
+            writeColumn("driver_id", batch.driverIds, batch.driverCount, gen);
+            writeColumn("policy_id", batch.policyIds, batch.driverCount, gen);
+            writeColumn("vehicle_id", batch.vehicleIds, batch.driverCount, gen);
+            gen.writeFieldName("vin");
+            gen.writeArray(batch.vins, 0, batch.driverCount);
+            gen.writeEndObject();
+            writeColumn("driver_index", batch.driverIndex, size, gen);
+
+            gen.writeFieldName("strings");
+            gen.writeArray(batch.strings.toArray(new String[0]), 0, batch.strings.size());
+            for (int c = 0; c < STRING_COLUMNS.length; c++) {
+                writeColumn(STRING_COLUMNS[c], batch.stringIndexes[c], size, gen);
+            }
+            for (int c = 0; c < INT_COLUMNS.length; c++) {
+                writeColumn(INT_COLUMNS[c], batch.ints[c], size, gen);
+            }
+            gen.writeFieldName("gps_fix_time");
+            gen.writeArray(batch.gpsFixTime, 0, size);
+            for (int c = 0; c < DOUBLE_COLUMNS.length; c++) {
+                gen.writeFieldName(DOUBLE_COLUMNS[c]);
+                gen.writeArray(batch.doubles[c], 0, size);
+            }
+            for (int c = 0; c < BOOLEAN_COLUMNS.length; c++) {
+                gen.writeArrayFieldStart(BOOLEAN_COLUMNS[c]);
+                for (int i = 0; i < size; i++) {
+                    gen.writeBoolean(batch.booleans[c][i]);
+                }
+                gen.writeEndArray();
+            }
+            gen.writeEndObject();
+        }
+
+        private static void writeColumn(String name, int[] column, int size, JsonGenerator gen) throws IOException {
+            gen.writeFieldName(name);
+            gen.writeArray(column, 0, size);
+        }
+    }
+}
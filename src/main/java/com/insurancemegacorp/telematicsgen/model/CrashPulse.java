@@ -0,0 +1,170 @@
+package com.insurancemegacorp.telematicsgen.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * High-rate accelerometer and gyroscope burst recorded around a crash, the way real crash
+ * detectors upload the seconds around an impact alongside the crash report.
+ * <p>
+ * Samples are kept in six preallocated {@code int} columns of ten-thousandths, so a buffer is
+ * filled and serialized without any per-sample objects. The JSON carries the columns as integer
+ * arrays next to {@code sensor_scale}; sample {@code k} was taken {@code start_offset_ms + k *
+ * 1000 / sample_rate_hz} milliseconds after {@code impact_time}. Reusable and not thread-safe.
+ */
+@JsonSerialize(using = CrashPulse.Serializer.class)
+public class CrashPulse {
+
+    public static final String MESSAGE_TYPE = "crash_pulse";
+    public static final int SENSOR_SCALE = 10_000;
+
+    private int policyId;
+    private int vehicleId;
+    private String vin;
+    private int driverId;
+    private String accidentType;
+    private long impactMillis;
+    private int sampleRateHz;
+    private int startOffsetMs;
+    private int size;
+
+    // Sample columns, ten-thousandths
+    private final int[] accelerometerX;
+    private final int[] accelerometerY;
+    private final int[] accelerometerZ;
+    private final int[] gyroscopeX;
+    private final int[] gyroscopeY;
+    private final int[] gyroscopeZ;
+
+    public CrashPulse(int capacity) {
+        this.accelerometerX = new int[capacity];
+        this.accelerometerY = new int[capacity];
+        this.accelerometerZ = new int[capacity];
+        this.gyroscopeX = new int[capacity];
+        this.gyroscopeY = new int[capacity];
+        this.gyroscopeZ = new int[capacity];
+    }
+
+    /**
+     * Start a new burst of {@code size} samples, discarding the previous one.
+     */
+    public CrashPulse start(int policyId, int vehicleId, String vin, int driverId, String accidentType,
+                            long impactMillis, int sampleRateHz, int startOffsetMs, int size) {
+        if (size > capacity()) {
+            throw new IllegalArgumentException("Burst of " + size + " samples exceeds pulse capacity " + capacity());
+        }
+        this.policyId = policyId;
+        this.vehicleId = vehicleId;
+        this.vin = vin;
+        this.driverId = driverId;
+        this.accidentType = accidentType;
+        this.impactMillis = impactMillis;
+        this.sampleRateHz = sampleRateHz;
+        this.startOffsetMs = startOffsetMs;
+        this.size = size;
+        return this;
+    }
+
+    public void setSample(int index, int accelX, int accelY, int accelZ, int gyroX, int gyroY, int gyroZ) {
+        accelerometerX[index] = accelX;
+        accelerometerY[index] = accelY;
+        accelerometerZ[index] = accelZ;
+        gyroscopeX[index] = gyroX;
+        gyroscopeY[index] = gyroY;
+        gyroscopeZ[index] = gyroZ;
+    }
+
+    public int capacity() {
+        return accelerometerX.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int driverId() {
+        return driverId;
+    }
+
+    public String accidentType() {
+        return accidentType;
+    }
+
+    public long impactMillis() {
+        return impactMillis;
+    }
+
+    public int sampleRateHz() {
+        return sampleRateHz;
+    }
+
+    public int startOffsetMs() {
+        return startOffsetMs;
+    }
+
+    public int accelerometerX(int index) {
+        return accelerometerX[index];
+    }
+
+    public int accelerometerY(int index) {
+        return accelerometerY[index];
+    }
+
+    public int accelerometerZ(int index) {
+        return accelerometerZ[index];
+    }
+
+    public int gyroscopeX(int index) {
+        return gyroscopeX[index];
+    }
+
+    public int gyroscopeY(int index) {
+        return gyroscopeY[index];
+    }
+
+    public int gyroscopeZ(int index) {
+        return gyroscopeZ[index];
+    }
+
+    /**
+     * Writes the header fields and the first {@link #size()} entries of each column.
+     */
+    public static class Serializer extends StdSerializer<CrashPulse> {
+        public Serializer() {
+            super(CrashPulse.class);
+        }
+
+        @Override
+        public void serialize(CrashPulse pulse, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            gen.writeStringField("message_type", MESSAGE_TYPE);
+            gen.writeNumberField("policy_id", pulse.policyId);
+            gen.writeNumberField("vehicle_id", pulse.vehicleId);
+            gen.writeStringField("vin", pulse.vin);
+            gen.writeNumberField("driver_id", pulse.driverId);
+            gen.writeStringField("accident_type", pulse.accidentType);
+            provider.defaultSerializeField("impact_time", Instant.ofEpochMilli(pulse.impactMillis), gen);
+            gen.writeNumberField("sample_rate_hz", pulse.sampleRateHz);
+            gen.writeNumberField("start_offset_ms", pulse.startOffsetMs);
+            gen.writeNumberField("sample_count", pulse.size);
+            gen.writeNumberField("sensor_scale", SENSOR_SCALE);
+            writeColumn("accelerometer_x", pulse.accelerometerX, pulse.size, gen);
+            writeColumn("accelerometer_y", pulse.accelerometerY, pulse.size, gen);
+            writeColumn("accelerometer_z", pulse.accelerometerZ, pulse.size, gen);
+            writeColumn("gyroscope_x", pulse.gyroscopeX, pulse.size, gen);
+            writeColumn("gyroscope_y", pulse.gyroscopeY, pulse.size, gen);
+            writeColumn("gyroscope_z", pulse.gyroscopeZ, pulse.size, gen);
+            gen.writeEndObject();
+        }
+
+        private static void writeColumn(String name, int[] column, int size, JsonGenerator gen) throws IOException {
+            gen.writeFieldName(name);
+            gen.writeArray(column, 0, size);
+        }
+    }
+}
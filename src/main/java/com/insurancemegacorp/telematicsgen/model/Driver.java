@@ -2,175 +2,172 @@ package com.insurancemegacorp.telematicsgen.model;
 
 import java.time.Instant;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
-
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * A single simulated driver. The state itself lives in a {@link FleetState} slot; a driver
+ * is only a view over that slot, so large fleets do not pay for one object graph per vehicle.
+ * Drivers created with the public constructors get a private single-slot store.
+ */
 public class Driver {
-    private final int driverId;
-    private final int policyId;
-    private final int vehicleId;
-    private final String vin;
-    private final double baseLatitude;
-    private final double baseLongitude;
-    private final boolean aggressive;
-    private final AtomicLong messageCount;
-    
-    private volatile DriverState currentState;
-    private volatile Instant stateChangeTime;
-    private volatile Instant lastCrashTime;
-    private volatile double currentLatitude;
-    private volatile double currentLongitude;
-    private volatile double currentSpeed;
-    private int speedLimit;
-    
-    // Route-based movement
-    private volatile List<RoutePoint> currentRoute;
-    private volatile int routeIndex;
-    private volatile double currentBearing;
-    private volatile String currentStreet;
-    
-    // Destination-based routing
-    private volatile Destination currentDestination;
-    private volatile double tripProgressPercent;
-    private volatile Instant tripStartTime;
-
-    // Crash event snapshot data (frozen during POST_CRASH_IDLE)
-    private volatile Double crashSpeedAtImpact;
-    private volatile String crashAccidentType;
+    private final FleetState fleet;
+    private final int slot;
 
     public Driver(int driverId, int policyId, int vehicleId, String vin, double baseLatitude, double baseLongitude) {
         this(driverId, policyId, vehicleId, vin, baseLatitude, baseLongitude, false);
     }
 
     public Driver(int driverId, int policyId, int vehicleId, String vin, double baseLatitude, double baseLongitude, boolean aggressive) {
-        this.driverId = driverId;
-        this.policyId = policyId;
-        this.vehicleId = vehicleId;
-        this.vin = vin;
-        this.baseLatitude = baseLatitude;
-        this.baseLongitude = baseLongitude;
-        this.aggressive = aggressive;
-        this.currentLatitude = baseLatitude;
-        this.currentLongitude = baseLongitude;
-        this.messageCount = new AtomicLong(0);
-        this.currentState = DriverState.PARKED;
-        this.stateChangeTime = Instant.now();
-        this.currentSpeed = 0.0;
-        this.speedLimit = 0;
-        this.routeIndex = 0;
-        this.currentBearing = 0.0;
-        this.currentStreet = "Unknown";
+        Driver view = new FleetState(1).add(driverId, policyId, vehicleId, vin, baseLatitude, baseLongitude, aggressive);
+        this.fleet = view.fleet;
+        this.slot = view.slot;
+    }
+
+    Driver(FleetState fleet, int slot) {
+        this.fleet = fleet;
+        this.slot = slot;
+    }
+
+    public FleetState getFleetState() {
+        return fleet;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * This driver's own random stream; draw from it only on the thread advancing the driver.
+     */
+    public SplittableRandom getRandom() {
+        return fleet.random(slot);
+    }
+
+    /**
+     * Hand a change to the thread that owns this driver; see {@link FleetState#post}.
+     */
+    public void post(Consumer<Driver> command) {
+        fleet.post(slot, command);
+    }
+
+    /**
+     * Run the changes posted for this driver; only its owning thread may call this.
+     */
+    public void runPosted() {
+        fleet.runPosted(slot);
     }
 
     public int getDriverId() {
-        return driverId;
+        return fleet.driverId(slot);
     }
 
     public int getPolicyId() {
-        return policyId;
+        return fleet.policyId(slot);
     }
 
     public int getVehicleId() {
-        return vehicleId;
+        return fleet.vehicleId(slot);
     }
 
     public String getVin() {
-        return vin;
+        return fleet.vin(slot);
     }
 
     public double getBaseLatitude() {
-        return baseLatitude;
+        return fleet.baseLatitude(slot);
     }
 
     public double getBaseLongitude() {
-        return baseLongitude;
+        return fleet.baseLongitude(slot);
     }
 
     public boolean isAggressive() {
-        return aggressive;
+        return fleet.aggressive(slot);
     }
 
     public double getCurrentLatitude() {
-        return currentLatitude;
+        return fleet.latitude(slot);
     }
 
     public void setCurrentLatitude(double currentLatitude) {
-        this.currentLatitude = currentLatitude;
+        fleet.setLatitude(slot, currentLatitude);
     }
 
     public double getCurrentLongitude() {
-        return currentLongitude;
+        return fleet.longitude(slot);
     }
 
     public void setCurrentLongitude(double currentLongitude) {
-        this.currentLongitude = currentLongitude;
+        fleet.setLongitude(slot, currentLongitude);
     }
 
     public double getCurrentSpeed() {
-        return currentSpeed;
+        return fleet.speed(slot);
     }
 
     public void setCurrentSpeed(double currentSpeed) {
-        this.currentSpeed = currentSpeed;
+        fleet.setSpeed(slot, currentSpeed);
     }
 
     public DriverState getCurrentState() {
-        return currentState;
+        return fleet.state(slot);
     }
 
     public void setCurrentState(DriverState newState) {
-        if (this.currentState != newState) {
-            this.currentState = newState;
-            this.stateChangeTime = Instant.now();
-        }
+        fleet.setState(slot, newState);
     }
 
     public Instant getStateChangeTime() {
-        return stateChangeTime;
+        return Instant.ofEpochMilli(fleet.stateChangeMillis(slot));
     }
 
     public Instant getLastCrashTime() {
-        return lastCrashTime;
+        long crashMillis = fleet.lastCrashMillis(slot);
+        return crashMillis == FleetState.NO_TIME ? null : Instant.ofEpochMilli(crashMillis);
     }
 
     public void recordCrashEvent() {
         // Capture speed at impact before setting to zero
-        this.crashSpeedAtImpact = this.currentSpeed;
-        this.lastCrashTime = Instant.now();
+        fleet.setCrashSpeed(slot, fleet.speed(slot));
+        fleet.setLastCrashMillis(slot, fleet.currentTimeMillis());
         setCurrentState(DriverState.POST_CRASH_IDLE);
         setCurrentSpeed(0.0);
     }
 
     public void recordCrashEvent(String accidentType) {
         // Capture speed at impact and accident type before setting to zero
-        this.crashSpeedAtImpact = this.currentSpeed;
-        this.crashAccidentType = accidentType;
-        this.lastCrashTime = Instant.now();
+        fleet.setCrashSpeed(slot, fleet.speed(slot));
+        fleet.setCrashAccidentType(slot, accidentType);
+        fleet.setLastCrashMillis(slot, fleet.currentTimeMillis());
         setCurrentState(DriverState.POST_CRASH_IDLE);
         setCurrentSpeed(0.0);
     }
 
     public Double getCrashSpeedAtImpact() {
-        return crashSpeedAtImpact;
+        double crashSpeed = fleet.crashSpeed(slot);
+        return Double.isNaN(crashSpeed) ? null : crashSpeed;
     }
 
     public String getCrashAccidentType() {
-        return crashAccidentType;
+        return fleet.crashAccidentType(slot);
     }
 
     public void clearCrashData() {
-        this.crashSpeedAtImpact = null;
-        this.crashAccidentType = null;
+        fleet.setCrashSpeed(slot, Double.NaN);
+        fleet.setCrashAccidentType(slot, null);
     }
 
     public long getMessageCount() {
-        return messageCount.get();
+        return fleet.messageCount(slot);
     }
 
     public long incrementMessageCount() {
-        return messageCount.incrementAndGet();
+        return fleet.incrementMessageCount(slot);
     }
 
     public boolean isStationary() {
+        DriverState currentState = fleet.state(slot);
         return currentState == DriverState.PARKED || 
                currentState == DriverState.POST_CRASH_IDLE || 
                currentState == DriverState.TRAFFIC_STOP ||
@@ -178,89 +175,129 @@ public class Driver {
     }
 
     public long getTimeInCurrentStateSeconds() {
-        return java.time.Duration.between(stateChangeTime, Instant.now()).getSeconds();
+        return Math.floorDiv(fleet.currentTimeMillis() - fleet.stateChangeMillis(slot), 1000);
     }
 
     public long getTimeSinceCrashSeconds() {
-        if (lastCrashTime == null) {
+        long crashMillis = fleet.lastCrashMillis(slot);
+        if (crashMillis == FleetState.NO_TIME) {
             return Long.MAX_VALUE;
         }
-        return java.time.Duration.between(lastCrashTime, Instant.now()).getSeconds();
+        return Math.floorDiv(fleet.currentTimeMillis() - crashMillis, 1000);
     }
 
     // Route-based movement getters and setters
     public List<RoutePoint> getCurrentRoute() {
-        return currentRoute;
+        return fleet.route(slot);
     }
 
     public void setCurrentRoute(List<RoutePoint> currentRoute) {
-        this.currentRoute = currentRoute;
-        this.routeIndex = 0; // Reset to beginning of route
+        fleet.setRoute(slot, currentRoute);
+        fleet.setRouteIndex(slot, 0); // Reset to beginning of route
     }
 
     public int getRouteIndex() {
-        return routeIndex;
+        return fleet.routeIndex(slot);
     }
 
     public void setRouteIndex(int routeIndex) {
-        this.routeIndex = routeIndex;
+        fleet.setRouteIndex(slot, routeIndex);
+    }
+
+    /**
+     * Derive acceleration and yaw rate from the motion since the previous report; see
+     * {@link FleetState#sampleMotion}.
+     */
+    public void sampleMotion() {
+        fleet.sampleMotion(slot);
+    }
+
+    /** Brake (negative) or accelerate at {@code g}; see {@link FleetState#harshManeuver}. */
+    public void harshManeuver(double g) {
+        fleet.harshManeuver(slot, g);
+    }
+
+    public double getLongitudinalAccel() {
+        return fleet.longitudinalAccel(slot);
+    }
+
+    public double getYawRate() {
+        return fleet.yawRate(slot);
+    }
+
+    public double getLateralAccel() {
+        return fleet.lateralAccel(slot);
+    }
+
+    /**
+     * Whether the device is in a simulated network coverage gap, see
+     * {@link #loseCoverageUntil(long)}.
+     */
+    public boolean isOutOfCoverage() {
+        return fleet.currentTimeMillis() < fleet.noCoverageUntilMillis(slot);
+    }
+
+    public void loseCoverageUntil(long untilMillis) {
+        fleet.setNoCoverageUntilMillis(slot, untilMillis);
     }
 
     public double getCurrentBearing() {
-        return currentBearing;
+        return fleet.bearing(slot);
     }
 
     public void setCurrentBearing(double currentBearing) {
-        this.currentBearing = currentBearing;
+        fleet.setBearing(slot, currentBearing);
     }
 
     public String getCurrentStreet() {
-        return currentStreet;
+        return fleet.street(slot);
     }
 
     public void setCurrentStreet(String currentStreet) {
-        this.currentStreet = currentStreet;
+        fleet.setStreet(slot, currentStreet);
     }
     
     // Destination-based routing getters and setters
     public Destination getCurrentDestination() {
-        return currentDestination;
+        return fleet.destination(slot);
     }
     
     public void setCurrentDestination(Destination currentDestination) {
-        this.currentDestination = currentDestination;
-        this.tripProgressPercent = 0.0;
-        this.tripStartTime = Instant.now();
+        fleet.setDestination(slot, currentDestination);
+        fleet.setTripProgress(slot, 0.0);
+        fleet.setTripStartMillis(slot, fleet.currentTimeMillis());
     }
     
     public double getTripProgressPercent() {
-        return tripProgressPercent;
+        return fleet.tripProgress(slot);
     }
     
     public void setTripProgressPercent(double tripProgressPercent) {
-        this.tripProgressPercent = tripProgressPercent;
+        fleet.setTripProgress(slot, tripProgressPercent);
     }
     
     public Instant getTripStartTime() {
-        return tripStartTime;
+        long tripStartMillis = fleet.tripStartMillis(slot);
+        return tripStartMillis == FleetState.NO_TIME ? null : Instant.ofEpochMilli(tripStartMillis);
     }
     
     public long getTripDurationSeconds() {
-        if (tripStartTime == null) {
+        long tripStartMillis = fleet.tripStartMillis(slot);
+        if (tripStartMillis == FleetState.NO_TIME) {
             return 0;
         }
-        return java.time.Duration.between(tripStartTime, Instant.now()).getSeconds();
+        return Math.floorDiv(fleet.currentTimeMillis() - tripStartMillis, 1000);
     }
     
     public boolean hasReachedDestination() {
-        return tripProgressPercent >= 100.0;
+        return fleet.tripProgress(slot) >= 100.0;
     }
 
     public int getSpeedLimit() {
-        return speedLimit;
+        return fleet.speedLimit(slot);
     }
 
     public void setSpeedLimit(int speedLimit) {
-        this.speedLimit = speedLimit;
+        fleet.setSpeedLimit(slot, speedLimit);
     }
 }
\ No newline at end of file
@@ -0,0 +1,619 @@
+package com.insurancemegacorp.telematicsgen.model;
+
+import com.insurancemegacorp.telematicsgen.util.RandomStreams;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Struct-of-arrays store for the state of a whole fleet.
+ * <p>
+ * Every driver occupies one slot, and each attribute lives in its own primitive array indexed
+ * by slot, so a million drivers cost a few dozen flat arrays instead of a million objects with
+ * boxed and {@link java.time.Instant} fields. Engines walk contiguous slot ranges, which keeps
+ * the hot fields (position, speed, state) streaming through the cache. {@link Driver} is a thin
+ * view over one slot for the existing APIs.
+ * <p>
+ * A slot is written only by the thread that owns the driver under the active engine; other threads
+ * (dashboard, REST) read without synchronization and may observe slightly stale values. A thread
+ * that needs to change a slot it does not own {@link #post posts} the change to the slot's mailbox,
+ * and the owner runs it on its next visit.
+ * Times are epoch milliseconds on the fleet's {@link Clock}, which may be simulated; {@link #NO_TIME}
+ * marks an unset time and NaN an unset crash speed. Each slot also owns a random stream derived
+ * from the fleet's seed and the driver id, see {@link RandomStreams}.
+ */
+public class FleetState {
+
+    public static final long NO_TIME = Long.MIN_VALUE;
+
+    // Limits of a car, since the simulation changes speed and heading in whole ticks
+    private static final double GRAVITY = 9.80665;
+    private static final double MAX_ACCELERATION_G = 0.5;
+    private static final double MAX_BRAKING_G = 1.0;
+    private static final double MAX_LATERAL_G = 0.8;
+    private static final double MAX_YAW_RATE = 1.0; // rad/s
+    private static final double MAX_HARSH_G = 1.4;
+
+    private static final DriverState[] STATES = DriverState.values();
+    private static final VarHandle MAILBOX = MethodHandles.arrayElementVarHandle(Mail[].class);
+
+    // Change posted for a slot by another thread, linked newest first
+    private record Mail(Consumer<Driver> command, Mail next) {}
+
+    /**
+     * Notified whenever a driver enters a new state, on the thread that changed it.
+     */
+    @FunctionalInterface
+    public interface StateListener {
+        void onStateEntered(int slot, DriverState state, long changedAtMillis);
+    }
+
+    private final long seed;
+    private int size;
+    private volatile StateListener stateListener;
+    private volatile Clock clock = Clock.systemUTC();
+
+    // Identity, fixed after allocation
+    private int[] driverId;
+    private int[] policyId;
+    private int[] vehicleId;
+    private String[] vin;
+    private double[] baseLatitude;
+    private double[] baseLongitude;
+    private boolean[] aggressive;
+
+    // Hot simulation state
+    private byte[] state;
+    private long[] stateChangeMillis;
+    private double[] latitude;
+    private double[] longitude;
+    private double[] speed;
+    private double[] bearing;
+    private int[] speedLimit;
+    private int[] routeIndex;
+    private long[] messageCount;
+
+    // Motion at the previous report and what was derived from it
+    private long[] motionMillis;
+    private double[] motionSpeed;
+    private double[] motionBearing;
+    private double[] longitudinalAccel;
+    private double[] yawRate;
+    private double[] maneuverG;
+
+    // Last report that was actually sent, for the emission policies
+    private long[] emittedMillis;
+    private byte[] emittedState;
+    private double[] emittedLatitude;
+    private double[] emittedLongitude;
+    private double[] emittedSpeed;
+
+    // End of the device's current loss of network coverage
+    private long[] noCoverageUntilMillis;
+
+    // Cold state; reference arrays share the route's List and street String instances
+    private List<?>[] route;
+    private String[] street;
+    private Destination[] destination;
+    private double[] tripProgress;
+    private long[] tripStartMillis;
+    private long[] lastCrashMillis;
+    private double[] crashSpeed;
+    private String[] crashAccidentType;
+    private SplittableRandom[] random;
+    private Mail[] mailbox;
+
+    public FleetState(int capacity) {
+        this(capacity, RandomStreams.randomSeed());
+    }
+
+    public FleetState(int capacity, long seed) {
+        this.seed = seed;
+        int initial = Math.max(1, capacity);
+        driverId = new int[initial];
+        policyId = new int[initial];
+        vehicleId = new int[initial];
+        vin = new String[initial];
+        baseLatitude = new double[initial];
+        baseLongitude = new double[initial];
+        aggressive = new boolean[initial];
+        state = new byte[initial];
+        stateChangeMillis = new long[initial];
+        latitude = new double[initial];
+        longitude = new double[initial];
+        speed = new double[initial];
+        bearing = new double[initial];
+        speedLimit = new int[initial];
+        routeIndex = new int[initial];
+        messageCount = new long[initial];
+        motionMillis = new long[initial];
+        motionSpeed = new double[initial];
+        motionBearing = new double[initial];
+        longitudinalAccel = new double[initial];
+        yawRate = new double[initial];
+        maneuverG = new double[initial];
+        emittedMillis = new long[initial];
+        emittedState = new byte[initial];
+        emittedLatitude = new double[initial];
+        emittedLongitude = new double[initial];
+        emittedSpeed = new double[initial];
+        noCoverageUntilMillis = new long[initial];
+        route = new List<?>[initial];
+        street = new String[initial];
+        destination = new Destination[initial];
+        tripProgress = new double[initial];
+        tripStartMillis = new long[initial];
+        lastCrashMillis = new long[initial];
+        crashSpeed = new double[initial];
+        crashAccidentType = new String[initial];
+        random = new SplittableRandom[initial];
+        mailbox = new Mail[initial];
+    }
+
+    /**
+     * Allocate a slot for a new driver, parked at its base location, and return its view.
+     * Not thread-safe; fleets are built up front before any engine starts.
+     */
+    public Driver add(int driverId, int policyId, int vehicleId, String vin,
+                      double baseLatitude, double baseLongitude, boolean aggressive) {
+        return add(driverId, policyId, vehicleId, vin, baseLatitude, baseLongitude, aggressive, randomFor(driverId));
+    }
+
+    /**
+     * As above, continuing a stream already drawn from, e.g. for the start position.
+     */
+    public Driver add(int driverId, int policyId, int vehicleId, String vin,
+                      double baseLatitude, double baseLongitude, boolean aggressive, SplittableRandom random) {
+        if (size == this.driverId.length) {
+            grow(size * 2);
+        }
+        int slot = size++;
+        this.driverId[slot] = driverId;
+        this.policyId[slot] = policyId;
+        this.vehicleId[slot] = vehicleId;
+        this.vin[slot] = vin;
+        this.baseLatitude[slot] = baseLatitude;
+        this.baseLongitude[slot] = baseLongitude;
+        this.aggressive[slot] = aggressive;
+        this.state[slot] = (byte) DriverState.PARKED.ordinal();
+        this.stateChangeMillis[slot] = clock.millis();
+        this.latitude[slot] = baseLatitude;
+        this.longitude[slot] = baseLongitude;
+        this.motionMillis[slot] = NO_TIME;
+        this.emittedMillis[slot] = NO_TIME;
+        this.noCoverageUntilMillis[slot] = NO_TIME;
+        this.street[slot] = "Unknown";
+        this.tripStartMillis[slot] = NO_TIME;
+        this.lastCrashMillis[slot] = NO_TIME;
+        this.crashSpeed[slot] = Double.NaN;
+        this.random[slot] = random;
+        return new Driver(this, slot);
+    }
+
+    private void grow(int capacity) {
+        driverId = Arrays.copyOf(driverId, capacity);
+        policyId = Arrays.copyOf(policyId, capacity);
+        vehicleId = Arrays.copyOf(vehicleId, capacity);
+        vin = Arrays.copyOf(vin, capacity);
+        baseLatitude = Arrays.copyOf(baseLatitude, capacity);
+        baseLongitude = Arrays.copyOf(baseLongitude, capacity);
+        aggressive = Arrays.copyOf(aggressive, capacity);
+        state = Arrays.copyOf(state, capacity);
+        stateChangeMillis = Arrays.copyOf(stateChangeMillis, capacity);
+        latitude = Arrays.copyOf(latitude, capacity);
+        longitude = Arrays.copyOf(longitude, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        bearing = Arrays.copyOf(bearing, capacity);
+        speedLimit = Arrays.copyOf(speedLimit, capacity);
+        routeIndex = Arrays.copyOf(routeIndex, capacity);
+        messageCount = Arrays.copyOf(messageCount, capacity);
+        motionMillis = Arrays.copyOf(motionMillis, capacity);
+        motionSpeed = Arrays.copyOf(motionSpeed, capacity);
+        motionBearing = Arrays.copyOf(motionBearing, capacity);
+        longitudinalAccel = Arrays.copyOf(longitudinalAccel, capacity);
+        yawRate = Arrays.copyOf(yawRate, capacity);
+        maneuverG = Arrays.copyOf(maneuverG, capacity);
+        emittedMillis = Arrays.copyOf(emittedMillis, capacity);
+        emittedState = Arrays.copyOf(emittedState, capacity);
+        emittedLatitude = Arrays.copyOf(emittedLatitude, capacity);
+        emittedLongitude = Arrays.copyOf(emittedLongitude, capacity);
+        emittedSpeed = Arrays.copyOf(emittedSpeed, capacity);
+        noCoverageUntilMillis = Arrays.copyOf(noCoverageUntilMillis, capacity);
+        route = Arrays.copyOf(route, capacity);
+        street = Arrays.copyOf(street, capacity);
+        destination = Arrays.copyOf(destination, capacity);
+        tripProgress = Arrays.copyOf(tripProgress, capacity);
+        tripStartMillis = Arrays.copyOf(tripStartMillis, capacity);
+        lastCrashMillis = Arrays.copyOf(lastCrashMillis, capacity);
+        crashSpeed = Arrays.copyOf(crashSpeed, capacity);
+        crashAccidentType = Arrays.copyOf(crashAccidentType, capacity);
+        random = Arrays.copyOf(random, capacity);
+        mailbox = Arrays.copyOf(mailbox, capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * A new stream for the driver, identical every time for the same fleet seed and id.
+     */
+    public SplittableRandom randomFor(int driverId) {
+        return RandomStreams.forKey(seed, driverId);
+    }
+
+    public void setStateListener(StateListener stateListener) {
+        this.stateListener = stateListener;
+    }
+
+    public Clock clock() {
+        return clock;
+    }
+
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    public long currentTimeMillis() {
+        return clock.millis();
+    }
+
+    // --- Mailbox ---
+
+    /**
+     * Hand a change to the slot's owner, which runs it on its next {@link #runPosted} for the
+     * slot, in posting order. Safe from any thread.
+     */
+    public void post(int slot, Consumer<Driver> command) {
+        Mail head;
+        Mail mail;
+        do {
+            head = (Mail) MAILBOX.getVolatile(mailbox, slot);
+            mail = new Mail(command, head);
+        } while (!MAILBOX.compareAndSet(mailbox, slot, head, mail));
+    }
+
+    /**
+     * Run every change posted for the slot so far; only the slot's owner may call this. A failing
+     * change does not stop the ones after it; the first failure is rethrown once all have run.
+     */
+    public void runPosted(int slot) {
+        if (MAILBOX.getAcquire(mailbox, slot) == null) {
+            return;
+        }
+        List<Consumer<Driver>> commands = new ArrayList<>();
+        for (Mail mail = (Mail) MAILBOX.getAndSet(mailbox, slot, null); mail != null; mail = mail.next()) {
+            commands.add(mail.command());
+        }
+        Driver driver = new Driver(this, slot);
+        RuntimeException failure = null;
+        for (int i = commands.size() - 1; i >= 0; i--) {
+            try {
+                commands.get(i).accept(driver);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    // --- Identity ---
+
+    public int driverId(int slot) {
+        return driverId[slot];
+    }
+
+    public int policyId(int slot) {
+        return policyId[slot];
+    }
+
+    public int vehicleId(int slot) {
+        return vehicleId[slot];
+    }
+
+    public String vin(int slot) {
+        return vin[slot];
+    }
+
+    public double baseLatitude(int slot) {
+        return baseLatitude[slot];
+    }
+
+    public double baseLongitude(int slot) {
+        return baseLongitude[slot];
+    }
+
+    public boolean aggressive(int slot) {
+        return aggressive[slot];
+    }
+
+    // --- Hot state ---
+
+    public DriverState state(int slot) {
+        return STATES[state[slot]];
+    }
+
+    /**
+     * Change the state and stamp the change time; setting the current state again is a no-op.
+     */
+    public void setState(int slot, DriverState newState) {
+        if (state[slot] != newState.ordinal()) {
+            long now = clock.millis();
+            state[slot] = (byte) newState.ordinal();
+            stateChangeMillis[slot] = now;
+            notifyStateEntered(slot, newState, now);
+        }
+    }
+
+    /**
+     * Set state and change time verbatim, e.g. when restoring a checkpoint.
+     */
+    public void setState(int slot, DriverState newState, long changedAtMillis) {
+        state[slot] = (byte) newState.ordinal();
+        stateChangeMillis[slot] = changedAtMillis;
+        notifyStateEntered(slot, newState, changedAtMillis);
+    }
+
+    private void notifyStateEntered(int slot, DriverState newState, long changedAtMillis) {
+        StateListener listener = stateListener;
+        if (listener != null) {
+            listener.onStateEntered(slot, newState, changedAtMillis);
+        }
+    }
+
+    public long stateChangeMillis(int slot) {
+        return stateChangeMillis[slot];
+    }
+
+    public double latitude(int slot) {
+        return latitude[slot];
+    }
+
+    public void setLatitude(int slot, double value) {
+        latitude[slot] = value;
+    }
+
+    public double longitude(int slot) {
+        return longitude[slot];
+    }
+
+    public void setLongitude(int slot, double value) {
+        longitude[slot] = value;
+    }
+
+    public double speed(int slot) {
+        return speed[slot];
+    }
+
+    public void setSpeed(int slot, double value) {
+        speed[slot] = value;
+    }
+
+    public double bearing(int slot) {
+        return bearing[slot];
+    }
+
+    public void setBearing(int slot, double value) {
+        bearing[slot] = value;
+    }
+
+    public int speedLimit(int slot) {
+        return speedLimit[slot];
+    }
+
+    public void setSpeedLimit(int slot, int value) {
+        speedLimit[slot] = value;
+    }
+
+    public int routeIndex(int slot) {
+        return routeIndex[slot];
+    }
+
+    public void setRouteIndex(int slot, int value) {
+        routeIndex[slot] = value;
+    }
+
+    public long messageCount(int slot) {
+        return messageCount[slot];
+    }
+
+    public void setMessageCount(int slot, long value) {
+        messageCount[slot] = value;
+    }
+
+    public long incrementMessageCount(int slot) {
+        return ++messageCount[slot];
+    }
+
+    /**
+     * Derive the longitudinal acceleration and yaw rate from the speed and bearing change since
+     * the previous sample of the slot, then remember the current values for the next one. Both
+     * are zero on the first sample and held when no time has passed. Bounded by what a car can
+     * do, as speed and heading jump once per tick, unless a {@link #harshManeuver} asked for more.
+     */
+    public void sampleMotion(int slot) {
+        long now = clock.millis();
+        long previous = motionMillis[slot];
+        if (previous == NO_TIME) {
+            longitudinalAccel[slot] = 0.0;
+            yawRate[slot] = 0.0;
+        } else if (now > previous) {
+            double seconds = (now - previous) / 1000.0;
+            double accel = (speed[slot] - motionSpeed[slot]) * 0.44704 / seconds / GRAVITY;
+            double maxBraking = Math.max(MAX_BRAKING_G, maneuverG[slot]);
+            double maxAcceleration = Math.max(MAX_ACCELERATION_G, maneuverG[slot]);
+            longitudinalAccel[slot] = Math.max(-maxBraking, Math.min(maxAcceleration, accel));
+            // Shortest turn; bearings grow clockwise, yaw is counter-clockwise positive
+            double turn = Math.IEEEremainder(bearing[slot] - motionBearing[slot], 360.0);
+            double rate = -Math.toRadians(turn) / seconds;
+            double metresPerSecond = speed[slot] * 0.44704;
+            double maxRate = metresPerSecond > 0 ? Math.min(MAX_YAW_RATE, MAX_LATERAL_G * GRAVITY / metresPerSecond) : MAX_YAW_RATE;
+            yawRate[slot] = Math.max(-maxRate, Math.min(maxRate, rate));
+        }
+        motionMillis[slot] = now;
+        motionSpeed[slot] = speed[slot];
+        motionBearing[slot] = bearing[slot];
+        maneuverG[slot] = 0.0;
+    }
+
+    /**
+     * Brake (negative) or accelerate at {@code g} since the previous sample of the slot by
+     * changing its speed, so the next {@link #sampleMotion} derives that acceleration beyond the
+     * ordinary limits. Does nothing before the first sample or when no time has passed.
+     */
+    public void harshManeuver(int slot, double g) {
+        long now = clock.millis();
+        long previous = motionMillis[slot];
+        if (previous == NO_TIME || now <= previous) {
+            return;
+        }
+        double seconds = (now - previous) / 1000.0;
+        speed[slot] = Math.max(0.0, motionSpeed[slot] + g * GRAVITY * seconds / 0.44704);
+        maneuverG[slot] = Math.min(MAX_HARSH_G, Math.abs(g));
+    }
+
+    /** Longitudinal acceleration at the last {@link #sampleMotion}, in g, forward positive. */
+    public double longitudinalAccel(int slot) {
+        return longitudinalAccel[slot];
+    }
+
+    /** Yaw rate at the last {@link #sampleMotion}, in rad/s, left turns positive. */
+    public double yawRate(int slot) {
+        return yawRate[slot];
+    }
+
+    /** Lateral (centripetal) acceleration at the last {@link #sampleMotion}, in g, left positive. */
+    public double lateralAccel(int slot) {
+        return speed[slot] * 0.44704 * yawRate[slot] / GRAVITY;
+    }
+
+    /**
+     * Remember the current state, position and speed as those of the last report sent.
+     */
+    public void markEmitted(int slot) {
+        emittedMillis[slot] = clock.millis();
+        emittedState[slot] = state[slot];
+        emittedLatitude[slot] = latitude[slot];
+        emittedLongitude[slot] = longitude[slot];
+        emittedSpeed[slot] = speed[slot];
+    }
+
+    /** When the last report was sent, or {@link #NO_TIME} if none was. */
+    public long emittedMillis(int slot) {
+        return emittedMillis[slot];
+    }
+
+    public DriverState emittedState(int slot) {
+        return STATES[emittedState[slot]];
+    }
+
+    public double emittedLatitude(int slot) {
+        return emittedLatitude[slot];
+    }
+
+    public double emittedLongitude(int slot) {
+        return emittedLongitude[slot];
+    }
+
+    public double emittedSpeed(int slot) {
+        return emittedSpeed[slot];
+    }
+
+    public long noCoverageUntilMillis(int slot) {
+        return noCoverageUntilMillis[slot];
+    }
+
+    public void setNoCoverageUntilMillis(int slot, long value) {
+        noCoverageUntilMillis[slot] = value;
+    }
+
+    // --- Cold state ---
+
+    @SuppressWarnings("unchecked")
+    public List<RoutePoint> route(int slot) {
+        return (List<RoutePoint>) route[slot];
+    }
+
+    public void setRoute(int slot, List<RoutePoint> value) {
+        route[slot] = value;
+    }
+
+    public String street(int slot) {
+        return street[slot];
+    }
+
+    public void setStreet(int slot, String value) {
+        street[slot] = value;
+    }
+
+    public Destination destination(int slot) {
+        return destination[slot];
+    }
+
+    public void setDestination(int slot, Destination value) {
+        destination[slot] = value;
+    }
+
+    public double tripProgress(int slot) {
+        return tripProgress[slot];
+    }
+
+    public void setTripProgress(int slot, double value) {
+        tripProgress[slot] = value;
+    }
+
+    public long tripStartMillis(int slot) {
+        return tripStartMillis[slot];
+    }
+
+    public void setTripStartMillis(int slot, long value) {
+        tripStartMillis[slot] = value;
+    }
+
+    public long lastCrashMillis(int slot) {
+        return lastCrashMillis[slot];
+    }
+
+    public void setLastCrashMillis(int slot, long value) {
+        lastCrashMillis[slot] = value;
+    }
+
+    public double crashSpeed(int slot) {
+        return crashSpeed[slot];
+    }
+
+    public void setCrashSpeed(int slot, double value) {
+        crashSpeed[slot] = value;
+    }
+
+    public String crashAccidentType(int slot) {
+        return crashAccidentType[slot];
+    }
+
+    public void setCrashAccidentType(int slot, String value) {
+        crashAccidentType[slot] = value;
+    }
+
+    /**
+     * The driver's own random stream; only the thread advancing the driver may draw from it.
+     */
+    public SplittableRandom random(int slot) {
+        return random[slot];
+    }
+}
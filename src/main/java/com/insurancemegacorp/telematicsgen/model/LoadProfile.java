@@ -0,0 +1,105 @@
+package com.insurancemegacorp.telematicsgen.model;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Timeline of message rates used to load-test downstream consumers, for example
+ * "ramp 1k to 50k msg/s over 10 min, hold 1h, spike to 200k for 30s".
+ * Phases run back to back; rates are fleet-wide messages per second.
+ */
+public record LoadProfile(
+    String name,
+    List<Phase> phases
+) {
+
+    public enum PhaseType {
+        /** Linear change from {@code from} (default: the previous rate) to {@code rate}. */
+        RAMP,
+        /** Jump to {@code rate} and stay there. */
+        STEP,
+        /** Keep {@code rate}; same as STEP, named for readability of long holds. */
+        HOLD,
+        /** Keep {@code rate}; same as HOLD, for multi-hour endurance runs. */
+        SOAK,
+        /** Jump to {@code rate} and fall back to the pre-spike rate afterwards. */
+        SPIKE
+    }
+
+    /**
+     * A single segment of the timeline. {@code duration} accepts ISO-8601 ("PT10M") or seconds.
+     */
+    public record Phase(
+        PhaseType type,
+        Double from,
+        double rate,
+        Duration duration
+    ) {}
+
+    /**
+     * Rate and position at a point of the timeline.
+     */
+    public record Position(
+        int phaseIndex,
+        PhaseType phaseType,
+        double rate,
+        double phaseProgress,
+        boolean finished
+    ) {}
+
+    public LoadProfile {
+        if (phases == null || phases.isEmpty()) {
+            throw new IllegalArgumentException("Load profile needs at least one phase");
+        }
+        for (Phase phase : phases) {
+            if (phase.type() == null) {
+                throw new IllegalArgumentException("Phase type is required");
+            }
+            if (phase.duration() == null || phase.duration().isNegative() || phase.duration().isZero()) {
+                throw new IllegalArgumentException("Phase duration must be positive");
+            }
+            // A rate of 0 would mean "derive from the interval" to the simulator, not a pause
+            if (phase.rate() <= 0 || (phase.from() != null && phase.from() <= 0)) {
+                throw new IllegalArgumentException("Phase rates must be positive");
+            }
+        }
+        phases = List.copyOf(phases);
+        name = name != null ? name : "unnamed";
+    }
+
+    public Duration getTotalDuration() {
+        return phases.stream().map(Phase::duration).reduce(Duration.ZERO, Duration::plus);
+    }
+
+    /**
+     * Resolve where the timeline is after {@code elapsed}.
+     *
+     * @param baselineRate rate in effect before the profile started, used by a leading RAMP without {@code from}
+     */
+    public Position positionAt(Duration elapsed, double baselineRate) {
+        double previousRate = baselineRate;
+        Duration phaseStart = Duration.ZERO;
+        for (int i = 0; i < phases.size(); i++) {
+            Phase phase = phases.get(i);
+            Duration phaseEnd = phaseStart.plus(phase.duration());
+            if (elapsed.compareTo(phaseEnd) < 0) {
+                double progress = (double) elapsed.minus(phaseStart).toNanos() / phase.duration().toNanos();
+                return new Position(i, phase.type(), rateWithin(phase, previousRate, progress), progress, false);
+            }
+            if (phase.type() != PhaseType.SPIKE) {
+                previousRate = phase.rate();
+            }
+            phaseStart = phaseEnd;
+        }
+        Phase last = phases.get(phases.size() - 1);
+        return new Position(phases.size() - 1, last.type(), previousRate, 1.0, true);
+    }
+
+    private static double rateWithin(Phase phase, double previousRate, double progress) {
+        if (phase.type() != PhaseType.RAMP) {
+            return phase.rate();
+        }
+        double from = phase.from() != null ? phase.from() : previousRate;
+        return from + (phase.rate() - from) * progress;
+    }
+}
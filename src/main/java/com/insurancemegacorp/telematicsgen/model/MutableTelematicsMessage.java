@@ -0,0 +1,373 @@
+package com.insurancemegacorp.telematicsgen.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.insurancemegacorp.telematicsgen.util.FixedPoint;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Reusable, mutable counterpart of {@link FlatTelematicsMessage} for hot loops.
+ * <p>
+ * The generator overwrites every field on each {@link #set} call, so one buffer per thread serves
+ * any number of messages without allocating. The event time is kept as epoch milliseconds, the
+ * quantized readings as {@link FixedPoint} integers written digit by digit, and strings are the
+ * driver's own instances. Jackson serializes a buffer through {@link Serializer} to exactly the
+ * same JSON as the equivalent record; {@link #toRecord()} produces that record when one is
+ * needed. Not thread-safe, and only valid until the next {@code set}.
+ */
+@JsonSerialize(using = MutableTelematicsMessage.Serializer.class)
+public class MutableTelematicsMessage {
+    // Core message fields
+    private int policyId;
+    private int vehicleId;
+    private String vin;
+    private long eventTimeMillis;
+    private int speedMph; // hundredths
+    private int speedLimitMph;
+    private double gForce;
+    private int driverId;
+    private String currentStreet;
+    private String accidentType;
+
+    // GPS data fields (from sensors.gps)
+    private double gpsLatitude;
+    private double gpsLongitude;
+    private double gpsAltitude;
+    private double gpsSpeed;
+    private double gpsBearing;
+    private double gpsAccuracy;
+    private int gpsSatelliteCount;
+    private long gpsFixTime;
+
+    // Accelerometer data fields (from sensors.accelerometer)
+    private int accelerometerX; // ten-thousandths
+    private int accelerometerY; // ten-thousandths
+    private int accelerometerZ; // ten-thousandths
+
+    // Gyroscope data fields (from sensors.gyroscope)
+    private int gyroscopeX; // ten-thousandths
+    private int gyroscopeY; // ten-thousandths
+    private int gyroscopeZ; // ten-thousandths
+
+    // Magnetometer data fields (from sensors.magnetometer)
+    private int magnetometerX; // ten-thousandths
+    private int magnetometerY; // ten-thousandths
+    private int magnetometerZ; // ten-thousandths
+    private double magnetometerHeading;
+
+    // Environmental data (from sensors.barometricPressure)
+    private double barometricPressure;
+
+    // Device metadata fields (from sensors.device)
+    private int deviceBatteryLevel;
+    private int deviceSignalStrength;
+    private String deviceOrientation;
+    private boolean deviceScreenOn;
+    private boolean deviceCharging;
+
+    /**
+     * Overwrite every field; arguments are in record component order, with speed in fixed-point
+     * hundredths and accelerometer, gyroscope and magnetometer axes in ten-thousandths.
+     */
+    public MutableTelematicsMessage set(int policyId, int vehicleId, String vin,
+                                        long eventTimeMillis, int speedMph, int speedLimitMph,
+                                        double gForce, int driverId, String currentStreet,
+                                        String accidentType, double gpsLatitude, double gpsLongitude,
+                                        double gpsAltitude, double gpsSpeed, double gpsBearing,
+                                        double gpsAccuracy, int gpsSatelliteCount, long gpsFixTime,
+                                        int accelerometerX, int accelerometerY, int accelerometerZ,
+                                        int gyroscopeX, int gyroscopeY, int gyroscopeZ,
+                                        int magnetometerX, int magnetometerY, int magnetometerZ,
+                                        double magnetometerHeading, double barometricPressure, int deviceBatteryLevel,
+                                        int deviceSignalStrength, String deviceOrientation, boolean deviceScreenOn,
+                                        boolean deviceCharging) {
+        this.policyId = policyId;
+        this.vehicleId = vehicleId;
+        this.vin = vin;
+        this.eventTimeMillis = eventTimeMillis;
+        this.speedMph = speedMph;
+        this.speedLimitMph = speedLimitMph;
+        this.gForce = gForce;
+        this.driverId = driverId;
+        this.currentStreet = currentStreet;
+        this.accidentType = accidentType;
+        this.gpsLatitude = gpsLatitude;
+        this.gpsLongitude = gpsLongitude;
+        this.gpsAltitude = gpsAltitude;
+        this.gpsSpeed = gpsSpeed;
+        this.gpsBearing = gpsBearing;
+        this.gpsAccuracy = gpsAccuracy;
+        this.gpsSatelliteCount = gpsSatelliteCount;
+        this.gpsFixTime = gpsFixTime;
+        this.accelerometerX = accelerometerX;
+        this.accelerometerY = accelerometerY;
+        this.accelerometerZ = accelerometerZ;
+        this.gyroscopeX = gyroscopeX;
+        this.gyroscopeY = gyroscopeY;
+        this.gyroscopeZ = gyroscopeZ;
+        this.magnetometerX = magnetometerX;
+        this.magnetometerY = magnetometerY;
+        this.magnetometerZ = magnetometerZ;
+        this.magnetometerHeading = magnetometerHeading;
+        this.barometricPressure = barometricPressure;
+        this.deviceBatteryLevel = deviceBatteryLevel;
+        this.deviceSignalStrength = deviceSignalStrength;
+        this.deviceOrientation = deviceOrientation;
+        this.deviceScreenOn = deviceScreenOn;
+        this.deviceCharging = deviceCharging;
+        return this;
+    }
+
+    public FlatTelematicsMessage toRecord() {
+        return new FlatTelematicsMessage(
+            policyId, vehicleId, vin, Instant.ofEpochMilli(eventTimeMillis),
+            speedMph(), speedLimitMph, gForce, driverId,
+            currentStreet, accidentType, gpsLatitude, gpsLongitude,
+            gpsAltitude, gpsSpeed, gpsBearing, gpsAccuracy,
+            gpsSatelliteCount, gpsFixTime, accelerometerX(), accelerometerY(),
+            accelerometerZ(), gyroscopeX(), gyroscopeY(), gyroscopeZ(),
+            magnetometerX(), magnetometerY(), magnetometerZ(), magnetometerHeading,
+            barometricPressure, deviceBatteryLevel, deviceSignalStrength, deviceOrientation,
+            deviceScreenOn, deviceCharging);
+    }
+
+    public int policyId() {
+        return policyId;
+    }
+
+    public int vehicleId() {
+        return vehicleId;
+    }
+
+    public String vin() {
+        return vin;
+    }
+
+    public long eventTimeMillis() {
+        return eventTimeMillis;
+    }
+
+    public Instant eventTime() {
+        return Instant.ofEpochMilli(eventTimeMillis);
+    }
+
+    public double speedMph() {
+        return FixedPoint.toDouble(speedMph, FixedPoint.TWO_DECIMALS);
+    }
+
+    public int speedMphFixed() {
+        return speedMph;
+    }
+
+    public int speedLimitMph() {
+        return speedLimitMph;
+    }
+
+    public double gForce() {
+        return gForce;
+    }
+
+    public int driverId() {
+        return driverId;
+    }
+
+    public String currentStreet() {
+        return currentStreet;
+    }
+
+    public String accidentType() {
+        return accidentType;
+    }
+
+    public double gpsLatitude() {
+        return gpsLatitude;
+    }
+
+    public double gpsLongitude() {
+        return gpsLongitude;
+    }
+
+    public double gpsAltitude() {
+        return gpsAltitude;
+    }
+
+    public double gpsSpeed() {
+        return gpsSpeed;
+    }
+
+    public double gpsBearing() {
+        return gpsBearing;
+    }
+
+    public double gpsAccuracy() {
+        return gpsAccuracy;
+    }
+
+    public int gpsSatelliteCount() {
+        return gpsSatelliteCount;
+    }
+
+    public long gpsFixTime() {
+        return gpsFixTime;
+    }
+
+    public double accelerometerX() {
+        return FixedPoint.toDouble(accelerometerX, FixedPoint.FOUR_DECIMALS);
+    }
+
+    public int accelerometerXFixed() {
+        return accelerometerX;
+    }
+
+    public double accelerometerY() {
+        return FixedPoint.toDouble(accelerometerY, FixedPoint.FOUR_DECIMALS);
+    }
+
+    public int accelerometerYFixed() {
+        return accelerometerY;
+    }
+
+    public double accelerometerZ() {
+        return FixedPoint.toDouble(accelerometerZ, FixedPoint.FOUR_DECIMALS);
+    }
+
+    public int accelerometerZFixed() {
+        return accelerometerZ;
+    }
+
+    public double gyroscopeX() {
+        return FixedPoint.toDouble(gyroscopeX, FixedPoint.FOUR_DECIMALS);
+    }
+
+    public int gyroscopeXFixed() {
+        return gyroscopeX;
+    }
+
+    public double gyroscopeY() {
+        return FixedPoint.toDouble(gyroscopeY, FixedPoint.FOUR_DECIMALS);
+    }
+
+    public int gyroscopeYFixed() {
+        return gyroscopeY;
+    }
+
+    public double gyroscopeZ() {
+        return FixedPoint.toDouble(gyroscopeZ, FixedPoint.FOUR_DECIMALS);
+    }
+
+    public int gyroscopeZFixed() {
+        return gyroscopeZ;
+    }
+
+    public double magnetometerX() {
+        return FixedPoint.toDouble(magnetometerX, FixedPoint.FOUR_DECIMALS);
+    }
+
+    public int magnetometerXFixed() {
+        return magnetometerX;
+    }
+
+    public double magnetometerY() {
+        return FixedPoint.toDouble(magnetometerY, FixedPoint.FOUR_DECIMALS);
+    }
+
+    public int magnetometerYFixed() {
+        return magnetometerY;
+    }
+
+    public double magnetometerZ() {
+        return FixedPoint.toDouble(magnetometerZ, FixedPoint.FOUR_DECIMALS);
+    }
+
+    public int magnetometerZFixed() {
+        return magnetometerZ;
+    }
+
+    public double magnetometerHeading() {
+        return magnetometerHeading;
+    }
+
+    public double barometricPressure() {
+        return barometricPressure;
+    }
+
+    public int deviceBatteryLevel() {
+        return deviceBatteryLevel;
+    }
+
+    public int deviceSignalStrength() {
+        return deviceSignalStrength;
+    }
+
+    public String deviceOrientation() {
+        return deviceOrientation;
+    }
+
+    public boolean deviceScreenOn() {
+        return deviceScreenOn;
+    }
+
+    public boolean deviceCharging() {
+        return deviceCharging;
+    }
+
+    /**
+     * Writes a buffer field by field from its primitive getters, so no reading is boxed on the way
+     * to the generator; the field names and order are those of {@link FlatTelematicsMessage}.
+     */
+    public static class Serializer extends StdSerializer<MutableTelematicsMessage> {
+        public Serializer() {
+            super(MutableTelematicsMessage.class);
+        }
+
+        @Override
+        public void serialize(MutableTelematicsMessage m, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(m);
+            gen.writeNumberField("policy_id", m.policyId());
+            gen.writeNumberField("vehicle_id", m.vehicleId());
+            gen.writeStringField("vin", m.vin());
+            provider.defaultSerializeField("event_time", m.eventTime(), gen);
+            gen.writeFieldName("speed_mph");
+            FixedPoint.write(m.speedMphFixed(), FixedPoint.TWO_DECIMALS, gen);
+            gen.writeNumberField("speed_limit_mph", m.speedLimitMph());
+            gen.writeNumberField("g_force", m.gForce());
+            gen.writeNumberField("driver_id", m.driverId());
+            gen.writeStringField("current_street", m.currentStreet());
+            gen.writeStringField("accident_type", m.accidentType());
+            gen.writeNumberField("gps_latitude", m.gpsLatitude());
+            gen.writeNumberField("gps_longitude", m.gpsLongitude());
+            gen.writeNumberField("gps_altitude", m.gpsAltitude());
+            gen.writeNumberField("gps_speed", m.gpsSpeed());
+            gen.writeNumberField("gps_bearing", m.gpsBearing());
+            gen.writeNumberField("gps_accuracy", m.gpsAccuracy());
+            gen.writeNumberField("gps_satellite_count", m.gpsSatelliteCount());
+            gen.writeNumberField("gps_fix_time", m.gpsFixTime());
+            fourDecimals("accelerometer_x", m.accelerometerXFixed(), gen);
+            fourDecimals("accelerometer_y", m.accelerometerYFixed(), gen);
+            fourDecimals("accelerometer_z", m.accelerometerZFixed(), gen);
+            fourDecimals("gyroscope_x", m.gyroscopeXFixed(), gen);
+            fourDecimals("gyroscope_y", m.gyroscopeYFixed(), gen);
+            fourDecimals("gyroscope_z", m.gyroscopeZFixed(), gen);
+            fourDecimals("magnetometer_x", m.magnetometerXFixed(), gen);
+            fourDecimals("magnetometer_y", m.magnetometerYFixed(), gen);
+            fourDecimals("magnetometer_z", m.magnetometerZFixed(), gen);
+            gen.writeNumberField("magnetometer_heading", m.magnetometerHeading());
+            gen.writeNumberField("barometric_pressure", m.barometricPressure());
+            gen.writeNumberField("device_battery_level", m.deviceBatteryLevel());
+            gen.writeNumberField("device_signal_strength", m.deviceSignalStrength());
+            gen.writeStringField("device_orientation", m.deviceOrientation());
+            gen.writeBooleanField("device_screen_on", m.deviceScreenOn());
+            gen.writeBooleanField("device_charging", m.deviceCharging());
+            gen.writeEndObject();
+        }
+
+        private static void fourDecimals(String name, int units, JsonGenerator gen) throws IOException {
+            gen.writeFieldName(name);
+            FixedPoint.write(units, FixedPoint.FOUR_DECIMALS, gen);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.insurancemegacorp.telematicsgen.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+/**
+ * One window of a driver's reports summarized on the device, uploaded instead of the raw
+ * {@link FlatTelematicsMessage}s. Field names follow the flat message; statistics are over
+ * the window's samples.
+ */
+public record TelematicsSummary(
+    @JsonProperty("message_type") String messageType,
+    @JsonProperty("policy_id") int policyId,
+    @JsonProperty("vehicle_id") int vehicleId,
+    @JsonProperty("vin") String vin,
+    @JsonProperty("driver_id") int driverId,
+    @JsonProperty("current_street") String currentStreet,
+    @JsonProperty("window_start") Instant windowStart,
+    @JsonProperty("window_end") Instant windowEnd,
+    @JsonProperty("sample_count") int sampleCount,
+
+    // Statistics over the window
+    @JsonProperty("speed_mph") Stats speedMph,
+    @JsonProperty("g_force") Stats gForce,
+    @JsonProperty("accelerometer_x") Stats accelerometerX,
+    @JsonProperty("accelerometer_y") Stats accelerometerY,
+    @JsonProperty("accelerometer_z") Stats accelerometerZ,
+
+    // First and last GPS fix of the window
+    @JsonProperty("first_gps_latitude") double firstGpsLatitude,
+    @JsonProperty("first_gps_longitude") double firstGpsLongitude,
+    @JsonProperty("last_gps_latitude") double lastGpsLatitude,
+    @JsonProperty("last_gps_longitude") double lastGpsLongitude,
+
+    // Harsh events within the window
+    @JsonProperty("hard_braking_count") int hardBrakingCount,
+    @JsonProperty("rapid_acceleration_count") int rapidAccelerationCount
+) {
+    public static final String MESSAGE_TYPE = "telematics_summary";
+
+    /**
+     * Minimum, maximum, mean and 95th percentile (nearest rank) of one reading.
+     */
+    public record Stats(
+        @JsonProperty("min") double min,
+        @JsonProperty("max") double max,
+        @JsonProperty("mean") double mean,
+        @JsonProperty("p95") double p95
+    ) {
+    }
+}
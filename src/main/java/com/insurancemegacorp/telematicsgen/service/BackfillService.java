@@ -0,0 +1,276 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.MutableTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.util.RollingFileWriter;
+import com.insurancemegacorp.telematicsgen.util.SimulationClock;
+import com.insurancemegacorp.telematicsgen.util.TelematicsEncoding;
+import com.insurancemegacorp.telematicsgen.util.WireFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Generates historical telemetry for a date range as fast as the CPU allows.
+ * <p>
+ * The simulation clock is switched to manual mode at the start date and stepped one report
+ * interval at a time. Each step advances every driver once across a fork-join pool, where each
+ * shard owns a contiguous slice of the fleet and its own rolling files, then fires the state
+ * timers that fell due; their expiries apply when the shards next visit the drivers. Shards
+ * generate their drivers in blocks through a {@link TelematicsBatch}, so sensor noise is
+ * synthesized column by column. Messages carry their simulated
+ * {@code event_time} and are written in {@code telematics.encoding.backfill}: one JSON record per
+ * line, or length-prefixed records for binary formats. Nothing reaches RabbitMQ or the WebSocket
+ * clients.
+ */
+@Service
+public class BackfillService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BackfillService.class);
+    private static final long DAY_MILLIS = Duration.ofDays(1).toMillis();
+    private static final int BATCH_SIZE = 256;
+
+    private final DriverManager driverManager;
+    private final TelematicsDataGenerator dataGenerator;
+    private final SimulationClock clock;
+
+    @Value("${telematics.backfill.enabled:false}")
+    private boolean enabled;
+
+    // ISO dates (start of day, UTC) or instants; the end is exclusive
+    @Value("${telematics.backfill.start:}")
+    private String start;
+
+    @Value("${telematics.backfill.end:}")
+    private String end;
+
+    @Value("${telematics.backfill.report-interval-ms:${telematics.simulation.tick-interval-ms:1000}}")
+    private long reportIntervalMs;
+
+    @Value("${telematics.backfill.threads:0}")
+    private int threads;
+
+    @Value("${telematics.backfill.output-dir:backfill}")
+    private String outputDir;
+
+    @Value("${telematics.backfill.max-file-mb:256}")
+    private long maxFileMb;
+
+    @Value("${telematics.encoding.backfill:JSON}")
+    private WireFormat wireFormat = WireFormat.JSON;
+
+    private volatile boolean running = false;
+
+    public BackfillService(DriverManager driverManager,
+                           TelematicsDataGenerator dataGenerator,
+                           SimulationClock clock) {
+        this.driverManager = driverManager;
+        this.dataGenerator = dataGenerator;
+        this.clock = clock;
+    }
+
+    /**
+     * Result of a run; {@code seconds} is wall time.
+     */
+    public record Report(
+        Instant from,
+        Instant to,
+        int drivers,
+        long steps,
+        long messages,
+        int files,
+        long bytes,
+        double seconds,
+        double messagesPerSecond
+    ) {}
+
+    /**
+     * Whether the application runs as a historical backfill instead of publishing live telemetry.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Put the simulation clock on the backfill start date in manual mode. Must run before the
+     * fleet is initialized so that every driver's state times start on the historical timeline.
+     */
+    public void prepareClock() {
+        clock.setManual(true);
+        clock.setTime(parse(start, "start").toEpochMilli());
+    }
+
+    /**
+     * Run over the configured range; the clock must have been prepared.
+     */
+    public Report run() {
+        return run(parse(start, "start"), parse(end, "end"), Paths.get(outputDir));
+    }
+
+    public synchronized Report run(Instant from, Instant to, Path directory) {
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("Backfill end " + to + " must be after start " + from);
+        }
+        List<Driver> drivers = driverManager.getAllDrivers();
+        if (drivers.isEmpty()) {
+            throw new IllegalStateException("No drivers initialized");
+        }
+        int count = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        count = Math.min(count, drivers.size());
+        long stepMillis = Math.max(1, reportIntervalMs);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create backfill directory " + directory, e);
+        }
+
+        TelematicsEncoding encoding = wireFormat.newEncoding();
+        List<Shard> shards = new ArrayList<>();
+        int base = drivers.size() / count;
+        int remainder = drivers.size() % count;
+        int first = 0;
+        for (int i = 0; i < count; i++) {
+            int last = first + base + (i < remainder ? 1 : 0);
+            shards.add(new Shard(drivers.subList(first, last), encoding,
+                new RollingFileWriter(directory, String.format("telemetry-%03d", i), wireFormat, maxFileMb * 1024 * 1024)));
+            first = last;
+        }
+
+        logger.info("🕰️ Backfilling {} to {} for {} drivers every {} ms on {} threads ({} sensors) into {} as {}",
+            from, to, drivers.size(), stepMillis, count, shards.get(0).batch.kernel().name(), directory.toAbsolutePath(),
+            wireFormat);
+        running = true;
+        long started = System.nanoTime();
+        long steps = 0;
+        ForkJoinPool pool = new ForkJoinPool(count);
+        try {
+            clock.setManual(true);
+            clock.setTime(from.toEpochMilli());
+            long nextProgressLog = from.toEpochMilli() + DAY_MILLIS;
+            while (running && clock.millis() < to.toEpochMilli()) {
+                for (Future<Void> step : pool.invokeAll(shards)) {
+                    step.get();
+                }
+                steps++;
+                clock.advance(Duration.ofMillis(stepMillis));
+                driverManager.fireStateTimers();
+                if (clock.millis() >= nextProgressLog) {
+                    logger.info("🕰️ Backfilled up to {} ({} messages)", clock.instant(), messages(shards));
+                    nextProgressLog += DAY_MILLIS;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Backfill interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Backfill failed at " + clock.instant(), e.getCause());
+        } finally {
+            running = false;
+            pool.shutdown();
+            for (Shard shard : shards) {
+                try {
+                    shard.writer.close();
+                } catch (IOException e) {
+                    logger.error("❌ Failed to close backfill file: {}", e.getMessage());
+                }
+            }
+        }
+
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        long messages = messages(shards);
+        int files = 0;
+        long bytes = 0;
+        for (Shard shard : shards) {
+            files += shard.writer.getFileCount();
+            bytes += shard.writer.getTotalBytes();
+        }
+        Report report = new Report(from, clock.instant(), drivers.size(), steps, messages, files, bytes,
+            seconds, messages / Math.max(seconds, 1e-9));
+        logger.info("🕰️ Backfill complete: {} messages in {} files ({} MB) in {}s, {} msg/s",
+            messages, files, bytes / (1024 * 1024), String.format("%.1f", seconds),
+            String.format("%.0f", report.messagesPerSecond()));
+        return report;
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    private static long messages(List<Shard> shards) {
+        long total = 0;
+        for (Shard shard : shards) {
+            total += shard.messages;
+        }
+        return total;
+    }
+
+    private static Instant parse(String value, String name) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException("telematics.backfill." + name + " is not set");
+        }
+        return value.contains("T")
+            ? Instant.parse(value)
+            : LocalDate.parse(value).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    /**
+     * One slice of the fleet; always run by a single pool thread at a time, which owns its writer.
+     */
+    private final class Shard implements Callable<Void> {
+        private final List<Driver> drivers;
+        private final TelematicsEncoding encoding;
+        private final RollingFileWriter writer;
+        private final MutableTelematicsMessage message = new MutableTelematicsMessage();
+        private final TelematicsEncoding.Sink sink;
+        private final TelematicsBatch batch;
+        private volatile long messages;
+
+        private Shard(List<Driver> drivers, TelematicsEncoding encoding, RollingFileWriter writer) {
+            this.drivers = drivers;
+            this.encoding = encoding;
+            this.writer = writer;
+            this.sink = writer::write;
+            this.batch = dataGenerator.newBatch(Math.min(BATCH_SIZE, drivers.size()));
+        }
+
+        @Override
+        public Void call() throws IOException {
+            long written = messages;
+            for (int from = 0; from < drivers.size(); from += batch.capacity()) {
+                int to = Math.min(from + batch.capacity(), drivers.size());
+                for (int i = from; i < to; i++) {
+                    driverManager.updateDriverBehavior(drivers.get(i));
+                }
+                batch.generate(drivers, from, to);
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.fill(i, message);
+                    batch.driver(i).incrementMessageCount();
+                    encoding.encode(message, sink);
+                    written++;
+                }
+            }
+            messages = written;
+            return null;
+        }
+    }
+}
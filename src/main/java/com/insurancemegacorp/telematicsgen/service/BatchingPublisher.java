@@ -0,0 +1,267 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Publishes normal telemetry in AMQP batches, when enabled, instead of one channel operation
+ * per report; crash events are never batched.
+ * <p>
+ * Callers serialize their report and hand it to a lock-free queue. One flusher thread drains the
+ * queue into a frame and publishes the frame when it holds {@code max-messages} reports, when the
+ * next report would take it past {@code max-bytes}, or {@code linger-ms} after its first report
+ * was queued. Frames use spring-amqp's {@code lengthHeader4} batch format, so Spring listeners
+ * split them back into single reports without any change.
+ */
+@Service
+public class BatchingPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchingPublisher.class);
+
+    /** Why a frame was published, tagged on {@code telematics.batch.flushes}. */
+    enum FlushReason { COUNT, BYTES, LINGER, SHUTDOWN }
+
+    private record Pending(Message message, long queuedNanos) {}
+
+    private final RabbitTemplate rabbitTemplate;
+    private final Counter messagesSentCounter;
+    private final Counter messagesFailedCounter;
+    private final Counter droppedCounter;
+    private final Counter[] flushCounters;
+    private final DistributionSummary batchMessages;
+    private final DistributionSummary batchBytes;
+    private final Timer batchLinger;
+
+    @Value("${telematics.exchange.name:telematics_exchange}")
+    private String exchangeName;
+
+    @Value("${telematics.batching.enabled:false}")
+    private boolean enabled;
+
+    @Value("${telematics.batching.max-messages:100}")
+    private int maxMessages = 100;
+
+    @Value("${telematics.batching.max-bytes:131072}")
+    private int maxBytes = 131072;
+
+    @Value("${telematics.batching.linger-ms:10}")
+    private long lingerMs = 10;
+
+    @Value("${telematics.batching.queue-capacity:100000}")
+    private int queueCapacity = 100000;
+
+    private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private volatile boolean running = false;
+    private Thread flusher;
+
+    // Owned by the flusher thread
+    private ByteBuffer frame;
+    private MessageProperties frameProperties;
+    private int frameCount;
+    private long frameStartNanos;
+
+    public BatchingPublisher(RabbitTemplate rabbitTemplate, MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.messagesSentCounter = Counter.builder("telematics.messages.sent")
+            .description("Total number of telematics messages sent to RabbitMQ")
+            .register(meterRegistry);
+        this.messagesFailedCounter = Counter.builder("telematics.messages.failed")
+            .description("Total number of telematics messages that failed to send")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("telematics.batch.dropped")
+            .description("Reports dropped because the batching queue was full or batching had stopped")
+            .register(meterRegistry);
+        FlushReason[] reasons = FlushReason.values();
+        this.flushCounters = new Counter[reasons.length];
+        for (FlushReason reason : reasons) {
+            flushCounters[reason.ordinal()] = Counter.builder("telematics.batch.flushes")
+                .description("Published batches by the limit that triggered them")
+                .tag("reason", reason.name().toLowerCase())
+                .register(meterRegistry);
+        }
+        this.batchMessages = DistributionSummary.builder("telematics.batch.messages")
+            .description("Reports per published batch")
+            .register(meterRegistry);
+        this.batchBytes = DistributionSummary.builder("telematics.batch.bytes")
+            .description("Body size of published batches")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.batchLinger = Timer.builder("telematics.batch.linger")
+            .description("Time from a batch's first report being queued to the batch being published")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (maxMessages < 1 || maxBytes < Integer.BYTES) {
+            throw new IllegalStateException("telematics.batching limits must be positive, got max-messages="
+                + maxMessages + ", max-bytes=" + maxBytes);
+        }
+        if (!enabled) {
+            return;
+        }
+        frame = ByteBuffer.allocate(maxBytes);
+        running = true;
+        flusher = Thread.ofPlatform()
+            .name("telematics-batcher")
+            .daemon(true)
+            .start(this::run);
+        logger.info("📦 Batching reports: up to {} messages or {} bytes per batch, {} ms linger",
+            maxMessages, maxBytes, lingerMs);
+    }
+
+    /**
+     * Stop the flusher after it has published everything queued so far.
+     */
+    @PreDestroy
+    public void stop() {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flusher = null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Serialize a report on the calling thread and queue it for the next batch. Reports beyond
+     * {@code queue-capacity} or arriving after {@link #stop} are dropped and counted as failed.
+     */
+    public void add(FlatTelematicsMessage report) {
+        if (!running) {
+            drop();
+            return;
+        }
+        if (queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            drop();
+            return;
+        }
+        Message message = rabbitTemplate.getMessageConverter().toMessage(report, new MessageProperties());
+        Pending pending = new Pending(message, System.nanoTime());
+        queue.offer(pending);
+        // Stopped meanwhile: the flusher may already have drained the queue for the last time
+        if (!running && queue.remove(pending)) {
+            queued.decrementAndGet();
+            drop();
+            return;
+        }
+        LockSupport.unpark(flusher);
+    }
+
+    private void drop() {
+        droppedCounter.increment();
+        messagesFailedCounter.increment();
+    }
+
+    private void run() {
+        long lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        while (running || !queue.isEmpty()) {
+            Pending next = queue.poll();
+            if (next != null) {
+                queued.decrementAndGet();
+                append(next);
+            } else if (frameCount == 0) {
+                LockSupport.park(this);
+            } else {
+                long wait = frameStartNanos + lingerNanos - System.nanoTime();
+                if (wait <= 0) {
+                    publish(FlushReason.LINGER);
+                } else {
+                    LockSupport.parkNanos(this, wait);
+                }
+            }
+        }
+        if (frameCount > 0) {
+            publish(FlushReason.SHUTDOWN);
+        }
+    }
+
+    private void append(Pending pending) {
+        byte[] body = pending.message().getBody();
+        int framed = Integer.BYTES + body.length;
+        if (frameCount > 0 && framed > frame.remaining()) {
+            publish(FlushReason.BYTES);
+        }
+        if (framed > frame.capacity()) {
+            // Larger than a whole batch; send it on its own
+            send(pending.message(), 1);
+            return;
+        }
+        if (frameCount == 0) {
+            frameProperties = pending.message().getMessageProperties();
+            frameStartNanos = pending.queuedNanos();
+        }
+        frame.putInt(body.length).put(body);
+        frameCount++;
+        if (frameCount == maxMessages) {
+            publish(FlushReason.COUNT);
+        }
+    }
+
+    private void publish(FlushReason reason) {
+        int count = frameCount;
+        byte[] body = Arrays.copyOf(frame.array(), frame.position());
+        // Headers of the first report, which the listener copies onto every report it splits off
+        MessageProperties properties = frameProperties;
+        properties.setHeader(MessageProperties.SPRING_BATCH_FORMAT, MessageProperties.BATCH_FORMAT_LENGTH_HEADER4);
+        properties.setHeader(AmqpHeaders.BATCH_SIZE, count);
+        properties.setContentLength(body.length);
+        long lingerNanos = System.nanoTime() - frameStartNanos;
+        frame.clear();
+        frameProperties = null;
+        frameCount = 0;
+
+        if (send(new Message(body, properties), count)) {
+            flushCounters[reason.ordinal()].increment();
+            batchMessages.record(count);
+            batchBytes.record(body.length);
+            batchLinger.record(lingerNanos, TimeUnit.NANOSECONDS);
+            logger.debug("📦 BATCH | {} reports | {} bytes | {} flush after {} µs",
+                count, body.length, reason, TimeUnit.NANOSECONDS.toMicros(lingerNanos));
+        }
+    }
+
+    private boolean send(Message message, int reports) {
+        try {
+            rabbitTemplate.send(exchangeName, "", message);
+            messagesSentCounter.increment(reports);
+            return true;
+        } catch (Exception e) {
+            logger.error("Failed to publish batch of {} reports: {}", reports, e.getMessage(), e);
+            messagesFailedCounter.increment(reports);
+            return false;
+        }
+    }
+}
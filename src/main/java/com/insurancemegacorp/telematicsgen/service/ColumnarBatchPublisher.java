@@ -0,0 +1,173 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.ColumnarTelematicsBatch;
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Publishes normal telemetry as {@link ColumnarTelematicsBatch} messages instead of one message
+ * per report, when enabled; crash events are never batched.
+ * <p>
+ * The fleet's slots are cut into {@code stripes} contiguous ranges, one batch each. Shard
+ * threads also advance contiguous ranges of the fleet, so with as many stripes as shards each
+ * thread fills a batch of its own and two only meet on a stripe that straddles their boundary.
+ * A batch is published as soon as it holds {@code batch-readings} reports, and every non-empty
+ * batch is published once per {@code window-ms}. A full batch is swapped for the stripe's spare
+ * under the lock and serialized after releasing it, so filling goes on while it is published;
+ * it then becomes the spare again, so columns are allocated once per stripe in the steady state.
+ * Sent and failed reports are counted per report, as for single messages.
+ */
+@Service
+public class ColumnarBatchPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ColumnarBatchPublisher.class);
+
+    private final RabbitTemplate rabbitTemplate;
+    private final Counter messagesSentCounter;
+    private final Counter messagesFailedCounter;
+    private final DistributionSummary batchSizes;
+
+    @Value("${telematics.exchange.name:telematics_exchange}")
+    private String exchangeName;
+
+    @Value("${telematics.columnar.enabled:false}")
+    private boolean enabled;
+
+    @Value("${telematics.columnar.batch-readings:500}")
+    private int batchReadings = 500;
+
+    @Value("${telematics.columnar.stripes:0}")
+    private int stripeCount;
+
+    private Stripe[] stripes = new Stripe[0];
+
+    // The batch being filled and an empty one to swap in, or null while that one is being published
+    private static final class Stripe {
+        private ColumnarTelematicsBatch filling;
+        private ColumnarTelematicsBatch spare;
+
+        private Stripe(int capacity) {
+            this.filling = new ColumnarTelematicsBatch(capacity);
+            this.spare = new ColumnarTelematicsBatch(capacity);
+        }
+    }
+
+    public ColumnarBatchPublisher(RabbitTemplate rabbitTemplate, MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.messagesSentCounter = Counter.builder("telematics.messages.sent")
+            .description("Total number of telematics messages sent to RabbitMQ")
+            .register(meterRegistry);
+        this.messagesFailedCounter = Counter.builder("telematics.messages.failed")
+            .description("Total number of telematics messages that failed to send")
+            .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("telematics.columnar.batch.readings")
+            .description("Reports per published columnar batch")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (batchReadings < 1) {
+            throw new IllegalStateException("telematics.columnar.batch-readings must be positive, got " + batchReadings);
+        }
+        if (!enabled) {
+            return;
+        }
+        int count = stripeCount > 0 ? stripeCount : Runtime.getRuntime().availableProcessors();
+        stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(batchReadings);
+        }
+        logger.info("🧱 Columnar batches: up to {} reports per message across {} stripes", batchReadings, count);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Add a report of {@code driver} to its stripe's batch, and publish the batch once it is full
+     * or when the report does not fit.
+     */
+    public void add(Driver driver, FlatTelematicsMessage message) {
+        Stripe stripe = stripeOf(driver);
+        ColumnarTelematicsBatch full;
+        synchronized (stripe) {
+            if (stripe.filling.add(message)) {
+                if (stripe.filling.size() < stripe.filling.capacity()) {
+                    return;
+                }
+                full = swap(stripe);
+            } else {
+                // Too far in time from the batch's last reading to delta-encode: start a new batch
+                full = swap(stripe);
+                stripe.filling.add(message);
+            }
+        }
+        publish(stripe, full);
+    }
+
+    /**
+     * Publish every non-empty batch; runs once per window.
+     */
+    @Scheduled(fixedDelayString = "${telematics.columnar.window-ms:1000}")
+    @PreDestroy
+    public void flush() {
+        for (Stripe stripe : stripes) {
+            ColumnarTelematicsBatch pending;
+            synchronized (stripe) {
+                if (stripe.filling.size() == 0) {
+                    continue;
+                }
+                pending = swap(stripe);
+            }
+            publish(stripe, pending);
+        }
+    }
+
+    private Stripe stripeOf(Driver driver) {
+        int width = Math.max(1, (driver.getFleetState().size() + stripes.length - 1) / stripes.length);
+        return stripes[Math.min(driver.getSlot() / width, stripes.length - 1)];
+    }
+
+    // Caller holds the stripe's lock; returns the batch to publish
+    private ColumnarTelematicsBatch swap(Stripe stripe) {
+        ColumnarTelematicsBatch full = stripe.filling;
+        // Only when the previous batch of this stripe is still being published
+        stripe.filling = stripe.spare != null ? stripe.spare : new ColumnarTelematicsBatch(batchReadings);
+        stripe.spare = null;
+        return full;
+    }
+
+    private void publish(Stripe stripe, ColumnarTelematicsBatch batch) {
+        int reports = batch.size();
+        try {
+            rabbitTemplate.convertAndSend(exchangeName, "", batch);
+            messagesSentCounter.increment(reports);
+            batchSizes.record(reports);
+            logger.debug("🧱 BATCH | {} reports from {} drivers", reports, batch.driverCount());
+        } catch (Exception e) {
+            logger.error("Failed to publish columnar batch of {} reports: {}", reports, e.getMessage(), e);
+            messagesFailedCounter.increment(reports);
+        } finally {
+            batch.clear();
+            synchronized (stripe) {
+                if (stripe.spare == null) {
+                    stripe.spare = batch;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes crash events with publisher confirms without blocking the caller.
+ * <p>
+ * Each attempt is sent with its own correlation id and tracked in a correlation map until the
+ * broker acks or nacks it, or {@code confirm-timeout-ms} passes. Completion runs as a callback on
+ * the confirm thread; failed attempts are resent from a separate retry scheduler with linear
+ * backoff, up to {@code max-attempts}. At most {@code max-outstanding} attempts are unconfirmed at
+ * once; events that find the window full queue in order until a confirm frees a slot, without
+ * using up an attempt, so only nacks, timeouts and send errors count against {@code max-attempts}.
+ * <p>
+ * Delivery is at least once: an attempt that times out is resent, and if the broker acks the
+ * first one late after all, consumers receive the event twice.
+ */
+@Service
+public class CrashEventPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(CrashEventPublisher.class);
+
+    private record InFlight(FlatTelematicsMessage message, int attempt, long sentNanos) {}
+
+    private record Waiting(FlatTelematicsMessage message, int attempt) {}
+
+    private final RabbitTemplate rabbitTemplate;
+    private final TelematicsRateService rateService;
+    private final Counter messagesSentCounter;
+    private final Counter messagesFailedCounter;
+    private final Counter messagesRetriedCounter;
+    private final Timer confirmLatency;
+    private final Map<String, InFlight> outstanding = new ConcurrentHashMap<>();
+    private final Queue<Waiting> waiting = new ConcurrentLinkedQueue<>();
+
+    @Value("${telematics.exchange.name:telematics_exchange}")
+    private String exchangeName;
+
+    @Value("${telematics.crash-confirm.max-outstanding:256}")
+    private int maxOutstanding = 256;
+
+    @Value("${telematics.crash-confirm.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    @Value("${telematics.crash-confirm.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs = 5000;
+
+    @Value("${telematics.crash-confirm.retry-backoff-ms:100}")
+    private long retryBackoffMs = 100;
+
+    private Semaphore window;
+    private ScheduledExecutorService retryScheduler;
+
+    public CrashEventPublisher(RabbitTemplate rabbitTemplate, TelematicsRateService rateService,
+                               MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.rateService = rateService;
+        this.messagesSentCounter = Counter.builder("telematics.messages.sent")
+            .description("Total number of telematics messages sent to RabbitMQ")
+            .register(meterRegistry);
+        this.messagesFailedCounter = Counter.builder("telematics.messages.failed")
+            .description("Total number of telematics messages that failed to send")
+            .register(meterRegistry);
+        this.messagesRetriedCounter = Counter.builder("telematics.messages.retried")
+            .description("Total number of telematics message retry attempts")
+            .register(meterRegistry);
+        this.confirmLatency = Timer.builder("telematics.crash.confirm.latency")
+            .description("Time from sending a crash event to the broker's ack")
+            .register(meterRegistry);
+        Gauge.builder("telematics.crash.confirms.outstanding", outstanding, Map::size)
+            .description("Crash event attempts waiting for a publisher confirm")
+            .register(meterRegistry);
+        Gauge.builder("telematics.crash.confirms.waiting", waiting, Queue::size)
+            .description("Crash events waiting for a free slot in the confirm window")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (maxOutstanding < 1 || maxAttempts < 1) {
+            throw new IllegalStateException("telematics.crash-confirm limits must be positive, got max-outstanding="
+                + maxOutstanding + ", max-attempts=" + maxAttempts);
+        }
+        window = new Semaphore(maxOutstanding);
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("crash-confirm-retry").daemon(true).factory());
+        logger.info("🚨 Crash events confirmed asynchronously: up to {} outstanding, {} attempts, {} ms confirm timeout",
+            maxOutstanding, maxAttempts, confirmTimeoutMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (retryScheduler != null) {
+            retryScheduler.shutdownNow();
+        }
+        if (!outstanding.isEmpty() || !waiting.isEmpty()) {
+            logger.warn("⚠️ Shutting down with {} crash events unconfirmed and {} not yet sent",
+                outstanding.size(), waiting.size());
+        }
+    }
+
+    public int getOutstanding() {
+        return outstanding.size();
+    }
+
+    /**
+     * Send a crash event and return at once; the outcome is logged and counted when it is known.
+     */
+    public void publish(FlatTelematicsMessage message) {
+        send(message, 1);
+    }
+
+    private void send(FlatTelematicsMessage message, int attempt) {
+        // Behind any events already waiting, so a full window keeps them in order
+        waiting.add(new Waiting(message, attempt));
+        sendWaiting();
+    }
+
+    /**
+     * Send waiting events while the window has room. Runs after every enqueue and every settled
+     * attempt, so an event queued just as a slot is released is not left behind.
+     */
+    private void sendWaiting() {
+        while (!waiting.isEmpty() && window.tryAcquire()) {
+            Waiting next = waiting.poll();
+            if (next == null) {
+                // Taken by another thread; look again in case one was added meanwhile
+                window.release();
+                continue;
+            }
+            transmit(next.message(), next.attempt());
+        }
+    }
+
+    private void transmit(FlatTelematicsMessage message, int attempt) {
+        String correlationId = UUID.randomUUID().toString();
+        CorrelationData correlationData = new CorrelationData(correlationId);
+        outstanding.put(correlationId, new InFlight(message, attempt, System.nanoTime()));
+        correlationData.getFuture()
+            .orTimeout(confirmTimeoutMs, TimeUnit.MILLISECONDS)
+            .whenComplete((confirm, error) -> {
+                String reason;
+                if (error instanceof TimeoutException) {
+                    reason = "timeout";
+                } else if (error != null) {
+                    reason = error.getMessage();
+                } else {
+                    reason = confirm.isAck() ? null : confirm.getReason();
+                }
+                complete(correlationId, reason);
+            });
+        try {
+            rabbitTemplate.convertAndSend(exchangeName, "", message, correlationData);
+        } catch (Exception e) {
+            correlationData.getFuture().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Settle an attempt once; {@code reason} is null for an ack.
+     */
+    private void complete(String correlationId, String reason) {
+        InFlight inFlight = outstanding.remove(correlationId);
+        if (inFlight == null) {
+            return;
+        }
+        window.release();
+        if (!waiting.isEmpty()) {
+            try {
+                // Off the confirm thread, like retries
+                retryScheduler.execute(this::sendWaiting);
+            } catch (RejectedExecutionException e) {
+                logger.debug("Crash publisher stopped with {} events waiting", waiting.size());
+            }
+        }
+        FlatTelematicsMessage message = inFlight.message();
+        if (reason == null) {
+            long latencyNanos = System.nanoTime() - inFlight.sentNanos();
+            confirmLatency.record(latencyNanos, TimeUnit.NANOSECONDS);
+            messagesSentCounter.increment();
+            rateService.incrementMessageCount();
+            logger.info("🚨📡 CRASH EVENT CONFIRMED | Driver:{} | Speed:{} mph | SpeedLimit:{} mph | G-force:{}g | Street:{} | Type:{} | correlationId={} | {} ms",
+                message.driverId(),
+                String.format("%.2f", message.speedMph()),
+                message.speedLimitMph(),
+                String.format("%.2f", message.gForce()),
+                message.currentStreet(),
+                message.accidentType(),
+                correlationId,
+                TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+        } else {
+            retry(message, inFlight.attempt(), reason);
+        }
+    }
+
+    private void retry(FlatTelematicsMessage message, int attempt, String reason) {
+        if (attempt >= maxAttempts) {
+            messagesFailedCounter.increment();
+            logger.error("❌ CRASH EVENT LOST after {} attempts: driver={}, G-force={}, reason={}",
+                attempt, message.driverId(), message.gForce(), reason);
+            return;
+        }
+        logger.warn("⚠️ Crash event not confirmed, attempt {}/{}: driver={}, reason={}",
+            attempt, maxAttempts, message.driverId(), reason);
+        messagesRetriedCounter.increment();
+        try {
+            retryScheduler.schedule(() -> send(message, attempt + 1), retryBackoffMs * attempt, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            messagesFailedCounter.increment();
+            logger.error("❌ CRASH EVENT LOST, retry not scheduled: driver={}, error={}", message.driverId(), e.getMessage());
+        }
+    }
+}
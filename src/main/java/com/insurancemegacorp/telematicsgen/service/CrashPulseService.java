@@ -0,0 +1,76 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.AccidentType;
+import com.insurancemegacorp.telematicsgen.model.CrashPulse;
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.function.Consumer;
+
+/**
+ * Follows each published crash event with a high-rate sensor burst around the impact (see
+ * {@link CrashPulse}), when enabled. {@link TelematicsPublisher} asks for the burst on its crash
+ * path, so every crash gets one however it was triggered. Crashes are rare, so one buffer sized
+ * for the configured rate and window is shared and refilled under a lock.
+ */
+@Service
+public class CrashPulseService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CrashPulseService.class);
+
+    private final TelematicsDataGenerator dataGenerator;
+
+    @Value("${telematics.crash-pulse.enabled:false}")
+    private boolean enabled;
+
+    @Value("${telematics.crash-pulse.sample-rate-hz:100}")
+    private int sampleRateHz = 100;
+
+    @Value("${telematics.crash-pulse.window-ms:2000}")
+    private int windowMs = 2000;
+
+    private CrashPulse pulse;
+
+    public CrashPulseService(TelematicsDataGenerator dataGenerator) {
+        this.dataGenerator = dataGenerator;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (sampleRateHz < 100 || sampleRateHz > 1000) {
+            throw new IllegalStateException("telematics.crash-pulse.sample-rate-hz must be 100-1000, got " + sampleRateHz);
+        }
+        if (windowMs <= 0) {
+            throw new IllegalStateException("telematics.crash-pulse.window-ms must be positive, got " + windowMs);
+        }
+        pulse = new CrashPulse((int) ((long) windowMs * sampleRateHz / 1000));
+        if (enabled) {
+            logger.info("📈 Crash pulses enabled: {} ms around impact at {} Hz ({} samples)",
+                windowMs, sampleRateHz, pulse.capacity());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Generate the burst for a crash event just published for {@code driver} and hand it to
+     * {@code publish}, which must be done with the buffer when it returns.
+     */
+    public synchronized void publishFor(Driver driver, FlatTelematicsMessage crashMessage,
+                                        Consumer<CrashPulse> publish) {
+        if (!enabled || crashMessage.accidentType() == null) {
+            return;
+        }
+        AccidentType accidentType = AccidentType.valueOf(crashMessage.accidentType());
+        dataGenerator.generateCrashPulse(driver, accidentType, crashMessage.eventTime().toEpochMilli(),
+            sampleRateHz, windowMs, pulse);
+        publish.accept(pulse);
+    }
+}
@@ -10,8 +10,8 @@ import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.security.SecureRandom;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Service for managing driver daily routines.
@@ -24,7 +24,6 @@ public class DailyRoutineService {
     
     private final List<DailyRoutine> dailyRoutines = new ArrayList<>();
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final SecureRandom random = new SecureRandom();
     private final FileBasedRouteService routeService;
     
     public DailyRoutineService(FileBasedRouteService routeService) {
@@ -70,9 +69,9 @@ public class DailyRoutineService {
     
     /**
      * Generate a daily sequence for a driver.
-     * 90% chance of standard sequence, 10% chance of randomized order.
+     * 90% chance of standard sequence, 10% chance of randomized order, drawn from the driver's stream.
      */
-    public List<String> generateDailySequence(int driverId) {
+    public List<String> generateDailySequence(int driverId, RandomGenerator random) {
         Optional<DailyRoutine> routineOpt = getRoutineForDriver(driverId);
         if (routineOpt.isEmpty()) {
             logger.warn("⚠️ No daily routine found for driver {}", driverId);
@@ -129,9 +128,11 @@ public class DailyRoutineService {
     }
     
     /**
-     * Get the next route segment for a driver based on their daily routine
+     * Get the next route segment for a driver based on their daily routine; {@code random} is the
+     * driver's stream, used if the segment has no route of its own
      */
-    public Optional<List<RoutePoint>> getNextRouteSegment(int driverId, String currentLocation, String nextLocation) {
+    public Optional<List<RoutePoint>> getNextRouteSegment(int driverId, String currentLocation, String nextLocation,
+                                                          RandomGenerator random) {
         Optional<DailyRoutine> routineOpt = getRoutineForDriver(driverId);
         if (routineOpt.isEmpty()) {
             logger.debug("🔍 No daily routine found for driver {}, using random route", driverId);
@@ -148,7 +149,7 @@ public class DailyRoutineService {
         }
         
         // Get route from FileBasedRouteService
-        List<RoutePoint> route = routeService.getDailyRouteForDriver(driverName, currentLocation, nextLocation);
+        List<RoutePoint> route = routeService.getDailyRouteForDriver(driverName, currentLocation, nextLocation, random);
         logger.info("🗺️ Driver {} ({}) following route: {} → {} ({} waypoints)", 
             driverId, driverName, currentLocation, nextLocation, route.size());
         
@@ -158,8 +159,8 @@ public class DailyRoutineService {
     /**
      * Get the next location in a driver's daily sequence
      */
-    public Optional<String> getNextLocationInSequence(int driverId, String currentLocation) {
-        List<String> sequence = generateDailySequence(driverId);
+    public Optional<String> getNextLocationInSequence(int driverId, String currentLocation, RandomGenerator random) {
+        List<String> sequence = generateDailySequence(driverId, random);
         if (sequence.isEmpty()) {
             return Optional.empty();
         }
@@ -6,19 +6,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Enhanced routing service that generates dynamic routes to random destinations
- * within a configurable radius around Atlanta
+ * within a configurable radius around Atlanta. Callers pass the driver's own random stream.
  */
 @Service
 public class DestinationRouteService {
 
     private static final Logger logger = LoggerFactory.getLogger(DestinationRouteService.class);
-    private final SecureRandom random = new SecureRandom();
     
     // Atlanta center coordinates
     private static final double ATLANTA_CENTER_LAT = 33.7490;
@@ -50,7 +49,7 @@ public class DestinationRouteService {
     /**
      * Generate a random destination within the circular boundary around Atlanta
      */
-    public Destination generateRandomDestination() {
+    public Destination generateRandomDestination(RandomGenerator random) {
         // Generate random distance between min and max radius
         double distance = MIN_TRIP_DISTANCE_MILES + 
                          (random.nextDouble() * (MAX_RADIUS_MILES - MIN_TRIP_DISTANCE_MILES));
@@ -74,7 +73,7 @@ public class DestinationRouteService {
      * with multiple waypoints for smooth movement
      */
     public List<RoutePoint> generateRouteToDestination(
-            double startLat, double startLon, Destination destination) {
+            double startLat, double startLon, Destination destination, RandomGenerator random) {
         
         List<RoutePoint> route = new ArrayList<>();
         
@@ -106,14 +105,14 @@ public class DestinationRouteService {
                 startLat, startLon, segmentDistance, currentBearing);
             
             // Determine speed limit based on distance from city center
-            int speedLimit = determineSpeedLimit(coords[0], coords[1], totalDistance, progress);
+            int speedLimit = determineSpeedLimit(coords[0], coords[1], totalDistance, progress, random);
             
             // Determine if this is an intersection (more likely in urban areas)
-            boolean isIntersection = shouldBeIntersection(coords[0], coords[1], i, numWaypoints);
-            String intersectionType = isIntersection ? selectIntersectionType() : "none";
+            boolean isIntersection = shouldBeIntersection(coords[0], coords[1], i, numWaypoints, random);
+            String intersectionType = isIntersection ? selectIntersectionType(random) : "none";
             
             // Generate street name
-            String streetName = generateStreetName(i, numWaypoints, destination);
+            String streetName = generateStreetName(i, numWaypoints, destination, random);
             
             RoutePoint waypoint = new RoutePoint(
                 coords[0], coords[1], streetName, speedLimit, isIntersection, intersectionType);
@@ -158,7 +157,7 @@ public class DestinationRouteService {
      * Determine appropriate speed limit based on location and route characteristics.
      * Uses realistic US speed limits: 25, 30, 35, 45, 55, 65, 70 mph.
      */
-    private int determineSpeedLimit(double lat, double lon, double totalDistance, double progress) {
+    private int determineSpeedLimit(double lat, double lon, double totalDistance, double progress, RandomGenerator random) {
         // Distance from Atlanta center (in miles)
         double distanceFromCenter = Destination.calculateDistance(
             ATLANTA_CENTER_LAT, ATLANTA_CENTER_LON, lat, lon);
@@ -183,7 +182,7 @@ public class DestinationRouteService {
     /**
      * Determine if a waypoint should be an intersection
      */
-    private boolean shouldBeIntersection(double lat, double lon, int waypointIndex, int totalWaypoints) {
+    private boolean shouldBeIntersection(double lat, double lon, int waypointIndex, int totalWaypoints, RandomGenerator random) {
         // More intersections in urban areas
         double distanceFromCenter = Destination.calculateDistance(
             ATLANTA_CENTER_LAT, ATLANTA_CENTER_LON, lat, lon);
@@ -208,7 +207,7 @@ public class DestinationRouteService {
     /**
      * Select a random intersection type
      */
-    private String selectIntersectionType() {
+    private String selectIntersectionType(RandomGenerator random) {
         String[] types = {"traffic_light", "stop_sign", "yield", "none"};
         double[] probabilities = {0.4, 0.3, 0.2, 0.1}; // Traffic lights most common
         
@@ -228,7 +227,7 @@ public class DestinationRouteService {
     /**
      * Generate a realistic street name for the waypoint
      */
-    private String generateStreetName(int waypointIndex, int totalWaypoints, Destination destination) {
+    private String generateStreetName(int waypointIndex, int totalWaypoints, Destination destination, RandomGenerator random) {
         if (waypointIndex == totalWaypoints) {
             return destination.name();
         }
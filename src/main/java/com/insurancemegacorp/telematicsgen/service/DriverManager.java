@@ -2,29 +2,47 @@ package com.insurancemegacorp.telematicsgen.service;
 
 import com.insurancemegacorp.telematicsgen.model.Driver;
 import com.insurancemegacorp.telematicsgen.model.DriverState;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
 import com.insurancemegacorp.telematicsgen.model.RoutePoint;
+import com.insurancemegacorp.telematicsgen.util.RandomStreams;
+import com.insurancemegacorp.telematicsgen.util.SimulationClock;
+import com.insurancemegacorp.telematicsgen.util.TimerWheel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.security.SecureRandom;
 import java.util.concurrent.ThreadLocalRandom;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.SplittableRandom;
 
 
 @Service
 public class DriverManager {
 
     private static final Logger logger = LoggerFactory.getLogger(DriverManager.class);
-    private final SecureRandom random = new SecureRandom();
-    private final List<Driver> drivers = new CopyOnWriteArrayList<>();
+    // Synthetic fleet members get IDs well above the configured ranges
+    private static final int SYNTHETIC_DRIVER_ID_BASE = 10_000_000;
+    private static final int SYNTHETIC_POLICY_ID_BASE = 20_000_000;
+    private static final int SYNTHETIC_VEHICLE_ID_BASE = 30_000_000;
+    private static final int MAX_DRIVERS_LOGGED_INDIVIDUALLY = 100;
+    private static final long STATE_TIMER_TICK_MS = 100;
+
+    // Pending exit from a stationary state, valid only while the driver is still in it
+    private record StateTimer(FleetState fleet, int slot, DriverState state, long enteredAtMillis) {}
+
+    // Immutable snapshot of the fleet, replaced as a whole on initialization
+    private volatile List<Driver> drivers = List.of();
+    private volatile FleetState fleetState = new FleetState(0);
+    private volatile TimerWheel<StateTimer> stateTimers;
     private final FileBasedRouteService routeService;
     private final DriverConfigService driverConfigService;
     private final DailyRoutineService dailyRoutineService;
+    private final SimulationClock clock;
 
     @Value("${telematics.behavior.post-crash-idle-minutes:10}")
     private int postCrashIdleMinutes;
@@ -38,6 +56,13 @@ public class DriverManager {
     @Value("${telematics.simulation.max-drivers:0}")
     private int maxDrivers;
 
+    @Value("${telematics.simulation.fleet-size:0}")
+    private int fleetSize;
+
+    // Run seed for the per-driver random streams; 0 picks a fresh one, which is logged for replay
+    @Value("${telematics.simulation.seed:0}")
+    private long seed;
+
     // Time-based behavior configuration
     @Value("${telematics.behavior.night-start-hour:20}")
     private int nightStartHour;
@@ -59,14 +84,18 @@ public class DriverManager {
 
     private volatile boolean randomAccidentsEnabled = false;
 
-    public DriverManager(FileBasedRouteService routeService, DriverConfigService driverConfigService, DailyRoutineService dailyRoutineService) {
+    public DriverManager(FileBasedRouteService routeService, DriverConfigService driverConfigService,
+                         DailyRoutineService dailyRoutineService, SimulationClock clock) {
         this.routeService = routeService;
         this.driverConfigService = driverConfigService;
         this.dailyRoutineService = dailyRoutineService;
+        this.clock = clock;
+        this.stateTimers = new TimerWheel<>(STATE_TIMER_TICK_MS, clock.millis());
+        fleetState.setClock(clock);
     }
 
     public void initializeDrivers(String basePolicyId, double baseLatitude, double baseLongitude) {
-        drivers.clear();
+        drivers = List.of();
         
         // Load driver configurations from file
         List<com.insurancemegacorp.telematicsgen.model.DriverConfig> driverConfigs = driverConfigService.getAllDriverConfigs();
@@ -82,8 +111,23 @@ public class DriverManager {
         
         logger.info("🚗 Initializing {} drivers from file-based configuration...", driverConfigs.size());
         
+        // Build the fleet locally and publish it in one step; drivers are views over
+        // consecutive slots of a single struct-of-arrays store
+        int capacity = Math.max(fleetSize, driverConfigs.size());
+        long runSeed = seed != 0 ? seed : RandomStreams.randomSeed();
+        logger.info("🎲 Run seed {} (set telematics.simulation.seed to replay this run)", runSeed);
+        FleetState state = new FleetState(capacity, runSeed);
+        state.setClock(clock);
+        stateTimers = new TimerWheel<>(STATE_TIMER_TICK_MS, clock.millis());
+        state.setStateListener((slot, newState, changedAtMillis) -> onStateEntered(state, slot, newState, changedAtMillis));
+        fleetState = state;
+        List<Driver> fleet = new ArrayList<>(capacity);
+        List<com.insurancemegacorp.telematicsgen.model.DriverConfig> templates = new ArrayList<>();
+        List<List<RoutePoint>> templateRoutes = new ArrayList<>();
+        
         for (com.insurancemegacorp.telematicsgen.model.DriverConfig config : driverConfigs) {
             try {
+                SplittableRandom driverRandom = state.randomFor(config.getDriverId());
                 // Use preferred route if available, otherwise random route
                 List<RoutePoint> route;
                 if (config.preferredRoute() != null && !config.preferredRoute().isEmpty()) {
@@ -91,10 +135,10 @@ public class DriverManager {
                     if (route == null) {
                         logger.warn("⚠️ Preferred route '{}' not found for driver {}, using random route", 
                             config.preferredRoute(), config.getDriverId());
-                        route = routeService.getRandomRoute();
+                        route = routeService.getRandomRoute(driverRandom);
                     }
                 } else {
-                    route = routeService.getRandomRoute();
+                    route = routeService.getRandomRoute(driverRandom);
                 }
                 
                 // Pick a random point along the route as starting position for better distribution
@@ -102,35 +146,21 @@ public class DriverManager {
                     logger.error("❌ Route is empty for driver {}", config.getDriverId());
                     continue; // Skip this driver
                 }
-                int randomIndex = random.nextInt(route.size());
-                RoutePoint startPoint = route.get(randomIndex);
-                
-                // Add small random offset for realistic GPS variation
-                double latOffset = (random.nextDouble() - 0.5) * 0.001; // ~100m GPS variation
-                double lonOffset = (random.nextDouble() - 0.5) * 0.001;
-                double driverLat = startPoint.latitude() + latOffset;
-                double driverLon = startPoint.longitude() + lonOffset;
-                
-                // Create driver with VIN from configuration
-                Driver driver = new Driver(config.getDriverId(), config.policyId(), config.vehicleId(), config.vin(), driverLat, driverLon, config.aggressive());
-                driver.setCurrentRoute(route);
-                driver.setCurrentStreet(startPoint.streetName());
-                driver.setSpeedLimit(startPoint.speedLimit());
-                driver.setRouteIndex(randomIndex); // Start at the random point along the route
-                driver.setCurrentBearing(0.0); // Will be calculated during movement
                 
-                // Randomize initial state for more realistic simulation
-                initializeRandomDriverState(driver);
+                Driver driver = createDriver(config.getDriverId(), config.policyId(), config.vehicleId(), 
+                    config.vin(), config.aggressive(), route, driverRandom);
                 
                 // Initialize daily routine if available
                 initializeDriverDailyRoutine(driver);
                 
-                drivers.add(driver);
+                fleet.add(driver);
+                templates.add(config);
+                templateRoutes.add(List.copyOf(route));
                 
                 logger.info("🚗 Initialized {} ({}) at {} | Vehicle: {} | Route: {} | State: {} | Speed: {} mph", 
                     config.getDisplayName(),
                     config.vin(),
-                    startPoint.streetName(),
+                    driver.getCurrentStreet(),
                     config.getVehicleDescription(),
                     getRouteDescription(route),
                     driver.getCurrentState(), 
@@ -141,24 +171,88 @@ public class DriverManager {
             }
         }
         
+        addSyntheticDrivers(fleet, templates, templateRoutes);
+        drivers = List.copyOf(fleet);
+        
         logger.info("✅ Initialized {} drivers for simulation", drivers.size());
     }
 
+    /**
+     * Grow the fleet to the configured fleet size by cycling through the configured driver
+     * profiles. Replicas share their template's route and behavior profile but get their own
+     * IDs, VIN serial and random start position along the route.
+     */
+    private void addSyntheticDrivers(List<Driver> fleet, 
+                                     List<com.insurancemegacorp.telematicsgen.model.DriverConfig> templates,
+                                     List<List<RoutePoint>> templateRoutes) {
+        if (fleetSize <= fleet.size() || templates.isEmpty()) {
+            return;
+        }
+        int configured = fleet.size();
+        logger.info("🧬 Expanding fleet from {} configured drivers to {} simulated devices", configured, fleetSize);
+        
+        for (int i = configured; i < fleetSize; i++) {
+            int template = i % templates.size();
+            com.insurancemegacorp.telematicsgen.model.DriverConfig config = templates.get(template);
+            String vin = config.vin().substring(0, Math.min(11, config.vin().length())) + String.format("%06d", i % 1_000_000);
+            int driverId = SYNTHETIC_DRIVER_ID_BASE + i;
+            Driver driver = createDriver(driverId, SYNTHETIC_POLICY_ID_BASE + i, 
+                SYNTHETIC_VEHICLE_ID_BASE + i, vin, config.aggressive(), templateRoutes.get(template),
+                fleetState.randomFor(driverId));
+            fleet.add(driver);
+            logger.debug("🚗 Initialized synthetic driver {} from template {}", driver.getDriverId(), config.getDriverId());
+        }
+    }
+
+    private Driver createDriver(int driverId, int policyId, int vehicleId, String vin, boolean aggressive,
+                                List<RoutePoint> route, SplittableRandom random) {
+        int randomIndex = random.nextInt(route.size());
+        RoutePoint startPoint = route.get(randomIndex);
+        
+        // Add small random offset for realistic GPS variation
+        double latOffset = (random.nextDouble() - 0.5) * 0.001; // ~100m GPS variation
+        double lonOffset = (random.nextDouble() - 0.5) * 0.001;
+        double driverLat = startPoint.latitude() + latOffset;
+        double driverLon = startPoint.longitude() + lonOffset;
+        
+        // Create driver with VIN from configuration
+        Driver driver = fleetState.add(driverId, policyId, vehicleId, vin, driverLat, driverLon, aggressive, random);
+        driver.setCurrentRoute(route);
+        driver.setCurrentStreet(startPoint.streetName());
+        driver.setSpeedLimit(startPoint.speedLimit());
+        driver.setRouteIndex(randomIndex); // Start at the random point along the route
+        driver.setCurrentBearing(0.0); // Will be calculated during movement
+        
+        // Randomize initial state for more realistic simulation
+        initializeRandomDriverState(driver);
+        return driver;
+    }
+
     public List<Driver> getAllDrivers() {
-        return List.copyOf(drivers);
+        return drivers;
+    }
+
+    /**
+     * The struct-of-arrays store backing the current fleet; slot order matches {@link #getAllDrivers()}.
+     */
+    public FleetState getFleetState() {
+        return fleetState;
     }
 
     public Driver selectDriverForMessage() {
-        if (drivers.isEmpty()) {
+        List<Driver> fleet = drivers;
+        if (fleet.isEmpty()) {
             throw new IllegalStateException("No drivers initialized");
         }
         
-        // Round-robin selection with some variation
-        int index = ThreadLocalRandom.current().nextInt(drivers.size());
-        return drivers.get(index);
+        // Pacing-level pick, deliberately not drawn from any driver's stream
+        int index = ThreadLocalRandom.current().nextInt(fleet.size());
+        return fleet.get(index);
     }
 
     public void updateDriverBehavior(Driver driver) {
+        // Apply changes other threads handed to this driver's owner since the last visit
+        driver.runPosted();
         updateDriverState(driver);
         
         if (driver.getCurrentState() == DriverState.DRIVING) {
@@ -168,59 +262,103 @@ public class DriverManager {
         // maintain their current coordinates and don't move until they resume DRIVING
     }
 
+    /**
+     * Only DRIVING needs work per visit. Leaving the stationary states is driven by
+     * the state timers scheduled when the driver entered them, see {@link #onStateEntered},
+     * whose expiries are applied at the start of a visit.
+     */
     private void updateDriverState(Driver driver) {
-        long timeInCurrentState = driver.getTimeInCurrentStateSeconds();
+        if (driver.getCurrentState() != DriverState.DRIVING) {
+            return;
+        }
         
-        switch (driver.getCurrentState()) {
+        // Check for crash event
+        if (shouldSimulateCrash(driver)) {
+            logger.warn("💥 Driver {} experiencing crash event!", driver.getDriverId());
+            driver.recordCrashEvent();
+            return;
+        }
+        
+        // Time-based chance to stop for various reasons
+        double stopProbability = calculateStopProbability();
+        if (driver.getRandom().nextDouble() < stopProbability) {
+            DriverState newState = selectRandomStopState(driver.getRandom());
+            logger.info("🛑 {} stopping: {} ({})", driver.getDriverId(), newState,
+                isNightTime() ? "night parking" : "normal stop");
+            driver.setCurrentState(newState);
+            driver.setCurrentSpeed(0.0);
+        }
+    }
+
+    /**
+     * Schedule when a driver leaves the state it just entered. Durations are drawn once on
+     * entry: fixed for crash idle and breaks, 30-90s for traffic stops, and for parked drivers
+     * 30s plus an exponential wait matching the per-report start chance at one report per second.
+     */
+    private void onStateEntered(FleetState state, int slot, DriverState newState, long changedAtMillis) {
+        SplittableRandom random = state.random(slot);
+        long delayMillis = switch (newState) {
+            case POST_CRASH_IDLE -> postCrashIdleMinutes * 60_000L;
+            case TRAFFIC_STOP -> (30 + random.nextInt(60)) * 1000L;
+            case BREAK_TIME -> breakDurationMinutes * 60_000L;
+            case PARKED -> {
+                double drivingProbability = Math.max(1e-6, calculateDrivingProbability());
+                double waitSeconds = -Math.log(1.0 - random.nextDouble()) / drivingProbability;
+                yield 30_000L + (long) (waitSeconds * 1000);
+            }
+            case DRIVING -> -1;
+        };
+        if (delayMillis >= 0) {
+            stateTimers.schedule(new StateTimer(state, slot, newState, changedAtMillis), changedAtMillis + delayMillis);
+        }
+    }
+
+    /**
+     * Fire due state timers. Runs on the scheduler thread, which never touches a slot itself:
+     * each expiry is posted to the driver's owner and applied on its next visit, see
+     * {@link #onStateExpired}. Synchronized so a caller stepping the clock by hand (backfill)
+     * only returns once every due expiry has been posted, whichever thread picked it up, which
+     * keeps seeded runs reproducible.
+     */
+    @Scheduled(fixedRate = STATE_TIMER_TICK_MS)
+    public synchronized void fireStateTimers() {
+        stateTimers.advance(clock.millis(), timer -> {
+            if (timer.fleet() == fleetState) {
+                timer.fleet().post(timer.slot(), driver -> onStateExpired(timer));
+            }
+        });
+    }
+
+    /**
+     * Leave the stationary state a timer was set for; runs on the driver's owning thread.
+     */
+    private void onStateExpired(StateTimer timer) {
+        FleetState state = timer.fleet();
+        int slot = timer.slot();
+        // Ignore timers for a driver that has left the state in the meantime
+        if (state.state(slot) != timer.state() || state.stateChangeMillis(slot) != timer.enteredAtMillis()) {
+            return;
+        }
+        int driverId = state.driverId(slot);
+        switch (timer.state()) {
             case POST_CRASH_IDLE -> {
-                // Stay idle for configured time after crash
-                if (timeInCurrentState >= postCrashIdleMinutes * 60) {
-                    logger.info("🏁 {} resuming after {}-minute crash idle period", 
-                        driver.getDriverId(), postCrashIdleMinutes);
-                    driver.setCurrentState(DriverState.PARKED);
-                }
+                logger.info("🏁 {} resuming after {}-minute crash idle period", driverId, postCrashIdleMinutes);
+                state.setState(slot, DriverState.PARKED);
             }
             case PARKED -> {
-                // Time-based chance to start driving
-                double drivingProbability = calculateDrivingProbability();
-                if (timeInCurrentState > 30 && ThreadLocalRandom.current().nextDouble() < drivingProbability) {
-                    logger.info("🚙 {} starting to drive ({})", driver.getDriverId(), 
-                        isNightTime() ? "night driving" : isPeakHour() ? "peak hour" : "normal hours");
-                    driver.setCurrentState(DriverState.DRIVING);
-                }
-            }
-            case DRIVING -> {
-                // Check for crash event
-                if (shouldSimulateCrash(driver)) {
-                    logger.warn("💥 Driver {} experiencing crash event!", driver.getDriverId());
-                    driver.recordCrashEvent();
-                    return;
-                }
-                
-                // Time-based chance to stop for various reasons
-                double stopProbability = calculateStopProbability();
-                if (ThreadLocalRandom.current().nextDouble() < stopProbability) {
-                    DriverState newState = selectRandomStopState();
-                    logger.info("🛑 {} stopping: {} ({})", driver.getDriverId(), newState,
-                        isNightTime() ? "night parking" : "normal stop");
-                    driver.setCurrentState(newState);
-                    driver.setCurrentSpeed(0.0);
-                }
+                logger.info("🚙 {} starting to drive ({})", driverId,
+                    isNightTime() ? "night driving" : isPeakHour() ? "peak hour" : "normal hours");
+                state.setState(slot, DriverState.DRIVING);
             }
             case TRAFFIC_STOP -> {
-                // Short stops (traffic lights, etc.)
-                if (timeInCurrentState >= 30 + ThreadLocalRandom.current().nextInt(60)) {
-                    logger.info("🚦 {} resuming from traffic stop", driver.getDriverId());
-                    driver.setCurrentState(DriverState.DRIVING);
-                }
+                logger.info("🚦 {} resuming from traffic stop", driverId);
+                state.setState(slot, DriverState.DRIVING);
             }
             case BREAK_TIME -> {
-                // Longer breaks
-                if (timeInCurrentState >= breakDurationMinutes * 60) {
-                    logger.info("☕ {} resuming from break", driver.getDriverId());
-                    driver.setCurrentState(DriverState.DRIVING);
-                }
+                logger.info("☕ {} resuming from break", driverId);
+                state.setState(slot, DriverState.DRIVING);
             }
+            case DRIVING -> { }
         }
     }
 
@@ -299,6 +437,7 @@ public class DriverManager {
     }
     
     private void simulateRandomMovement(Driver driver) {
+        SplittableRandom random = driver.getRandom();
         // Fallback random movement (original logic)
         double latMovement = (random.nextDouble() - 0.5) * 0.0001;
         double lonMovement = (random.nextDouble() - 0.5) * 0.0001;
@@ -310,6 +449,7 @@ public class DriverManager {
     }
     
     private void updateDrivingSpeed(Driver driver) {
+        SplittableRandom random = driver.getRandom();
         if (driver.getCurrentSpeed() == 0.0) {
             driver.setCurrentSpeed(15.0 + random.nextDouble() * 30.0); // Start moving
         } else {
@@ -317,10 +457,23 @@ public class DriverManager {
             double speedVariation = (random.nextDouble() - 0.5) * 5.0;
             double newSpeed = Math.max(10.0, Math.min(50.0, driver.getCurrentSpeed() + speedVariation));
             driver.setCurrentSpeed(newSpeed);
+
+            // Harsh events change the speed itself, so the reported acceleration follows from it
+            // Aggressive: 5% hard braking, 5% rapid acceleration (10% total events)
+            // Normal: 2% hard braking, 2% rapid acceleration (4% total events)
+            double hardBrakingThreshold = driver.isAggressive() ? 0.05 : 0.02;
+            double rapidAccelThreshold = driver.isAggressive() ? 0.10 : 0.04;
+            double eventRoll = random.nextDouble();
+            if (eventRoll < hardBrakingThreshold) {
+                driver.harshManeuver(-0.9 - random.nextDouble() * 0.5); // -0.9 to -1.4 g
+            } else if (eventRoll < rapidAccelThreshold) {
+                driver.harshManeuver(0.8 + random.nextDouble() * 0.4); // 0.8 to 1.2 g
+            }
         }
     }
     
     private void updateSpeedForRoutePoint(Driver driver, RoutePoint point) {
+        SplittableRandom random = driver.getRandom();
         if (point.hasTrafficLight()) {
             driver.setCurrentSpeed(Math.max(10.0, driver.getCurrentSpeed() * 0.7));
             return;
@@ -422,24 +575,17 @@ public class DriverManager {
         
         // Very low probability crash simulation - more realistic frequency
         // Approximately 1 crash per 10,000 messages (roughly once every 1.4 hours at 500ms intervals)
-        return random.nextDouble() < 0.0001;
+        return driver.getRandom().nextDouble() < 0.0001;
     }
     
     /**
-     * Manually trigger an accident for a specific driver (for demo purposes).
-     * If the driver is stopped at a traffic light, they will be rear-ended.
-     * Otherwise, a random accident type is assigned.
+     * Whether a demo accident may be triggered for the driver now: not already in crash idle
+     * and not within five minutes of its last crash. A driver stopped at a traffic light is
+     * rear-ended, otherwise it crashes while driving. Call on the driver's owning thread, right
+     * before recording the crash.
      */
-    public boolean triggerDemoAccident(int driverId) {
-        Driver driver = drivers.stream()
-            .filter(d -> d.getDriverId() == driverId)
-            .findFirst()
-            .orElse(null);
-
-        if (driver == null) {
-            logger.warn("⚠️ Cannot trigger accident: Driver {} not found", driverId);
-            return false;
-        }
+    public boolean canTriggerDemoAccident(Driver driver) {
+        int driverId = driver.getDriverId();
 
         // Don't crash if already in crash state
         if (driver.getCurrentState() == DriverState.POST_CRASH_IDLE) {
@@ -461,14 +607,11 @@ public class DriverManager {
         logger.info("🚨 Triggering accident for driver {} {} at {} mph on {} (speed limit: {} mph, state: {})",
             driverId, accidentScenario, String.format("%.1f", driver.getCurrentSpeed()),
             driver.getCurrentStreet(), driver.getSpeedLimit(), driver.getCurrentState());
-
-        // Trigger the crash by setting state and recording event
-        driver.setCurrentState(DriverState.POST_CRASH_IDLE);
-        driver.recordCrashEvent();
         return true;
     }
 
     private void initializeRandomDriverState(Driver driver) {
+        SplittableRandom random = driver.getRandom();
         // All drivers start DRIVING for demo purposes - they can take breaks and
         // stop at lights naturally as the simulation progresses
         driver.setCurrentState(DriverState.DRIVING);
@@ -477,7 +620,7 @@ public class DriverManager {
             driver.getDriverId(), driver.getCurrentSpeed());
     }
 
-    private DriverState selectRandomStopState() {
+    private DriverState selectRandomStopState(SplittableRandom random) {
         double rand = random.nextDouble();
         if (rand < 0.4) {
             return DriverState.TRAFFIC_STOP;
@@ -518,21 +661,31 @@ public class DriverManager {
 
     public void logDriverStates() {
         logger.info("🚗 Driver Status Summary - {}", getCurrentTimeStatus());
-        drivers.forEach(driver -> {
-            String crashInfo = driver.getLastCrashTime() != null ? 
-                String.format("Last crash: %dmin ago", driver.getTimeSinceCrashSeconds() / 60) : 
-                "No crashes";
-            logger.info("   {} | State: {} | Speed: {:.1f} mph | Messages: {} | {}", 
-                driver.getDriverId(), 
-                driver.getCurrentState(), 
-                driver.getCurrentSpeed(),
-                driver.getMessageCount(),
-                crashInfo);
-        });
+        // Per-driver lines only make sense for the configured demo fleet, not scaled-out fleets
+        if (drivers.size() <= MAX_DRIVERS_LOGGED_INDIVIDUALLY) {
+            drivers.forEach(driver -> {
+                String crashInfo = driver.getLastCrashTime() != null ? 
+                    String.format("Last crash: %dmin ago", driver.getTimeSinceCrashSeconds() / 60) : 
+                    "No crashes";
+                logger.info("   {} | State: {} | Speed: {:.1f} mph | Messages: {} | {}", 
+                    driver.getDriverId(), 
+                    driver.getCurrentState(), 
+                    driver.getCurrentSpeed(),
+                    driver.getMessageCount(),
+                    crashInfo);
+            });
+        }
         
         // Log activity summary based on time
-        long drivingCount = drivers.stream().mapToLong(d -> d.getCurrentState() == DriverState.DRIVING ? 1 : 0).sum();
-        long parkedCount = drivers.size() - drivingCount;
+        // Count straight off the state array instead of going through a view per driver
+        FleetState state = fleetState;
+        long drivingCount = 0;
+        for (int slot = 0; slot < state.size(); slot++) {
+            if (state.state(slot) == DriverState.DRIVING) {
+                drivingCount++;
+            }
+        }
+        long parkedCount = state.size() - drivingCount;
         logger.info("📊 Activity Summary: {} driving, {} parked ({})", 
             drivingCount, parkedCount, getCurrentTimeStatus());
     }
@@ -548,26 +701,34 @@ public class DriverManager {
 
     /**
      * Signal all drivers to start driving to their next route.
-     * Parked or idle drivers will be assigned a new destination and begin driving.
-     * @return the number of drivers that started driving
+     * Parked or idle drivers will be assigned a new destination and begin driving on their
+     * owning thread's next visit.
+     * @return the number of drivers that were signalled
      */
     public int startAllDriving() {
         int startedCount = 0;
         for (Driver driver : drivers) {
             if (driver.getCurrentState() != DriverState.DRIVING) {
-                // Assign a new destination and route
-                assignNewRoute(driver);
-                // Set to driving state
-                driver.setCurrentState(DriverState.DRIVING);
-                // Give initial speed
-                driver.setCurrentSpeed(15.0 + random.nextDouble() * 30.0);
+                driver.post(this::startDriving);
                 startedCount++;
             }
         }
-        logger.info("🚦 Started {} drivers on their routes", startedCount);
+        logger.info("🚦 Starting {} drivers on their routes", startedCount);
         return startedCount;
     }
 
+    private void startDriving(Driver driver) {
+        if (driver.getCurrentState() == DriverState.DRIVING) {
+            return;
+        }
+        // Assign a new destination and route
+        assignNewRoute(driver);
+        // Set to driving state
+        driver.setCurrentState(DriverState.DRIVING);
+        // Give initial speed
+        driver.setCurrentSpeed(15.0 + driver.getRandom().nextDouble() * 30.0);
+    }
+
     // Time-based behavior methods
     
     /**
@@ -582,7 +743,7 @@ public class DriverManager {
      * Check if current time is during peak driving hours
      */
     private boolean isPeakHour() {
-        int currentHour = LocalTime.now().getHour();
+        int currentHour = LocalTime.now(clock).getHour();
         return peakHours.contains(currentHour);
     }
     
@@ -655,7 +816,7 @@ public class DriverManager {
             com.insurancemegacorp.telematicsgen.model.DailyRoutine routine = routineOpt.get();
             
             // Generate today's sequence (90% standard, 10% random)
-            List<String> dailySequence = dailyRoutineService.generateDailySequence(driver.getDriverId());
+            List<String> dailySequence = dailyRoutineService.generateDailySequence(driver.getDriverId(), driver.getRandom());
             
             logger.info("📋 Driver {} daily routine: {} → {} locations → {}", 
                 driver.getDriverId(),
@@ -679,10 +840,13 @@ public class DriverManager {
     }
     
     /**
-     * Generate a new daily sequence for a driver (for daily reset)
+     * Generate a new daily sequence for a driver (for daily reset). Callable from any thread, so
+     * it draws from a stream of its own for the driver and simulated day, never the driver's.
      */
     public List<String> generateNewDailySequence(int driverId) {
-        return dailyRoutineService.generateDailySequence(driverId);
+        long day = Math.floorDiv(clock.millis(), 86_400_000L);
+        SplittableRandom random = RandomStreams.forKey(fleetState.seed(), RandomStreams.hash(driverId, day));
+        return dailyRoutineService.generateDailySequence(driverId, random);
     }
     
     /**
@@ -0,0 +1,143 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.DriverState;
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Decides which generated reports are published, so parked and waiting vehicles stop flooding
+ * the broker with noise.
+ * <p>
+ * Each driver state has a policy: {@link EmissionPolicy#ALWAYS} sends every report,
+ * {@link EmissionPolicy#DEAD_BAND} only once the vehicle has moved or changed speed by more
+ * than the dead band since the last report sent, and {@link EmissionPolicy#HEARTBEAT} once per
+ * heartbeat interval. Dead-banded vehicles also send at least once per heartbeat. Crash events,
+ * the first report of a driver and the first report after a state change are always sent. The
+ * last report sent is tracked in the {@link FleetState}, so a decision is a few array reads.
+ */
+@Service
+public class EmissionPolicyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmissionPolicyService.class);
+    private static final double METRES_PER_DEGREE = 111_320.0;
+
+    public enum EmissionPolicy {
+        ALWAYS,
+        DEAD_BAND,
+        HEARTBEAT
+    }
+
+    private final Counter suppressedCounter;
+    private final Map<DriverState, EmissionPolicy> policies = new EnumMap<>(DriverState.class);
+
+    @Value("${telematics.emission.enabled:false}")
+    private boolean enabled;
+
+    @Value("${telematics.emission.driving:DEAD_BAND}")
+    private EmissionPolicy driving = EmissionPolicy.DEAD_BAND;
+
+    @Value("${telematics.emission.parked:HEARTBEAT}")
+    private EmissionPolicy parked = EmissionPolicy.HEARTBEAT;
+
+    @Value("${telematics.emission.traffic-stop:HEARTBEAT}")
+    private EmissionPolicy trafficStop = EmissionPolicy.HEARTBEAT;
+
+    @Value("${telematics.emission.break-time:HEARTBEAT}")
+    private EmissionPolicy breakTime = EmissionPolicy.HEARTBEAT;
+
+    @Value("${telematics.emission.post-crash-idle:HEARTBEAT}")
+    private EmissionPolicy postCrashIdle = EmissionPolicy.HEARTBEAT;
+
+    @Value("${telematics.emission.dead-band-meters:25.0}")
+    private double deadBandMeters = 25.0;
+
+    @Value("${telematics.emission.dead-band-mph:3.0}")
+    private double deadBandMph = 3.0;
+
+    @Value("${telematics.emission.heartbeat-seconds:60}")
+    private long heartbeatSeconds = 60;
+
+    public EmissionPolicyService(MeterRegistry meterRegistry) {
+        this.suppressedCounter = Counter.builder("telematics.messages.suppressed")
+            .description("Total number of telematics messages withheld by the emission policies")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        policies.put(DriverState.DRIVING, driving);
+        policies.put(DriverState.PARKED, parked);
+        policies.put(DriverState.TRAFFIC_STOP, trafficStop);
+        policies.put(DriverState.BREAK_TIME, breakTime);
+        policies.put(DriverState.POST_CRASH_IDLE, postCrashIdle);
+        if (enabled) {
+            logger.info("📉 Emission policies: {} | dead band {} m / {} mph | heartbeat {}s",
+                policies, deadBandMeters, deadBandMph, heartbeatSeconds);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public EmissionPolicy policyFor(DriverState state) {
+        return policies.get(state);
+    }
+
+    /**
+     * Whether to publish {@code message}, just generated for {@code driver}. A positive answer
+     * records the report as sent.
+     */
+    public boolean shouldEmit(Driver driver, FlatTelematicsMessage message) {
+        if (!enabled) {
+            return true;
+        }
+        FleetState fleet = driver.getFleetState();
+        int slot = driver.getSlot();
+        long last = fleet.emittedMillis(slot);
+        DriverState state = fleet.state(slot);
+
+        boolean emit;
+        if (message.gForce() >= TelematicsPublisher.CRASH_G_FORCE || last == FleetState.NO_TIME
+                || fleet.emittedState(slot) != state) {
+            emit = true;
+        } else {
+            boolean heartbeatDue = fleet.currentTimeMillis() - last >= heartbeatSeconds * 1000;
+            emit = switch (policies.get(state)) {
+                case ALWAYS -> true;
+                case HEARTBEAT -> heartbeatDue;
+                case DEAD_BAND -> heartbeatDue || outsideDeadBand(fleet, slot);
+            };
+        }
+
+        if (emit) {
+            fleet.markEmitted(slot);
+        } else {
+            suppressedCounter.increment();
+        }
+        return emit;
+    }
+
+    private boolean outsideDeadBand(FleetState fleet, int slot) {
+        if (Math.abs(fleet.speed(slot) - fleet.emittedSpeed(slot)) >= deadBandMph) {
+            return true;
+        }
+        // Equirectangular distance, plenty at dead-band scale
+        double latitude = fleet.latitude(slot);
+        double north = (latitude - fleet.emittedLatitude(slot)) * METRES_PER_DEGREE;
+        double east = (fleet.longitude(slot) - fleet.emittedLongitude(slot)) * METRES_PER_DEGREE
+            * Math.cos(Math.toRadians(latitude));
+        return north * north + east * east >= deadBandMeters * deadBandMeters;
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Service;
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * New RouteService that loads routes from JSON files instead of hardcoded data
@@ -20,7 +21,6 @@ import java.util.*;
 public class FileBasedRouteService {
     
     private static final Logger logger = LoggerFactory.getLogger(FileBasedRouteService.class);
-    private final Random random = new Random();
     private final ObjectMapper mapper = new ObjectMapper();
     private final Map<String, List<RoutePoint>> routes = new HashMap<>();
     
@@ -111,12 +111,16 @@ public class FileBasedRouteService {
         logger.warn("⚠️ Using fallback routes. Generate proper route files for better simulation.");
     }
     
-    public List<RoutePoint> getRandomRoute() {
+    /**
+     * Pick a route with the caller's random stream; names are sorted so a seeded stream picks the same route.
+     * There is deliberately no variant without a stream, so every pick replays under the run seed.
+     */
+    public List<RoutePoint> getRandomRoute(RandomGenerator random) {
         if (routes.isEmpty()) {
             throw new IllegalStateException("No routes available! Please generate route files using RouteGenerator utility.");
         }
         
-        String[] routeNames = routes.keySet().toArray(new String[0]);
+        String[] routeNames = routes.keySet().stream().sorted().toArray(String[]::new);
         String selectedRoute = routeNames[random.nextInt(routeNames.length)];
         
         List<RoutePoint> route = routes.get(selectedRoute);
@@ -125,15 +129,40 @@ public class FileBasedRouteService {
         return new ArrayList<>(route); // Return copy to avoid modification
     }
     
+    /**
+     * The named route, or null if there is none; callers pick their own fallback with their stream.
+     */
     public List<RoutePoint> getRouteByName(String routeName) {
         List<RoutePoint> route = routes.get(routeName);
         if (route == null) {
             logger.warn("⚠️ Route '{}' not found. Available routes: {}", routeName, routes.keySet());
-            return getRandomRoute(); // Fallback to random route
+            return null;
         }
         return new ArrayList<>(route);
     }
     
+    /**
+     * The named route, falling back to a random one drawn from {@code random}.
+     */
+    public List<RoutePoint> getRouteByName(String routeName, RandomGenerator random) {
+        List<RoutePoint> route = getRouteByName(routeName);
+        return route != null ? route : getRandomRoute(random);
+    }
+    
+    /**
+     * Reverse lookup of a route handed out by this service; routes are returned as copies,
+     * so the match is by content.
+     */
+    public Optional<String> findRouteName(List<RoutePoint> route) {
+        if (route == null || route.isEmpty()) {
+            return Optional.empty();
+        }
+        return routes.entrySet().stream()
+            .filter(entry -> entry.getValue().size() == route.size() && entry.getValue().equals(route))
+            .map(Map.Entry::getKey)
+            .findFirst();
+    }
+    
     public Set<String> getAvailableRoutes() {
         return new HashSet<>(routes.keySet());
     }
@@ -143,9 +172,11 @@ public class FileBasedRouteService {
     }
     
     /**
-     * Get a route for a specific driver's daily routine segment
+     * Get a route for a specific driver's daily routine segment, or a random one drawn from
+     * {@code random} (the driver's stream) if there is none
      */
-    public List<RoutePoint> getDailyRouteForDriver(String driverName, String fromLocation, String toLocation) {
+    public List<RoutePoint> getDailyRouteForDriver(String driverName, String fromLocation, String toLocation,
+                                                   RandomGenerator random) {
         // Normalize driver name (lowercase, underscores)
         String normalizedDriverName = driverName.toLowerCase().replace(" ", "_");
         
@@ -175,7 +206,7 @@ public class FileBasedRouteService {
         
         logger.warn("⚠️ No daily route found for {}: {} → {}. Using random route.", 
             driverName, fromLocation, toLocation);
-        return getRandomRoute();
+        return getRandomRoute(random);
     }
     
     /**
@@ -0,0 +1,381 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.DriverState;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
+import com.insurancemegacorp.telematicsgen.model.RoutePoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mirrors the {@link FleetState} into a memory-mapped file with one fixed-width slot per
+ * driver, so a restart resumes every vehicle exactly where it was (position, state and
+ * time in state, crash cooldown, message count) instead of re-randomizing the fleet.
+ * <p>
+ * The file holds two regions that are written alternately; the header names the last
+ * complete one and is only flipped after the region has been forced to disk, so a crash
+ * during a checkpoint never corrupts the previous one. Checkpoints read the state arrays
+ * while the engines keep running, so a snapshot is not a single instant across the fleet,
+ * but every slot is internally consistent enough to resume from.
+ */
+@Service
+public class FleetCheckpointService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FleetCheckpointService.class);
+
+    private static final long MAGIC = 0x494D43464C454554L; // "IMCFLEET"
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_BYTES = 64;
+    private static final int REGION_HEADER_BYTES = 32;
+    private static final int ROUTE_TABLE_BYTES = 64 * 1024;
+    private static final int ACCIDENT_TYPE_BYTES = 32;
+
+    // Slot layout
+    static final int SLOT_BYTES = 136;
+    private static final int DRIVER_ID = 0;
+    private static final int STATE = 4;
+    private static final int STATE_CHANGE = 8;
+    private static final int LATITUDE = 16;
+    private static final int LONGITUDE = 24;
+    private static final int SPEED = 32;
+    private static final int BEARING = 40;
+    private static final int SPEED_LIMIT = 48;
+    private static final int ROUTE_INDEX = 52;
+    private static final int MESSAGE_COUNT = 56;
+    private static final int ROUTE_ID = 64;
+    private static final int TRIP_PROGRESS = 72;
+    private static final int TRIP_START = 80;
+    private static final int LAST_CRASH = 88;
+    private static final int CRASH_SPEED = 96;
+    private static final int ACCIDENT_TYPE = 104;
+
+    private static final DriverState[] STATES = DriverState.values();
+
+    private final DriverManager driverManager;
+    private final FileBasedRouteService routeService;
+
+    @Value("${telematics.checkpoint.enabled:false}")
+    private boolean enabled;
+
+    @Value("${telematics.checkpoint.path:fleet-state.bin}")
+    private String path;
+
+    private MappedByteBuffer buffer;
+    private int mappedCapacity;
+    private long sequence;
+    private boolean ready = false;
+
+    public FleetCheckpointService(DriverManager driverManager, FileBasedRouteService routeService) {
+        this.driverManager = driverManager;
+        this.routeService = routeService;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Overwrite the freshly initialized fleet with the last checkpoint, if one exists for the
+     * same drivers. Times are shifted by the downtime, so time in state and crash cooldowns
+     * continue where they stopped. Must run before any engine starts.
+     *
+     * @return whether a checkpoint was restored
+     */
+    public synchronized boolean restore() {
+        if (!enabled) {
+            return false;
+        }
+        FleetState fleet = driverManager.getFleetState();
+        try {
+            map(fleet.size());
+            boolean restored = buffer.getLong(0) == MAGIC && buffer.getInt(8) == VERSION
+                && buffer.getInt(12) == SLOT_BYTES && readRegion(fleet);
+            ready = true;
+            return restored;
+        } catch (IOException e) {
+            logger.error("❌ Cannot open fleet checkpoint {}: {}", path, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private boolean readRegion(FleetState fleet) {
+        int region = buffer.getInt(16);
+        int base = regionOffset(region, mappedCapacity);
+        int count = buffer.getInt(base);
+        long savedAt = buffer.getLong(base + 8);
+        sequence = buffer.getLong(base + 16);
+        if (count != fleet.size()) {
+            logger.warn("⚠️ Fleet checkpoint holds {} drivers but {} are configured, starting fresh", count, fleet.size());
+            return false;
+        }
+        int slots = base + REGION_HEADER_BYTES + ROUTE_TABLE_BYTES;
+        for (int slot = 0; slot < count; slot++) {
+            if (buffer.getInt(slots + slot * SLOT_BYTES + DRIVER_ID) != fleet.driverId(slot)) {
+                logger.warn("⚠️ Fleet checkpoint was taken for different drivers, starting fresh");
+                return false;
+            }
+        }
+
+        List<List<RoutePoint>> routes = readRouteTable(base + REGION_HEADER_BYTES);
+        long shift = fleet.currentTimeMillis() - savedAt;
+        int snapped = 0;
+        for (int slot = 0; slot < count; slot++) {
+            int at = slots + slot * SLOT_BYTES;
+            fleet.setState(slot, STATES[buffer.get(at + STATE)], buffer.getLong(at + STATE_CHANGE) + shift);
+            fleet.setLatitude(slot, buffer.getDouble(at + LATITUDE));
+            fleet.setLongitude(slot, buffer.getDouble(at + LONGITUDE));
+            fleet.setSpeed(slot, buffer.getDouble(at + SPEED));
+            fleet.setBearing(slot, buffer.getDouble(at + BEARING));
+            fleet.setSpeedLimit(slot, buffer.getInt(at + SPEED_LIMIT));
+            fleet.setMessageCount(slot, buffer.getLong(at + MESSAGE_COUNT));
+            int routeId = buffer.getInt(at + ROUTE_ID);
+            if (routeId >= 0 && routeId < routes.size() && routes.get(routeId) != null) {
+                List<RoutePoint> route = routes.get(routeId);
+                int routeIndex = Math.min(buffer.getInt(at + ROUTE_INDEX), route.size() - 1);
+                fleet.setRoute(slot, route);
+                fleet.setRouteIndex(slot, routeIndex);
+                fleet.setStreet(slot, route.get(routeIndex).streetName());
+            } else if (snapToAssignedRoute(fleet, slot)) {
+                snapped++;
+            }
+            fleet.setTripProgress(slot, buffer.getDouble(at + TRIP_PROGRESS));
+            fleet.setTripStartMillis(slot, shifted(buffer.getLong(at + TRIP_START), shift));
+            fleet.setLastCrashMillis(slot, shifted(buffer.getLong(at + LAST_CRASH), shift));
+            fleet.setCrashSpeed(slot, buffer.getDouble(at + CRASH_SPEED));
+            fleet.setCrashAccidentType(slot, readString(at + ACCIDENT_TYPE));
+        }
+        if (snapped > 0) {
+            logger.warn("⚠️ {} drivers were on routes that no longer exist, moved to the nearest point of their new route", snapped);
+        }
+        logger.info("♻️ Restored {} drivers from fleet checkpoint #{} ({}s old)", count, sequence, shift / 1000);
+        return true;
+    }
+
+    /**
+     * Keep the route the driver was given at startup when its saved route is gone, and move it to
+     * that route's nearest point so position and route index agree again.
+     *
+     * @return whether the driver was moved
+     */
+    private boolean snapToAssignedRoute(FleetState fleet, int slot) {
+        List<RoutePoint> route = fleet.route(slot);
+        if (route == null || route.isEmpty()) {
+            return false;
+        }
+        double latitude = fleet.latitude(slot);
+        double longitude = fleet.longitude(slot);
+        int nearest = 0;
+        double nearestDistance = Double.MAX_VALUE;
+        for (int i = 0; i < route.size(); i++) {
+            double dLat = route.get(i).latitude() - latitude;
+            double dLon = route.get(i).longitude() - longitude;
+            double distance = dLat * dLat + dLon * dLon;
+            if (distance < nearestDistance) {
+                nearest = i;
+                nearestDistance = distance;
+            }
+        }
+        RoutePoint point = route.get(nearest);
+        logger.debug("📍 Driver {} snapped to {} on its assigned route", fleet.driverId(slot), point.streetName());
+        fleet.setLatitude(slot, point.latitude());
+        fleet.setLongitude(slot, point.longitude());
+        fleet.setRouteIndex(slot, nearest);
+        fleet.setStreet(slot, point.streetName());
+        fleet.setSpeedLimit(slot, point.speedLimit());
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${telematics.checkpoint.interval-ms:10000}")
+    public void scheduledCheckpoint() {
+        if (enabled && ready) {
+            checkpoint();
+        }
+    }
+
+    @PreDestroy
+    public void finalCheckpoint() {
+        if (enabled && ready) {
+            checkpoint();
+        }
+    }
+
+    /**
+     * Write the current fleet state to the inactive region and make it the active one.
+     *
+     * @return the checkpoint sequence number, or -1 if checkpointing is not active
+     */
+    public synchronized long checkpoint() {
+        FleetState fleet = driverManager.getFleetState();
+        if (!enabled || fleet.size() == 0) {
+            return -1;
+        }
+        try {
+            if (buffer == null || mappedCapacity != fleet.size()) {
+                map(fleet.size());
+            }
+        } catch (IOException e) {
+            logger.error("❌ Cannot open fleet checkpoint {}: {}", path, e.getMessage(), e);
+            return -1;
+        }
+        long started = System.nanoTime();
+        int region = buffer.getLong(0) == MAGIC ? 1 - buffer.getInt(16) : 0;
+        int base = regionOffset(region, mappedCapacity);
+        int slots = base + REGION_HEADER_BYTES + ROUTE_TABLE_BYTES;
+
+        Map<List<RoutePoint>, Integer> routeIds = new IdentityHashMap<>();
+        List<String> routeNames = new ArrayList<>();
+        for (int slot = 0; slot < fleet.size(); slot++) {
+            int at = slots + slot * SLOT_BYTES;
+            buffer.putInt(at + DRIVER_ID, fleet.driverId(slot));
+            buffer.put(at + STATE, (byte) fleet.state(slot).ordinal());
+            buffer.putLong(at + STATE_CHANGE, fleet.stateChangeMillis(slot));
+            buffer.putDouble(at + LATITUDE, fleet.latitude(slot));
+            buffer.putDouble(at + LONGITUDE, fleet.longitude(slot));
+            buffer.putDouble(at + SPEED, fleet.speed(slot));
+            buffer.putDouble(at + BEARING, fleet.bearing(slot));
+            buffer.putInt(at + SPEED_LIMIT, fleet.speedLimit(slot));
+            buffer.putInt(at + ROUTE_INDEX, fleet.routeIndex(slot));
+            buffer.putLong(at + MESSAGE_COUNT, fleet.messageCount(slot));
+            buffer.putInt(at + ROUTE_ID, routeId(fleet.route(slot), routeIds, routeNames));
+            buffer.putDouble(at + TRIP_PROGRESS, fleet.tripProgress(slot));
+            buffer.putLong(at + TRIP_START, fleet.tripStartMillis(slot));
+            buffer.putLong(at + LAST_CRASH, fleet.lastCrashMillis(slot));
+            buffer.putDouble(at + CRASH_SPEED, fleet.crashSpeed(slot));
+            writeString(at + ACCIDENT_TYPE, fleet.crashAccidentType(slot));
+        }
+        writeRouteTable(base + REGION_HEADER_BYTES, routeNames);
+
+        long seq = ++sequence;
+        buffer.putInt(base, fleet.size());
+        buffer.putLong(base + 8, fleet.currentTimeMillis());
+        buffer.putLong(base + 16, seq);
+        buffer.force(base, REGION_HEADER_BYTES + ROUTE_TABLE_BYTES + fleet.size() * SLOT_BYTES);
+
+        // Flip the header only once the region is durable
+        buffer.putLong(0, MAGIC);
+        buffer.putInt(8, VERSION);
+        buffer.putInt(12, SLOT_BYTES);
+        buffer.putInt(16, region);
+        buffer.force(0, FILE_HEADER_BYTES);
+        ready = true;
+
+        logger.debug("💾 Fleet checkpoint #{}: {} drivers in {} ms", seq, fleet.size(),
+            (System.nanoTime() - started) / 1_000_000);
+        return seq;
+    }
+
+    private void map(int capacity) throws IOException {
+        long size = FILE_HEADER_BYTES + 2L * regionBytes(capacity);
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Fleet of " + capacity + " drivers exceeds the 2 GiB checkpoint limit");
+        }
+        Path file = Path.of(path);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        // A file sized for another fleet is remapped at the new size; restore then rejects it by count
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            boolean resized = channel.size() != size;
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            if (resized) {
+                buffer.putLong(0, 0L);
+            }
+        }
+        mappedCapacity = capacity;
+        logger.info("💾 Fleet checkpoint file {} mapped for {} drivers ({} KiB)", path, capacity, size / 1024);
+    }
+
+    private static int regionBytes(int capacity) {
+        return REGION_HEADER_BYTES + ROUTE_TABLE_BYTES + capacity * SLOT_BYTES;
+    }
+
+    private static int regionOffset(int region, int capacity) {
+        return FILE_HEADER_BYTES + region * regionBytes(capacity);
+    }
+
+    private static long shifted(long millis, long shift) {
+        return millis == FleetState.NO_TIME ? millis : millis + shift;
+    }
+
+    private int routeId(List<RoutePoint> route, Map<List<RoutePoint>, Integer> routeIds, List<String> routeNames) {
+        if (route == null) {
+            return -1;
+        }
+        // Synthetic drivers share their template's route instance, so this resolves once per distinct route
+        return routeIds.computeIfAbsent(route, r -> routeService.findRouteName(r)
+            .map(name -> {
+                routeNames.add(name);
+                return routeNames.size() - 1;
+            })
+            .orElse(-1));
+    }
+
+    private void writeRouteTable(int offset, List<String> names) {
+        int at = offset + 4;
+        int written = 0;
+        for (String name : names) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            if (at + 2 + bytes.length > offset + ROUTE_TABLE_BYTES) {
+                logger.warn("⚠️ Route table full, {} routes will not be restored", names.size() - written);
+                break;
+            }
+            buffer.putShort(at, (short) bytes.length);
+            buffer.put(at + 2, bytes);
+            at += 2 + bytes.length;
+            written++;
+        }
+        buffer.putInt(offset, written);
+    }
+
+    private List<List<RoutePoint>> readRouteTable(int offset) {
+        int count = buffer.getInt(offset);
+        List<List<RoutePoint>> routes = new ArrayList<>(count);
+        int at = offset + 4;
+        for (int i = 0; i < count; i++) {
+            byte[] bytes = new byte[buffer.getShort(at)];
+            buffer.get(at + 2, bytes);
+            at += 2 + bytes.length;
+            String name = new String(bytes, StandardCharsets.UTF_8);
+            // Restored drivers of the same route share one list instance
+            routes.add(routeService.getAvailableRoutes().contains(name) ? List.copyOf(routeService.getRouteByName(name)) : null);
+        }
+        return routes;
+    }
+
+    private void writeString(int offset, String value) {
+        if (value == null) {
+            buffer.put(offset, (byte) -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, ACCIDENT_TYPE_BYTES - 1);
+        buffer.put(offset, (byte) length);
+        buffer.put(offset + 1, bytes, 0, length);
+    }
+
+    private String readString(int offset) {
+        int length = buffer.get(offset);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(offset + 1, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,28 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+/**
+ * Execution strategy that drives the fleet: decides which thread advances which driver and when.
+ * Engines are created and owned by {@link TelematicsSimulator}; each driver is advanced by at most
+ * one thread at a time.
+ */
+public interface FleetEngine {
+
+    void start();
+
+    /**
+     * Signal all engine threads to stop after the driver they are currently advancing.
+     */
+    void stop();
+
+    void awaitTermination() throws InterruptedException;
+
+    void setPaused(boolean paused);
+
+    /**
+     * Set the fleet-wide message rate in messages per second;
+     * {@link com.insurancemegacorp.telematicsgen.util.TokenBucketPacer#UNLIMITED} runs unpaced.
+     */
+    void setTargetRate(double targetRate);
+
+    double getTargetRate();
+}
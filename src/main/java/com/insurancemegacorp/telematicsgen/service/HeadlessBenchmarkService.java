@@ -0,0 +1,238 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.config.TelematicsMessageConverter;
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.MutableTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.util.TelematicsEncoding;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the generator's own ceiling: behavior update, telemetry generation and
+ * serialization run back to back with no pacing, into a sink that discards the bytes.
+ * Nothing reaches RabbitMQ or the WebSocket clients, so broker cost is excluded.
+ * <p>
+ * The fleet is split across worker threads the same way as {@link ShardedTickEngine},
+ * so every driver is only advanced by one thread.
+ */
+@Service
+public class HeadlessBenchmarkService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HeadlessBenchmarkService.class);
+    private static final int DEADLINE_CHECK_EVERY = 256;
+
+    private final DriverManager driverManager;
+    private final TelematicsDataGenerator dataGenerator;
+    private final MessageConverter messageConverter;
+    // The converter's report encoding, or null when reports go through plain Jackson
+    private final TelematicsEncoding encoding;
+
+    @Value("${telematics.benchmark.enabled:false}")
+    private boolean enabled;
+
+    @Value("${telematics.benchmark.duration-seconds:30}")
+    private int durationSeconds;
+
+    @Value("${telematics.benchmark.warmup-seconds:5}")
+    private int warmupSeconds;
+
+    @Value("${telematics.benchmark.threads:0}")
+    private int threads;
+
+    private volatile Report lastReport;
+    private volatile boolean running = false;
+
+    public HeadlessBenchmarkService(DriverManager driverManager,
+                                    TelematicsDataGenerator dataGenerator,
+                                    MessageConverter messageConverter) {
+        this.driverManager = driverManager;
+        this.dataGenerator = dataGenerator;
+        this.messageConverter = messageConverter;
+        this.encoding = messageConverter instanceof TelematicsMessageConverter converter
+            ? converter.getEncoding() : null;
+    }
+
+    /**
+     * Result of a run. Stage times are averages per message; allocation is summed over the worker threads.
+     */
+    public record Report(
+        int threads,
+        int drivers,
+        long messages,
+        double seconds,
+        double messagesPerSecond,
+        double behaviorNanosPerMessage,
+        double generateNanosPerMessage,
+        double serializeNanosPerMessage,
+        double bytesPerMessage,
+        double allocatedBytesPerMessage,
+        double allocationMbPerSecond
+    ) {}
+
+    /**
+     * Whether the application runs in headless benchmark mode instead of publishing telemetry.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public Report getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * Run with the configured warm-up, duration and thread count.
+     */
+    public Report run() {
+        return run(durationSeconds, threads);
+    }
+
+    public synchronized Report run(int durationSeconds, int threadCount) {
+        List<Driver> drivers = driverManager.getAllDrivers();
+        if (drivers.isEmpty()) {
+            throw new IllegalStateException("No drivers initialized");
+        }
+        int count = threadCount > 0 ? threadCount : Runtime.getRuntime().availableProcessors();
+        count = Math.min(count, drivers.size());
+
+        running = true;
+        try {
+            if (warmupSeconds > 0) {
+                logger.info("🏁 Benchmark warm-up: {}s on {} threads", warmupSeconds, count);
+                measure(drivers, count, TimeUnit.SECONDS.toNanos(warmupSeconds));
+            }
+            logger.info("🏁 Benchmark run: {}s on {} threads, {} drivers", durationSeconds, count, drivers.size());
+            Report report = measure(drivers, count, TimeUnit.SECONDS.toNanos(durationSeconds));
+            lastReport = report;
+            logger.info("🏁 Benchmark result: {} msg/s | behavior {} ns | generate {} ns | serialize {} ns | {} B/msg | alloc {} B/msg ({} MB/s)",
+                String.format("%.0f", report.messagesPerSecond()),
+                String.format("%.0f", report.behaviorNanosPerMessage()),
+                String.format("%.0f", report.generateNanosPerMessage()),
+                String.format("%.0f", report.serializeNanosPerMessage()),
+                String.format("%.0f", report.bytesPerMessage()),
+                String.format("%.0f", report.allocatedBytesPerMessage()),
+                String.format("%.1f", report.allocationMbPerSecond()));
+            return report;
+        } finally {
+            running = false;
+        }
+    }
+
+    private Report measure(List<Driver> drivers, int threadCount, long durationNanos) {
+        List<Worker> workers = new ArrayList<>();
+        int base = drivers.size() / threadCount;
+        int remainder = drivers.size() % threadCount;
+        int from = 0;
+        for (int i = 0; i < threadCount; i++) {
+            int to = from + base + (i < remainder ? 1 : 0);
+            workers.add(new Worker(drivers.subList(from, to)));
+            from = to;
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + durationNanos;
+        List<Thread> workerThreads = new ArrayList<>();
+        for (int i = 0; i < workers.size(); i++) {
+            Worker worker = workers.get(i);
+            workerThreads.add(Thread.ofPlatform()
+                .name("benchmark-" + i)
+                .start(() -> worker.run(deadline)));
+        }
+        for (Thread thread : workerThreads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Benchmark interrupted", e);
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long messages = 0;
+        long behaviorNanos = 0;
+        long generateNanos = 0;
+        long serializeNanos = 0;
+        long bytes = 0;
+        long allocated = 0;
+        for (Worker worker : workers) {
+            messages += worker.messages;
+            behaviorNanos += worker.behaviorNanos;
+            generateNanos += worker.generateNanos;
+            serializeNanos += worker.serializeNanos;
+            bytes += worker.bytes;
+            allocated += worker.allocatedBytes;
+        }
+        double perMessage = Math.max(1, messages);
+        return new Report(threadCount, drivers.size(), messages, seconds, messages / seconds,
+            behaviorNanos / perMessage, generateNanos / perMessage, serializeNanos / perMessage,
+            bytes / perMessage, allocated / perMessage, allocated / seconds / (1024 * 1024));
+    }
+
+    private final class Worker {
+        private final List<Driver> drivers;
+        private final MutableTelematicsMessage message = new MutableTelematicsMessage();
+        private final MessageProperties properties = new MessageProperties();
+        private final TelematicsEncoding.Sink sink = (body, length) -> this.bytes += length;
+        private long messages;
+        private long behaviorNanos;
+        private long generateNanos;
+        private long serializeNanos;
+        private long bytes;
+        private long allocatedBytes;
+
+        private Worker(List<Driver> drivers) {
+            this.drivers = drivers;
+        }
+
+        private void run(long deadline) {
+            com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long allocatedAtStart = threadBean.getCurrentThreadAllocatedBytes();
+            int cursor = 0;
+            while (messages % DEADLINE_CHECK_EVERY != 0 || System.nanoTime() - deadline < 0) {
+                Driver driver = drivers.get(cursor);
+                if (++cursor == drivers.size()) {
+                    cursor = 0;
+                }
+
+                long t0 = System.nanoTime();
+                driverManager.updateDriverBehavior(driver);
+                long t1 = System.nanoTime();
+                dataGenerator.generateTelematicsData(driver, message);
+                long t2 = System.nanoTime();
+                // Same body RabbitTemplate.convertAndSend sends, then discarded
+                if (encoding != null) {
+                    try {
+                        encoding.encode(message, sink);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                } else {
+                    bytes += messageConverter.toMessage(message, properties).getBody().length;
+                }
+                long t3 = System.nanoTime();
+
+                behaviorNanos += t1 - t0;
+                generateNanos += t2 - t1;
+                serializeNanos += t3 - t2;
+                messages++;
+            }
+            allocatedBytes = threadBean.getCurrentThreadAllocatedBytes() - allocatedAtStart;
+        }
+    }
+}
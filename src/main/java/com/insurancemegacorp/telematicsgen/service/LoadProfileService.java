@@ -0,0 +1,135 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.LoadProfile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Drives the simulator's target rate along a {@link LoadProfile} timeline, so capacity
+ * tests can be reproduced without hand-tuning the interval. When the profile finishes
+ * or is stopped, the rate in effect before it started is restored.
+ */
+@Service
+public class LoadProfileService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadProfileService.class);
+
+    private final TelematicsSimulator simulator;
+    private final TelematicsRateService rateService;
+
+    private LoadProfile profile;
+    private long startNanos;
+    // Effective rate before the profile, for phases that start from the previous rate
+    private double baselineRate;
+    // Configured rate before the profile, restored afterwards; 0 keeps deriving it from the interval
+    private double baselineTarget;
+    private LoadProfile.Position position;
+    private double appliedRate = -1;
+
+    public LoadProfileService(TelematicsSimulator simulator, TelematicsRateService rateService) {
+        this.simulator = simulator;
+        this.rateService = rateService;
+    }
+
+    /**
+     * Progress of the running profile, as reported by {@code GET /api/load-profile}.
+     */
+    public record Status(
+        String name,
+        boolean active,
+        int phaseIndex,
+        int phaseCount,
+        LoadProfile.PhaseType phaseType,
+        double phaseProgress,
+        long elapsedSeconds,
+        long totalSeconds,
+        double targetRate,
+        long measuredRate
+    ) {}
+
+    /**
+     * Start a profile, replacing any profile that is already running.
+     */
+    public synchronized Status start(LoadProfile newProfile) {
+        if (profile != null) {
+            logger.info("📈 Replacing load profile '{}' with '{}'", profile.name(), newProfile.name());
+        } else {
+            baselineRate = simulator.getTargetRate();
+            baselineTarget = simulator.getConfiguredTargetRate();
+        }
+        profile = newProfile;
+        startNanos = System.nanoTime();
+        appliedRate = -1;
+        logger.info("📈 Load profile '{}' started: {} phases over {}",
+            profile.name(), profile.phases().size(), profile.getTotalDuration());
+        advance(Duration.ZERO);
+        return getStatus();
+    }
+
+    /**
+     * Stop the running profile and restore the previous rate. Returns false if none was running.
+     */
+    public synchronized boolean stop() {
+        if (profile == null) {
+            return false;
+        }
+        logger.info("📈 Load profile '{}' stopped", profile.name());
+        finish();
+        return true;
+    }
+
+    @Scheduled(fixedRate = 100)
+    public synchronized void tick() {
+        if (profile != null) {
+            advance(Duration.ofNanos(System.nanoTime() - startNanos));
+        }
+    }
+
+    synchronized void advance(Duration elapsed) {
+        if (profile == null) {
+            return;
+        }
+        LoadProfile.Position next = profile.positionAt(elapsed, baselineRate);
+        if (next.finished()) {
+            logger.info("📈 Load profile '{}' completed", profile.name());
+            finish();
+            return;
+        }
+        if (position == null || position.phaseIndex() != next.phaseIndex()) {
+            LoadProfile.Phase phase = profile.phases().get(next.phaseIndex());
+            logger.info("📈 Load profile '{}' phase {}/{}: {} to {} msg/s for {}", profile.name(),
+                next.phaseIndex() + 1, profile.phases().size(), phase.type(), phase.rate(), phase.duration());
+        }
+        position = next;
+        // Skip sub-message changes so a long ramp does not re-anchor the pacers on every tick;
+        // phase rates are positive, but one below 0.5 would round to 0, which the simulator reads
+        // as "derive from the interval"
+        double rate = Math.max(1, Math.round(next.rate()));
+        if (rate != appliedRate) {
+            appliedRate = rate;
+            simulator.setTargetRate(rate);
+        }
+    }
+
+    public synchronized Status getStatus() {
+        if (profile == null || position == null) {
+            return new Status(null, false, 0, 0, null, 0, 0, 0,
+                simulator.getTargetRate(), rateService.getGeneratedRate());
+        }
+        long elapsedSeconds = Duration.ofNanos(System.nanoTime() - startNanos).toSeconds();
+        return new Status(profile.name(), true, position.phaseIndex(), profile.phases().size(),
+            position.phaseType(), position.phaseProgress(), elapsedSeconds,
+            profile.getTotalDuration().toSeconds(), appliedRate, rateService.getGeneratedRate());
+    }
+
+    private void finish() {
+        profile = null;
+        position = null;
+        appliedRate = -1;
+        simulator.setTargetRate(baselineTarget);
+    }
+}
@@ -0,0 +1,73 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.util.SensorTraceLibrary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Loads the {@link SensorTraceLibrary} at startup and hands it to the generator, so regular and
+ * crash reports replay pre-generated sensor traces instead of synthesizing noise per message.
+ * The library file is generated on first use, or again when its size or seed no longer matches
+ * the configuration, and memory-mapped from then on.
+ */
+@Service
+public class SensorTraceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SensorTraceService.class);
+
+    private final TelematicsDataGenerator dataGenerator;
+
+    @Value("${telematics.sensors.traces.enabled:false}")
+    private boolean enabled;
+
+    @Value("${telematics.sensors.traces.path:sensor-traces.bin}")
+    private String path;
+
+    @Value("${telematics.sensors.traces.samples:8192}")
+    private int samples;
+
+    @Value("${telematics.sensors.traces.seed:1}")
+    private long seed;
+
+    public SensorTraceService(TelematicsDataGenerator dataGenerator) {
+        this.dataGenerator = dataGenerator;
+    }
+
+    @PostConstruct
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        Path file = Path.of(path);
+        try {
+            SensorTraceLibrary library = null;
+            if (Files.exists(file)) {
+                try {
+                    library = SensorTraceLibrary.open(file);
+                    if (library.samples() != samples || library.seed() != seed) {
+                        library = null;
+                    }
+                } catch (IOException e) {
+                    logger.warn("⚠️ Ignoring unreadable sensor trace library {}: {}", path, e.getMessage());
+                }
+            }
+            if (library == null) {
+                long started = System.nanoTime();
+                library = SensorTraceLibrary.create(file, samples, seed);
+                logger.info("📈 Generated sensor trace library {} in {} ms", path, (System.nanoTime() - started) / 1_000_000);
+            }
+            dataGenerator.setSensorTraces(library);
+            logger.info("📈 Replaying sensor traces from {} ({} traces x {} samples)",
+                path, SensorTraceLibrary.TRACES, library.samples());
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error("❌ Cannot load sensor trace library {}, synthesizing sensor noise: {}", path, e.getMessage(), e);
+        }
+    }
+}
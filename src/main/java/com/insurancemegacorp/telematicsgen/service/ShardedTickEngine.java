@@ -0,0 +1,202 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.util.TokenBucketPacer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Tick engine that advances the whole fleet once per tick.
+ * The fleet is split into contiguous shards, each owned by a single worker thread,
+ * so a driver is only ever touched by one simulation thread and throughput scales
+ * with the number of cores instead of being bound to one sleeping loop.
+ * <p>
+ * Each shard walks its drivers round-robin, paced by a token bucket holding the shard's
+ * share of the fleet rate, so every driver advances exactly once per pass (tick) and the
+ * fleet-wide message rate stays on target independent of per-message cost.
+ * <p>
+ * A driver whose step throws is counted and skipped for that tick; the rest of its shard keeps
+ * going. Failures are logged at most once per {@value #ERROR_LOG_INTERVAL_MS} ms per shard.
+ */
+public class ShardedTickEngine implements FleetEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardedTickEngine.class);
+    private static final long PAUSE_POLL_MS = 300;
+    private static final long ERROR_LOG_INTERVAL_MS = 5000;
+    private static final int MAX_BATCH = 1024;
+    private static final double BURST_SECONDS = 0.1;
+
+    private final List<Shard> shards = new ArrayList<>();
+    private final Consumer<Driver> step;
+    private final int fleetSize;
+
+    private volatile double targetRate;
+    private volatile boolean running = false;
+    private volatile boolean paused = false;
+
+    /**
+     * @param targetRate fleet-wide messages per second, or {@link TokenBucketPacer#UNLIMITED}
+     */
+    public ShardedTickEngine(List<Driver> drivers, int shardCount, double targetRate, Consumer<Driver> step) {
+        if (drivers.isEmpty()) {
+            throw new IllegalStateException("No drivers initialized");
+        }
+        this.step = step;
+        this.fleetSize = drivers.size();
+        this.targetRate = targetRate;
+
+        int count = Math.max(1, Math.min(shardCount, drivers.size()));
+        int base = drivers.size() / count;
+        int remainder = drivers.size() % count;
+        int from = 0;
+        for (int i = 0; i < count; i++) {
+            int to = from + base + (i < remainder ? 1 : 0);
+            List<Driver> slice = List.copyOf(drivers.subList(from, to));
+            shards.add(new Shard(i, slice, new TokenBucketPacer(shareOf(targetRate, slice.size()), MAX_BATCH, BURST_SECONDS)));
+            from = to;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (Shard shard : shards) {
+            shard.thread = Thread.ofPlatform()
+                .name("fleet-shard-" + shard.index)
+                .daemon(true)
+                .start(shard);
+        }
+        logger.info("⚙️ Tick engine started: {} shards, {} msg/s", shards.size(), targetRate);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        for (Shard shard : shards) {
+            if (shard.thread != null) {
+                LockSupport.unpark(shard.thread);
+            }
+        }
+    }
+
+    @Override
+    public void awaitTermination() throws InterruptedException {
+        for (Shard shard : shards) {
+            if (shard.thread != null) {
+                shard.thread.join();
+            }
+        }
+    }
+
+    @Override
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    @Override
+    public void setTargetRate(double targetRate) {
+        this.targetRate = targetRate;
+        for (Shard shard : shards) {
+            shard.pacer.setRate(shareOf(targetRate, shard.drivers.size()));
+        }
+    }
+
+    @Override
+    public double getTargetRate() {
+        return targetRate;
+    }
+
+    private double shareOf(double rate, int shardSize) {
+        return rate == TokenBucketPacer.UNLIMITED ? rate : rate * shardSize / fleetSize;
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    /**
+     * Number of complete fleet passes, i.e. the tick count of the slowest shard.
+     */
+    public long getTickCount() {
+        return shards.stream().mapToLong(shard -> shard.ticks).min().orElse(0);
+    }
+
+    /**
+     * Driver steps that threw, across all shards.
+     */
+    public long getFailureCount() {
+        return shards.stream().mapToLong(shard -> shard.failures).sum();
+    }
+
+    /**
+     * Messages the shards could not produce in time and dropped from their backlog.
+     */
+    public long getShortfall() {
+        return shards.stream().mapToLong(shard -> shard.pacer.getShortfall()).sum();
+    }
+
+    private final class Shard implements Runnable {
+        private final int index;
+        private final List<Driver> drivers;
+        private final TokenBucketPacer pacer;
+        private Thread thread;
+        private int cursor;
+        private volatile long ticks;
+        private volatile long failures;
+        private long failuresLogged;
+        private long nextErrorLogNanos;
+
+        private Shard(int index, List<Driver> drivers, TokenBucketPacer pacer) {
+            this.index = index;
+            this.drivers = drivers;
+            this.pacer = pacer;
+            this.nextErrorLogNanos = System.nanoTime();
+        }
+
+        @Override
+        public void run() {
+            long pollNanos = TimeUnit.MILLISECONDS.toNanos(PAUSE_POLL_MS);
+            while (running) {
+                if (paused) {
+                    LockSupport.parkNanos(pollNanos);
+                    pacer.reset();
+                    continue;
+                }
+                int batch = pacer.acquire(pollNanos);
+                for (int i = 0; i < batch && running; i++) {
+                    Driver driver = drivers.get(cursor);
+                    try {
+                        step.accept(driver);
+                    } catch (Exception e) {
+                        onFailure(driver, e);
+                    }
+                    if (++cursor == drivers.size()) {
+                        cursor = 0;
+                        ticks++;
+                    }
+                }
+            }
+            logger.debug("Shard {} stopped after {} ticks", index, ticks);
+        }
+
+        private void onFailure(Driver driver, Exception e) {
+            failures++;
+            long now = System.nanoTime();
+            if (now - nextErrorLogNanos < 0) {
+                return;
+            }
+            // First failure in a while: log it in full, plus how many were not logged before it
+            nextErrorLogNanos = now + TimeUnit.MILLISECONDS.toNanos(ERROR_LOG_INTERVAL_MS);
+            long suppressed = failures - failuresLogged - 1;
+            failuresLogged = failures;
+            logger.error("❌ Error advancing driver {} in shard {} ({} more failures since last report): {}",
+                driver.getDriverId(), index, suppressed, e.getMessage(), e);
+        }
+    }
+}
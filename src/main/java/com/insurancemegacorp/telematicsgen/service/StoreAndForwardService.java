@@ -0,0 +1,188 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Store-and-forward device buffering: devices lose network coverage now and then, queue their
+ * reports while offline and upload the backlog as one burst when coverage returns.
+ * <p>
+ * A coverage gap starts with {@code outage-probability} per report and lasts a random
+ * {@code outage-min-seconds} to {@code outage-max-seconds}. While it lasts the generator reports a
+ * signal below {@link TelematicsDataGenerator#NO_COVERAGE_DBM}, and any report whose
+ * {@code device_signal_strength} is at or below {@code no-coverage-dbm} is queued. The first
+ * report with coverage again publishes the queue, oldest first with the original
+ * {@code event_time}s, and then itself, so consumers see bursts of late, out-of-order data.
+ * Each device queues at most {@code buffer-capacity} reports and drops the oldest beyond that.
+ * If a publish fails part way through a burst, the upload stops there: the unsent reports and
+ * the new one stay queued, in order, for the next report with coverage. Queues are ring buffers
+ * allocated on a device's first gap; a slot is only touched by the thread advancing its driver.
+ * <p>
+ * Aggregation mode publishes window summaries instead of reports and does not go through the
+ * device uplink, so coverage gaps are not simulated while {@code telematics.aggregation.enabled}
+ * is set.
+ */
+@Service
+public class StoreAndForwardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StoreAndForwardService.class);
+
+    private final TelematicsPublisher publisher;
+    private final Counter bufferedCounter;
+    private final Counter droppedCounter;
+    private final Map<FleetState, Backlogs> backlogs = new ConcurrentHashMap<>();
+
+    @Value("${telematics.store-and-forward.enabled:false}")
+    private boolean enabled;
+
+    @Value("${telematics.store-and-forward.outage-probability:0.002}")
+    private double outageProbability = 0.002;
+
+    @Value("${telematics.store-and-forward.outage-min-seconds:30}")
+    private int outageMinSeconds = 30;
+
+    @Value("${telematics.store-and-forward.outage-max-seconds:300}")
+    private int outageMaxSeconds = 300;
+
+    @Value("${telematics.store-and-forward.no-coverage-dbm:-105}")
+    private int noCoverageDbm = -105;
+
+    @Value("${telematics.store-and-forward.buffer-capacity:500}")
+    private int bufferCapacity = 500;
+
+    @Value("${telematics.aggregation.enabled:false}")
+    private boolean aggregationEnabled;
+
+    public StoreAndForwardService(TelematicsPublisher publisher, MeterRegistry meterRegistry) {
+        this.publisher = publisher;
+        this.bufferedCounter = Counter.builder("telematics.messages.buffered")
+            .description("Total number of telematics messages queued on devices without coverage")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("telematics.messages.dropped")
+            .description("Total number of queued telematics messages dropped from full device buffers")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (bufferCapacity < 1 || outageMinSeconds < 1 || outageMaxSeconds < outageMinSeconds) {
+            throw new IllegalStateException("telematics.store-and-forward needs buffer-capacity >= 1 and "
+                + "1 <= outage-min-seconds <= outage-max-seconds");
+        }
+        if (enabled && aggregationEnabled) {
+            logger.warn("📶 Store-and-forward has no effect while aggregation is enabled: summaries bypass the device uplink");
+        } else if (enabled) {
+            logger.info("📶 Store-and-forward: coverage gaps of {}-{}s with p={} per report, {} reports buffered per device",
+                outageMinSeconds, outageMaxSeconds, outageProbability, bufferCapacity);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Hand a report of {@code driver} to its device's uplink: publish it, after any backlog, or
+     * queue it while the device has no coverage. Returns whether it was published.
+     */
+    public boolean send(Driver driver, FlatTelematicsMessage message) {
+        if (!enabled) {
+            publisher.publishTelematicsData(message, driver);
+            return true;
+        }
+        SplittableRandom random = driver.getRandom();
+        if (!driver.isOutOfCoverage() && random.nextDouble() < outageProbability) {
+            int seconds = outageMinSeconds + random.nextInt(outageMaxSeconds - outageMinSeconds + 1);
+            driver.loseCoverageUntil(driver.getFleetState().currentTimeMillis() + seconds * 1000L);
+            logger.debug("📵 {} lost coverage for {}s", driver.getDriverId(), seconds);
+        }
+
+        // Fleets are built up front, so the first report sees the final size
+        Backlogs backlog = backlogs.computeIfAbsent(driver.getFleetState(), fleet -> new Backlogs(fleet.size()));
+        int slot = driver.getSlot();
+        if (message.deviceSignalStrength() <= noCoverageDbm) {
+            if (!backlog.offer(slot, message, bufferCapacity)) {
+                droppedCounter.increment();
+            }
+            bufferedCounter.increment();
+            return false;
+        }
+        int queued = backlog.size[slot];
+        if (queued > 0) {
+            logger.debug("📶 {} back in coverage, uploading {} buffered reports", driver.getDriverId(), queued);
+            try {
+                for (FlatTelematicsMessage late = backlog.peek(slot); late != null; late = backlog.peek(slot)) {
+                    publisher.publishTelematicsData(late, driver);
+                    backlog.poll(slot);
+                }
+            } catch (RuntimeException e) {
+                // Keep the unsent tail, with this report behind it, for the next report with coverage
+                logger.warn("📶 {} upload stopped with {} of {} buffered reports unsent: {}",
+                    driver.getDriverId(), backlog.size[slot], queued, e.getMessage());
+                if (!backlog.offer(slot, message, bufferCapacity)) {
+                    droppedCounter.increment();
+                }
+                bufferedCounter.increment();
+                return false;
+            }
+        }
+        publisher.publishTelematicsData(message, driver);
+        return true;
+    }
+
+    private static final class Backlogs {
+        private final FlatTelematicsMessage[][] ring;
+        private final int[] head;
+        private final int[] size;
+
+        Backlogs(int slots) {
+            this.ring = new FlatTelematicsMessage[slots][];
+            this.head = new int[slots];
+            this.size = new int[slots];
+        }
+
+        // False when the oldest report had to make room
+        boolean offer(int slot, FlatTelematicsMessage message, int capacity) {
+            FlatTelematicsMessage[] queue = ring[slot];
+            if (queue == null) {
+                queue = ring[slot] = new FlatTelematicsMessage[capacity];
+            }
+            if (size[slot] == queue.length) {
+                queue[head[slot]] = message;
+                head[slot] = (head[slot] + 1) % queue.length;
+                return false;
+            }
+            queue[(head[slot] + size[slot]) % queue.length] = message;
+            size[slot]++;
+            return true;
+        }
+
+        FlatTelematicsMessage peek(int slot) {
+            return size[slot] == 0 ? null : ring[slot][head[slot]];
+        }
+
+        FlatTelematicsMessage poll(int slot) {
+            if (size[slot] == 0) {
+                return null;
+            }
+            FlatTelematicsMessage[] queue = ring[slot];
+            FlatTelematicsMessage message = queue[head[slot]];
+            queue[head[slot]] = null;
+            head[slot] = (head[slot] + 1) % queue.length;
+            size[slot]--;
+            return message;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
+import com.insurancemegacorp.telematicsgen.model.TelematicsSummary;
+import com.insurancemegacorp.telematicsgen.util.FixedPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * On-device style aggregation: every driver collects {@code window-samples} reports and
+ * uploads one {@link TelematicsSummary} per window instead of each report.
+ * <p>
+ * The samples live in flat primitive buffers with a fixed region per fleet slot, so adding a
+ * report is a few array writes. A full window is summarized in place: each reading's region is
+ * sorted for min, max and the 95th percentile, then the region is reused for the next window.
+ * Harsh events are counted with the generator's thresholds. A slot is only touched by the
+ * thread advancing its driver, as everywhere else in the {@link FleetState}.
+ */
+@Service
+public class SummaryAggregationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SummaryAggregationService.class);
+
+    @Value("${telematics.aggregation.enabled:false}")
+    private boolean enabled;
+
+    @Value("${telematics.aggregation.window-samples:30}")
+    private int windowSamples = 30;
+
+    private final Map<FleetState, Windows> windows = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        if (windowSamples < 1) {
+            throw new IllegalStateException("telematics.aggregation.window-samples must be positive, got " + windowSamples);
+        }
+        if (enabled) {
+            logger.info("📦 Aggregation mode: one summary per {} reports per driver", windowSamples);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Add a report of {@code driver} to its window; returns the window's summary when this
+     * report completes it, otherwise null.
+     */
+    public TelematicsSummary add(Driver driver, FlatTelematicsMessage message) {
+        // Fleets are built up front, so the first report sees the final size
+        Windows window = windows.computeIfAbsent(driver.getFleetState(), fleet -> new Windows(fleet.size(), windowSamples));
+        return window.add(driver.getSlot(), message);
+    }
+
+    private static final class Windows {
+        private final int samples;
+
+        // Samples of slot s occupy [s * samples, (s + 1) * samples)
+        private final double[] speed;
+        private final double[] gForce;
+        private final double[] accelX;
+        private final double[] accelY;
+        private final double[] accelZ;
+
+        private final int[] count;
+        private final long[] startMillis;
+        private final double[] firstLatitude;
+        private final double[] firstLongitude;
+        private final int[] hardBraking;
+        private final int[] rapidAcceleration;
+
+        Windows(int slots, int samples) {
+            this.samples = samples;
+            this.speed = new double[slots * samples];
+            this.gForce = new double[slots * samples];
+            this.accelX = new double[slots * samples];
+            this.accelY = new double[slots * samples];
+            this.accelZ = new double[slots * samples];
+            this.count = new int[slots];
+            this.startMillis = new long[slots];
+            this.firstLatitude = new double[slots];
+            this.firstLongitude = new double[slots];
+            this.hardBraking = new int[slots];
+            this.rapidAcceleration = new int[slots];
+        }
+
+        TelematicsSummary add(int slot, FlatTelematicsMessage message) {
+            int n = count[slot];
+            if (n == 0) {
+                startMillis[slot] = message.eventTime().toEpochMilli();
+                firstLatitude[slot] = message.gpsLatitude();
+                firstLongitude[slot] = message.gpsLongitude();
+                hardBraking[slot] = 0;
+                rapidAcceleration[slot] = 0;
+            }
+            int at = slot * samples + n;
+            speed[at] = message.speedMph();
+            gForce[at] = message.gForce();
+            accelX[at] = message.accelerometerX();
+            accelY[at] = message.accelerometerY();
+            accelZ[at] = message.accelerometerZ();
+            if (TelematicsDataGenerator.isHardBraking(message.accelerometerX(), message.gForce())) {
+                hardBraking[slot]++;
+            } else if (TelematicsDataGenerator.isRapidAcceleration(message.accelerometerX(), message.gForce())) {
+                rapidAcceleration[slot]++;
+            }
+            if (++n < samples) {
+                count[slot] = n;
+                return null;
+            }
+            count[slot] = 0;
+            int from = slot * samples;
+            return new TelematicsSummary(
+                TelematicsSummary.MESSAGE_TYPE,
+                message.policyId(),
+                message.vehicleId(),
+                message.vin(),
+                message.driverId(),
+                message.currentStreet(),
+                Instant.ofEpochMilli(startMillis[slot]),
+                message.eventTime(),
+                samples,
+                stats(speed, from, samples),
+                stats(gForce, from, samples),
+                stats(accelX, from, samples),
+                stats(accelY, from, samples),
+                stats(accelZ, from, samples),
+                firstLatitude[slot],
+                firstLongitude[slot],
+                message.gpsLatitude(),
+                message.gpsLongitude(),
+                hardBraking[slot],
+                rapidAcceleration[slot]
+            );
+        }
+
+        // Sorts the region; it is overwritten by the next window anyway
+        private static TelematicsSummary.Stats stats(double[] values, int from, int n) {
+            Arrays.sort(values, from, from + n);
+            double sum = 0.0;
+            for (int i = from; i < from + n; i++) {
+                sum += values[i];
+            }
+            int p95 = (int) Math.ceil(0.95 * n) - 1;
+            return new TelematicsSummary.Stats(
+                values[from],
+                values[from + n - 1],
+                FixedPoint.toDouble(FixedPoint.fourDecimals(sum / n), FixedPoint.FOUR_DECIMALS),
+                values[from + p95]);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.MutableTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.util.FixedPoint;
+import com.insurancemegacorp.telematicsgen.util.SensorKernel;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates regular reports for a block of drivers at once, with the sensor noise computed
+ * column by column through a {@link SensorKernel}.
+ * <p>
+ * {@link #generate} first walks the block and draws every driver's random numbers in exactly
+ * the order {@link TelematicsDataGenerator} would, filing the uniforms for accelerometer,
+ * gyroscope, magnetometer and barometer together with the per-driver shift, scale and bias of
+ * the state's formula. The kernel then turns the columns into readings and g-forces in one pass,
+ * and {@link #fill} copies a driver's row into a message buffer. The output is byte-identical to
+ * the one-at-a-time path. Post-crash reports have no noise, and reports replayed from sensor
+ * traces need no synthesis; both are produced by the generator.
+ * Not thread-safe; each worker owns its batch.
+ */
+public class TelematicsBatch {
+
+    private static final int ACCEL_X = 0;
+    private static final int ACCEL_Y = 1;
+    private static final int ACCEL_Z = 2;
+    private static final int GYRO_X = 3;
+    private static final int GYRO_Y = 4;
+    private static final int GYRO_Z = 5;
+    private static final int MAG_X = 6;
+    private static final int MAG_Y = 7;
+    private static final int MAG_Z = 8;
+    private static final int PRESSURE = 9;
+    private static final int COLUMNS = 10;
+
+    private static final byte DRIVING = 0;
+    private static final byte STATIONARY = 1;
+    private static final byte POST_CRASH = 2;
+    private static final byte REPLAY = 3;
+
+    private final TelematicsDataGenerator generator;
+    private final SensorKernel kernel;
+    private final Driver[] drivers;
+    private final byte[] kind;
+
+    // Noise columns: reading = bias + (uniform + shift) * scale, sensor axes in ten-thousandths;
+    // the bias carries the driver's motion where the reading follows it
+    private final double[][] uniform = new double[COLUMNS][];
+    private final double[][] shift = new double[COLUMNS][];
+    private final double[][] scale = new double[COLUMNS][];
+    private final double[][] bias = new double[COLUMNS][];
+    private final double[][] reading = new double[COLUMNS][];
+    private final double[] gForce;
+
+    // Remaining per-report draws, kept in draw order
+    private final double[] altitude;
+    private final double[] gpsAccuracy;
+    private final int[] satellites;
+    private final long[] fixTime;
+    private final int[] batteryLevel;
+    private final int[] signalStrength;
+    private final String[] orientation;
+    private final boolean[] screenOn;
+    private final boolean[] charging;
+    private int size;
+
+    TelematicsBatch(TelematicsDataGenerator generator, SensorKernel kernel, int capacity) {
+        this.generator = generator;
+        this.kernel = kernel;
+        this.drivers = new Driver[capacity];
+        this.kind = new byte[capacity];
+        for (int c = 0; c < COLUMNS; c++) {
+            uniform[c] = new double[capacity];
+            shift[c] = new double[capacity];
+            scale[c] = new double[capacity];
+            bias[c] = new double[capacity];
+            reading[c] = new double[capacity];
+        }
+        this.gForce = new double[capacity];
+        this.altitude = new double[capacity];
+        this.gpsAccuracy = new double[capacity];
+        this.satellites = new int[capacity];
+        this.fixTime = new long[capacity];
+        this.batteryLevel = new int[capacity];
+        this.signalStrength = new int[capacity];
+        this.orientation = new String[capacity];
+        this.screenOn = new boolean[capacity];
+        this.charging = new boolean[capacity];
+    }
+
+    public int capacity() {
+        return drivers.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public SensorKernel kernel() {
+        return kernel;
+    }
+
+    public Driver driver(int index) {
+        return drivers[index];
+    }
+
+    /**
+     * Generate reports for {@code drivers[from, to)}, at most {@link #capacity()} of them,
+     * replacing the previous block.
+     */
+    public void generate(List<Driver> drivers, int from, int to) {
+        if (to - from > capacity()) {
+            throw new IllegalArgumentException("Block of " + (to - from) + " exceeds batch capacity " + capacity());
+        }
+        size = to - from;
+        // Trace replay is already just a few reads per report; nothing to batch
+        boolean replay = generator.getSensorTraces() != null;
+        for (int i = 0; i < size; i++) {
+            Driver driver = drivers.get(from + i);
+            this.drivers[i] = driver;
+            if (replay) {
+                kind[i] = REPLAY;
+                continue;
+            }
+            driver.sampleMotion();
+            switch (driver.getCurrentState()) {
+                case POST_CRASH_IDLE -> kind[i] = POST_CRASH;
+                case PARKED, TRAFFIC_STOP, BREAK_TIME -> drawStationary(i, driver, driver.getRandom());
+                default -> drawDriving(i, driver, driver.getRandom());
+            }
+        }
+        for (int c = ACCEL_X; c <= MAG_Z; c++) {
+            kernel.affineFourDecimals(uniform[c], shift[c], scale[c], bias[c], reading[c], size);
+        }
+        kernel.affine(uniform[PRESSURE], shift[PRESSURE], scale[PRESSURE], bias[PRESSURE], reading[PRESSURE], size);
+        kernel.magnitudeFourDecimals(reading[ACCEL_X], reading[ACCEL_Y], reading[ACCEL_Z], gForce, size);
+    }
+
+    /**
+     * Copy the report of the driver at {@code index} into {@code out}, stamped with the current time.
+     */
+    public MutableTelematicsMessage fill(int index, MutableTelematicsMessage out) {
+        Driver driver = drivers[index];
+        if (kind[index] == POST_CRASH) {
+            generator.generatePostCrashData(driver, out);
+            return out;
+        }
+        if (kind[index] == REPLAY) {
+            return generator.generateTelematicsData(driver, out);
+        }
+        boolean driving = kind[index] == DRIVING;
+        out.set(
+            driver.getPolicyId(),
+            driver.getVehicleId(),
+            driver.getVin(),
+            driver.getFleetState().currentTimeMillis(),
+            driving ? FixedPoint.twoDecimals(driver.getCurrentSpeed()) : 0,
+            driver.getSpeedLimit(),
+            gForce[index],
+            driver.getDriverId(),
+            driver.getCurrentStreet() != null ? driver.getCurrentStreet() : "Unknown Street",
+            null,
+            driver.getCurrentLatitude(),
+            driver.getCurrentLongitude(),
+            altitude[index],
+            driving ? driver.getCurrentSpeed() * 0.44704 : 0.0,
+            driver.getCurrentBearing(),
+            gpsAccuracy[index],
+            satellites[index],
+            fixTime[index],
+            (int) reading[ACCEL_X][index],
+            (int) reading[ACCEL_Y][index],
+            (int) reading[ACCEL_Z][index],
+            (int) reading[GYRO_X][index],
+            (int) reading[GYRO_Y][index],
+            (int) reading[GYRO_Z][index],
+            (int) reading[MAG_X][index],
+            (int) reading[MAG_Y][index],
+            (int) reading[MAG_Z][index],
+            driver.getCurrentBearing(),
+            reading[PRESSURE][index],
+            batteryLevel[index],
+            signalStrength[index],
+            orientation[index],
+            screenOn[index],
+            charging[index]
+        );
+        return out;
+    }
+
+    // Mirrors TelematicsDataGenerator.generateDrivingData draw for draw
+    private void drawDriving(int i, Driver driver, SplittableRandom random) {
+        kind[i] = DRIVING;
+        noise(ACCEL_X, i, random, -0.5, 0.1, driver.getLongitudinalAccel());
+        noise(ACCEL_Y, i, random, -0.5, 0.1, driver.getLateralAccel());
+        noise(ACCEL_Z, i, random, 0.0, 0.4, 0.8);
+        altitude[i] = 320.5 + random.nextDouble() * 50.0;
+        gpsAccuracy[i] = 1.5 + random.nextDouble() * 2.0;
+        satellites[i] = 10 + random.nextInt(3);
+        fixTime[i] = 50 + random.nextLong() % 100;
+        noise(GYRO_X, i, random, -0.5, 0.5, 0.0);
+        noise(GYRO_Y, i, random, -0.5, 0.8, 0.0);
+        noise(GYRO_Z, i, random, -0.5, 0.1, driver.getYawRate());
+        noise(MAG_X, i, random, 0.0, 10.0, 20.0);
+        noise(MAG_Y, i, random, 0.0, 10.0, -15.0);
+        noise(MAG_Z, i, random, 0.0, 15.0, 40.0);
+        noise(PRESSURE, i, random, 0.0, 8.0, 1013.0);
+        batteryLevel[i] = 80 + random.nextInt(15);
+        signalStrength[i] = TelematicsDataGenerator.signalStrength(driver, -60, 25, random);
+        orientation[i] = "landscape";
+        screenOn[i] = random.nextBoolean();
+        charging[i] = random.nextBoolean();
+    }
+
+    // Mirrors TelematicsDataGenerator.generateStationaryData draw for draw
+    private void drawStationary(int i, Driver driver, SplittableRandom random) {
+        kind[i] = STATIONARY;
+        noise(ACCEL_X, i, random, -0.5, 0.1, 0.0);
+        noise(ACCEL_Y, i, random, -0.5, 0.1, 0.0);
+        noise(ACCEL_Z, i, random, 0.0, 0.1, 0.95);
+        altitude[i] = 320.5 + random.nextDouble() * 50.0;
+        gpsAccuracy[i] = 0.8 + random.nextDouble() * 1.0;
+        satellites[i] = 11 + random.nextInt(2);
+        fixTime[i] = 30 + random.nextLong() % 50;
+        noise(GYRO_X, i, random, -0.5, 0.02, 0.0);
+        noise(GYRO_Y, i, random, -0.5, 0.02, 0.0);
+        noise(GYRO_Z, i, random, -0.5, 0.02, 0.0);
+        noise(MAG_X, i, random, 0.0, 6.0, 22.0);
+        noise(MAG_Y, i, random, 0.0, 6.0, -12.0);
+        noise(MAG_Z, i, random, 0.0, 8.0, 42.0);
+        noise(PRESSURE, i, random, 0.0, 5.0, 1013.2);
+        batteryLevel[i] = 85 + random.nextInt(10);
+        signalStrength[i] = TelematicsDataGenerator.signalStrength(driver, -65, 20, random);
+        orientation[i] = random.nextBoolean() ? "portrait" : "face_up";
+        screenOn[i] = random.nextBoolean();
+        charging[i] = random.nextDouble() > 0.3;
+    }
+
+    private void noise(int column, int i, SplittableRandom random, double shift, double scale, double bias) {
+        uniform[column][i] = random.nextDouble();
+        this.shift[column][i] = shift;
+        this.scale[column][i] = scale;
+        this.bias[column][i] = bias;
+    }
+}
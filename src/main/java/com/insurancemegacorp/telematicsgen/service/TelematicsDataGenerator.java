@@ -1,34 +1,88 @@
 package com.insurancemegacorp.telematicsgen.service;
 
 import com.insurancemegacorp.telematicsgen.model.*;
+import com.insurancemegacorp.telematicsgen.util.FixedPoint;
+import com.insurancemegacorp.telematicsgen.util.SensorKernel;
+import com.insurancemegacorp.telematicsgen.util.SensorTraceLibrary;
 import org.springframework.stereotype.Service;
 
-import java.security.SecureRandom;
-import java.time.Instant;
+import java.util.SplittableRandom;
 
 @Service
 public class TelematicsDataGenerator {
 
-    private final SecureRandom random = new SecureRandom();
+    // Harsh events as downstream detectors see them: longitudinal g beyond these, at g_force >= 0.5
+    public static final double HARD_BRAKING_ACCEL_X = -0.8;
+    public static final double RAPID_ACCEL_ACCEL_X = 0.7;
+    public static final double HARSH_EVENT_G_FORCE = 0.5;
+
+    /** Strongest signal a device reports while out of coverage, in dBm. */
+    public static final int NO_COVERAGE_DBM = -110;
+
     @org.springframework.beans.factory.annotation.Value("${telematics.simulation.min-crash-gforce:6.0}")
     private double minCrashGForce;
 
+    // SIMD sensor batches when the JVM runs with --add-modules jdk.incubator.vector
+    @org.springframework.beans.factory.annotation.Value("${telematics.simulation.vector-sensors:true}")
+    private boolean vectorSensors = true;
+
+    // Crash pulse shape: typical vehicle crash pulse length, rotation length and body ring
+    static final int IMPACT_MS = 100;
+    private static final double ROTATION_MS = 300.0;
+    private static final double ROLLOVER_ROTATION_MS = 900.0;
+    private static final double RING_AMPLITUDE = 0.15;
+    private static final double RING_HZ = 12.0;
+    private static final double RING_DECAY_MS = 80.0;
+
+    // Scratch buffer for the record variants on platform threads (engine shards, the RANDOM loop);
+    // virtual threads, one per device, allocate one per report instead of each keeping its own
+    private static final ThreadLocal<MutableTelematicsMessage> SCRATCH =
+        ThreadLocal.withInitial(MutableTelematicsMessage::new);
+
+    // Pre-generated sensor traces to replay instead of fresh noise; null synthesizes every reading
+    private volatile SensorTraceLibrary sensorTraces;
+
+    /**
+     * Generate a report as an immutable record, the only allocation per report on platform threads.
+     */
     public FlatTelematicsMessage generateTelematicsData(Driver driver) {
+        return generateTelematicsData(driver, scratch()).toRecord();
+    }
+
+    /**
+     * Variant for hot loops that keep one buffer: overwrites {@code out} and returns it, so no
+     * report is allocated. Draws the same random numbers in the same order as the record variant.
+     */
+    public MutableTelematicsMessage generateTelematicsData(Driver driver, MutableTelematicsMessage out) {
+        driver.sampleMotion();
         switch (driver.getCurrentState()) {
-            case DRIVING -> {
-                return generateDrivingData(driver);
-            }
-            case POST_CRASH_IDLE -> {
-                // Post-crash data should be frozen/static until state changes
-                return generatePostCrashData(driver);
-            }
-            case PARKED, TRAFFIC_STOP, BREAK_TIME -> {
-                return generateStationaryData(driver);
-            }
-            default -> {
-                return generateDrivingData(driver);
-            }
+            case DRIVING -> generateDrivingData(driver, out);
+            // Post-crash data should be frozen/static until state changes
+            case POST_CRASH_IDLE -> generatePostCrashData(driver, out);
+            case PARKED, TRAFFIC_STOP, BREAK_TIME -> generateStationaryData(driver, out);
+            default -> generateDrivingData(driver, out);
         }
+        return out;
+    }
+
+    public void setSensorTraces(SensorTraceLibrary sensorTraces) {
+        this.sensorTraces = sensorTraces;
+    }
+
+    public SensorTraceLibrary getSensorTraces() {
+        return sensorTraces;
+    }
+
+    private static MutableTelematicsMessage scratch() {
+        return Thread.currentThread().isVirtual() ? new MutableTelematicsMessage() : SCRATCH.get();
+    }
+
+    /**
+     * A reusable batch for generating regular reports for up to {@code capacity} drivers at once;
+     * see {@link TelematicsBatch}.
+     */
+    public TelematicsBatch newBatch(int capacity) {
+        return new TelematicsBatch(this, vectorSensors ? SensorKernel.preferred() : SensorKernel.scalar(), capacity);
     }
 
     /**
@@ -36,7 +90,7 @@ public class TelematicsDataGenerator {
      * Weights are based on real-world accident frequency statistics.
      */
     public FlatTelematicsMessage generateCrashEventData(Driver driver) {
-        AccidentType accidentType = selectWeightedAccidentType();
+        AccidentType accidentType = selectWeightedAccidentType(driver.getRandom());
         return generateCrashEventData(driver, accidentType);
     }
 
@@ -46,7 +100,7 @@ public class TelematicsDataGenerator {
      * Note: REAR_ENDED (being hit from behind) is rare when actively driving,
      * so it's excluded here - use the specific method for stopped vehicles.
      */
-    private AccidentType selectWeightedAccidentType() {
+    private AccidentType selectWeightedAccidentType(SplittableRandom random) {
         // Weights for MOVING vehicles (total = 100)
         // REAR_ENDED excluded - that's for stopped vehicles
         double roll = random.nextDouble() * 100;
@@ -84,32 +138,47 @@ public class TelematicsDataGenerator {
      * Speed at impact is captured from the driver's current speed before the crash.
      */
     public FlatTelematicsMessage generateCrashEventData(Driver driver, AccidentType accidentType) {
+        return generateCrashEventData(driver, accidentType, scratch()).toRecord();
+    }
+
+    private MutableTelematicsMessage generateCrashEventData(Driver driver, AccidentType accidentType, MutableTelematicsMessage out) {
+        SplittableRandom random = driver.getRandom();
         AccidentType.SensorProfile profile = accidentType.getSensorProfile();
 
         // Use stored speed at impact (captured before speed was set to 0)
         Double storedSpeed = driver.getCrashSpeedAtImpact();
         double speedAtImpact = (storedSpeed != null) ? storedSpeed : driver.getCurrentSpeed();
 
+        SensorTraceLibrary library = sensorTraces;
+        int sample = library != null
+            ? library.sample(SensorTraceLibrary.traceFor(accidentType), driver.getDriverId(), driver.getMessageCount()) : 0;
+
         // Generate accelerometer readings based on accident type profile
-        double accelX = roundToFourDecimals(profile.generateAccelX(random));
-        double accelY = roundToFourDecimals(profile.generateAccelY(random));
-        double accelZ = roundToFourDecimals(profile.generateAccelZ(random));
+        int accelX = library != null ? library.read(sample, SensorTraceLibrary.ACCEL_X)
+            : FixedPoint.fourDecimals(profile.generateAccelX(random));
+        int accelY = library != null ? library.read(sample, SensorTraceLibrary.ACCEL_Y)
+            : FixedPoint.fourDecimals(profile.generateAccelY(random));
+        int accelZ = library != null ? library.read(sample, SensorTraceLibrary.ACCEL_Z)
+            : FixedPoint.fourDecimals(profile.generateAccelZ(random));
 
         // Generate gyroscope readings based on accident type profile
-        double gyroX = roundToFourDecimals(profile.generateGyroX(random));
-        double gyroY = roundToFourDecimals(profile.generateGyroY(random));
-        double gyroZ = roundToFourDecimals(profile.generateGyroZ(random));
+        int gyroX = library != null ? library.read(sample, SensorTraceLibrary.GYRO_X)
+            : FixedPoint.fourDecimals(profile.generateGyroX(random));
+        int gyroY = library != null ? library.read(sample, SensorTraceLibrary.GYRO_Y)
+            : FixedPoint.fourDecimals(profile.generateGyroY(random));
+        int gyroZ = library != null ? library.read(sample, SensorTraceLibrary.GYRO_Z)
+            : FixedPoint.fourDecimals(profile.generateGyroZ(random));
 
         // Calculate G-force and enforce minimum threshold for crash
-        double gForce = Math.max(minCrashGForce, Math.sqrt(accelX * accelX + accelY * accelY + accelZ * accelZ));
+        double gForce = Math.max(minCrashGForce, gForce(accelX, accelY, accelZ));
 
-        return new FlatTelematicsMessage(
+        return out.set(
             // Core message fields
             driver.getPolicyId(),
             driver.getVehicleId(),
             driver.getVin(),
-            Instant.now(),
-            roundToTwoDecimals(speedAtImpact), // Speed at moment of impact
+            driver.getFleetState().currentTimeMillis(),
+            FixedPoint.twoDecimals(speedAtImpact), // Speed at moment of impact
             driver.getSpeedLimit(),
             gForce,
             driver.getDriverId(),
@@ -137,9 +206,12 @@ public class TelematicsDataGenerator {
             gyroZ,
 
             // Magnetometer data fields
-            roundToFourDecimals(20.0 + random.nextDouble() * 10.0),
-            roundToFourDecimals(-15.0 + random.nextDouble() * 10.0),
-            roundToFourDecimals(40.0 + random.nextDouble() * 15.0),
+            library != null ? library.read(sample, SensorTraceLibrary.MAG_X)
+                : FixedPoint.fourDecimals(20.0 + random.nextDouble() * 10.0),
+            library != null ? library.read(sample, SensorTraceLibrary.MAG_Y)
+                : FixedPoint.fourDecimals(-15.0 + random.nextDouble() * 10.0),
+            library != null ? library.read(sample, SensorTraceLibrary.MAG_Z)
+                : FixedPoint.fourDecimals(40.0 + random.nextDouble() * 15.0),
             driver.getCurrentBearing(), // Compass heading
 
             // Environmental data
@@ -147,53 +219,114 @@ public class TelematicsDataGenerator {
 
             // Device metadata fields
             75 + random.nextInt(20),               // Battery level (75-95%)
-            -70 - random.nextInt(30),              // Signal strength (-70 to -100 dBm)
+            signalStrength(driver, -70, 30, random), // Signal strength (-70 to -100 dBm)
             "landscape",                           // Device orientation
             random.nextBoolean(),                  // Screen on/off
             random.nextBoolean()                   // Charging status
         );
     }
 
-    private FlatTelematicsMessage generateDrivingData(Driver driver) {
-        double accelX;
-        double accelY;
-        double accelZ;
-
-        // Event probabilities based on driver type
-        // Aggressive: 5% hard braking, 5% rapid acceleration (10% total events)
-        // Normal: 2% hard braking, 2% rapid acceleration (4% total events)
-        double hardBrakingThreshold = driver.isAggressive() ? 0.05 : 0.02;
-        double rapidAccelThreshold = driver.isAggressive() ? 0.10 : 0.04;
-
-        double eventRoll = random.nextDouble();
-
-        if (eventRoll < hardBrakingThreshold) {
-            // Hard braking event (accelX < -0.8, g_force >= 0.5)
-            accelX = roundToFourDecimals(-0.9 - random.nextDouble() * 0.5); // -0.9 to -1.4
-            accelY = roundToFourDecimals((random.nextDouble() - 0.5) * 0.3);
-            accelZ = roundToFourDecimals(0.9 + random.nextDouble() * 0.2);
-        } else if (eventRoll < rapidAccelThreshold) {
-            // Rapid acceleration event (accelX > 0.7, g_force >= 0.5)
-            accelX = roundToFourDecimals(0.8 + random.nextDouble() * 0.4); // 0.8 to 1.2
-            accelY = roundToFourDecimals((random.nextDouble() - 0.5) * 0.3);
-            accelZ = roundToFourDecimals(0.9 + random.nextDouble() * 0.2);
+    /**
+     * Fill {@code out} with a {@code windowMs} burst of accelerometer and gyroscope samples at
+     * {@code sampleRateHz}, centred on an impact at {@code impactMillis}.
+     * <p>
+     * Before the impact the readings are light driving vibration. Each axis then follows a
+     * half-sine crash pulse from rest to a peak drawn from the accident type's sensor profile
+     * ({@value #IMPACT_MS} ms for the accelerometer, longer for the rotation, which a rollover
+     * sustains), followed by a decaying body ring and the stopped vehicle's rest values.
+     * Written column by column into the buffer; nothing is allocated per sample.
+     */
+    public CrashPulse generateCrashPulse(Driver driver, AccidentType accidentType, long impactMillis,
+                                         int sampleRateHz, int windowMs, CrashPulse out) {
+        SplittableRandom random = driver.getRandom();
+        AccidentType.SensorProfile profile = accidentType.getSensorProfile();
+        int samples = (int) ((long) windowMs * sampleRateHz / 1000);
+        int startOffsetMs = -windowMs / 2;
+        out.start(driver.getPolicyId(), driver.getVehicleId(), driver.getVin(), driver.getDriverId(),
+            accidentType.name(), impactMillis, sampleRateHz, startOffsetMs, samples);
+
+        // Peak of the pulse on each axis; the vertical axis rests at 1 g
+        double accelX = profile.generateAccelX(random);
+        double accelY = profile.generateAccelY(random);
+        double accelZ = profile.generateAccelZ(random) - 1.0;
+        double gyroX = profile.generateGyroX(random);
+        double gyroY = profile.generateGyroY(random);
+        double gyroZ = profile.generateGyroZ(random);
+        double rotationMs = accidentType == AccidentType.ROLLOVER ? ROLLOVER_ROTATION_MS : ROTATION_MS;
+
+        for (int k = 0; k < samples; k++) {
+            double t = startOffsetMs + k * 1000.0 / sampleRateHz;
+            double impact = pulseShape(t, IMPACT_MS);
+            double rotation = pulseShape(t, rotationMs);
+            // Road vibration while driving, settling once the vehicle has stopped
+            double vibration = t < 0 ? 0.1 : 0.02;
+            double wobble = t < 0 ? 0.04 : 0.01;
+            out.setSample(k,
+                FixedPoint.fourDecimals(accelX * impact + (random.nextDouble() - 0.5) * vibration),
+                FixedPoint.fourDecimals(accelY * impact + (random.nextDouble() - 0.5) * vibration),
+                FixedPoint.fourDecimals(1.0 + accelZ * impact + (random.nextDouble() - 0.5) * vibration),
+                FixedPoint.fourDecimals(gyroX * rotation + (random.nextDouble() - 0.5) * wobble),
+                FixedPoint.fourDecimals(gyroY * rotation + (random.nextDouble() - 0.5) * wobble),
+                FixedPoint.fourDecimals(gyroZ * rotation + (random.nextDouble() - 0.5) * wobble));
+        }
+        return out;
+    }
+
+    // Fraction of the peak at t ms after impact: a half-sine pulse of the given duration, then a decaying ring
+    static double pulseShape(double t, double durationMs) {
+        if (t < 0) {
+            return 0.0;
+        }
+        if (t < durationMs) {
+            return Math.sin(Math.PI * t / durationMs);
+        }
+        double after = t - durationMs;
+        return RING_AMPLITUDE * Math.exp(-after / RING_DECAY_MS) * Math.sin(2 * Math.PI * RING_HZ * after / 1000.0);
+    }
+
+    /**
+     * Longitudinal and lateral acceleration and the yaw rate follow the driver's speed and bearing
+     * changes since the previous report (see {@link Driver#sampleMotion}), with road vibration on
+     * top. Hard braking and rapid acceleration show up only when the driver's speed changed that
+     * fast, see {@link DriverManager}.
+     */
+    private void generateDrivingData(Driver driver, MutableTelematicsMessage out) {
+        SplittableRandom random = driver.getRandom();
+        double longitudinal = driver.getLongitudinalAccel();
+        double lateral = driver.getLateralAccel();
+        int accelX;
+        int accelY;
+        int accelZ;
+
+        SensorTraceLibrary library = sensorTraces;
+        int sample = 0;
+
+        if (library != null) {
+            // Replay the trace of the regime the motion is in instead of drawing fresh noise
+            int regime = longitudinal < HARD_BRAKING_ACCEL_X ? SensorTraceLibrary.HARD_BRAKE
+                : longitudinal > RAPID_ACCEL_ACCEL_X ? SensorTraceLibrary.RAPID_ACCEL : SensorTraceLibrary.CRUISE;
+            sample = library.sample(regime, driver.getDriverId(), driver.getMessageCount());
+            accelX = library.read(sample, SensorTraceLibrary.ACCEL_X)
+                + (regime == SensorTraceLibrary.CRUISE ? FixedPoint.fourDecimals(longitudinal) : 0);
+            accelY = library.read(sample, SensorTraceLibrary.ACCEL_Y) + FixedPoint.fourDecimals(lateral);
+            accelZ = library.read(sample, SensorTraceLibrary.ACCEL_Z);
         } else {
-            // Normal driving accelerometer data
-            accelX = roundToFourDecimals((random.nextDouble() - 0.5) * 1.0);
-            accelY = roundToFourDecimals((random.nextDouble() - 0.5) * 1.0);
-            accelZ = roundToFourDecimals(0.8 + random.nextDouble() * 0.4);
+            // Speed change and cornering plus road vibration
+            accelX = FixedPoint.fourDecimals(longitudinal + (random.nextDouble() - 0.5) * 0.1);
+            accelY = FixedPoint.fourDecimals(lateral + (random.nextDouble() - 0.5) * 0.1);
+            accelZ = FixedPoint.fourDecimals(0.8 + random.nextDouble() * 0.4);
         }
 
         // Calculate G-force from accelerometer data
-        double gForce = Math.sqrt(accelX * accelX + accelY * accelY + accelZ * accelZ);
+        double gForce = gForce(accelX, accelY, accelZ);
 
-        return new FlatTelematicsMessage(
+        out.set(
             // Core message fields
             driver.getPolicyId(),
             driver.getVehicleId(),
             driver.getVin(),
-            Instant.now(),
-            roundToTwoDecimals(driver.getCurrentSpeed()),
+            driver.getFleetState().currentTimeMillis(),
+            FixedPoint.twoDecimals(driver.getCurrentSpeed()),
             driver.getSpeedLimit(),
             gForce,
             driver.getDriverId(),
@@ -216,14 +349,20 @@ public class TelematicsDataGenerator {
             accelZ,
 
             // Gyroscope data fields (normal driving - turning, lane changes)
-            roundToFourDecimals((random.nextDouble() - 0.5) * 0.5), // Gentle pitch changes
-            roundToFourDecimals((random.nextDouble() - 0.5) * 0.8), // Lane changes, turns
-            roundToFourDecimals((random.nextDouble() - 0.5) * 1.2), // Steering movements
+            library != null ? library.read(sample, SensorTraceLibrary.GYRO_X)
+                : FixedPoint.fourDecimals((random.nextDouble() - 0.5) * 0.5), // Gentle pitch changes
+            library != null ? library.read(sample, SensorTraceLibrary.GYRO_Y)
+                : FixedPoint.fourDecimals((random.nextDouble() - 0.5) * 0.8), // Lane changes, turns
+            library != null ? library.read(sample, SensorTraceLibrary.GYRO_Z) + FixedPoint.fourDecimals(driver.getYawRate())
+                : FixedPoint.fourDecimals(driver.getYawRate() + (random.nextDouble() - 0.5) * 0.1), // Turning
 
             // Magnetometer data fields (compass/magnetic field)
-            roundToFourDecimals(20.0 + random.nextDouble() * 10.0),
-            roundToFourDecimals(-15.0 + random.nextDouble() * 10.0),
-            roundToFourDecimals(40.0 + random.nextDouble() * 15.0),
+            library != null ? library.read(sample, SensorTraceLibrary.MAG_X)
+                : FixedPoint.fourDecimals(20.0 + random.nextDouble() * 10.0),
+            library != null ? library.read(sample, SensorTraceLibrary.MAG_Y)
+                : FixedPoint.fourDecimals(-15.0 + random.nextDouble() * 10.0),
+            library != null ? library.read(sample, SensorTraceLibrary.MAG_Z)
+                : FixedPoint.fourDecimals(40.0 + random.nextDouble() * 15.0),
             driver.getCurrentBearing(), // Compass heading
 
             // Environmental data
@@ -231,7 +370,7 @@ public class TelematicsDataGenerator {
 
             // Device metadata fields
             80 + random.nextInt(15),               // Battery level (80-95%)
-            -60 - random.nextInt(25),              // Signal strength (-60 to -85 dBm)
+            signalStrength(driver, -60, 25, random), // Signal strength (-60 to -85 dBm)
             "landscape",                           // Device orientation
             random.nextBoolean(),                  // Screen on/off
             random.nextBoolean()                   // Charging status
@@ -242,17 +381,17 @@ public class TelematicsDataGenerator {
      * Generate frozen/static data for post-crash state.
      * Values remain constant to indicate the vehicle is immobile after an accident.
      */
-    private FlatTelematicsMessage generatePostCrashData(Driver driver) {
+    void generatePostCrashData(Driver driver, MutableTelematicsMessage out) {
         // Use crash snapshot data if available (accident type persists during post-crash)
         String accidentType = driver.getCrashAccidentType();
 
-        return new FlatTelematicsMessage(
+        out.set(
             // Core message fields
             driver.getPolicyId(),
             driver.getVehicleId(),
             driver.getVin(),
-            Instant.now(),
-            0.0, // Vehicle is now stationary after crash
+            driver.getFleetState().currentTimeMillis(),
+            0, // Vehicle is now stationary after crash
             driver.getSpeedLimit(),
             1.0, // Normal G-force (vehicle at rest)
             driver.getDriverId(),
@@ -269,20 +408,20 @@ public class TelematicsDataGenerator {
             12,     // Fixed satellite count
             40L,    // Fixed fix time
 
-            // Accelerometer data - minimal, vehicle at rest
-            0.0,
-            0.0,
-            1.0,  // Only gravity
+            // Accelerometer data (ten-thousandths) - minimal, vehicle at rest
+            0,
+            0,
+            10_000,  // Only gravity
 
             // Gyroscope data - zero rotation
-            0.0,
-            0.0,
-            0.0,
-
-            // Magnetometer data - stable
-            25.0,
-            -10.0,
-            45.0,
+            0,
+            0,
+            0,
+
+            // Magnetometer data (ten-thousandths) - stable
+            250_000,
+            -100_000,
+            450_000,
             driver.getCurrentBearing(),
 
             // Environmental data
@@ -290,29 +429,36 @@ public class TelematicsDataGenerator {
 
             // Device metadata - frozen values
             85,      // Battery level
-            -70,     // Signal strength
+            driver.isOutOfCoverage() ? NO_COVERAGE_DBM : -70, // Signal strength
             "face_up",  // Device likely thrown/displaced
             true,    // Screen on (emergency)
             false    // Not charging
         );
     }
 
-    private FlatTelematicsMessage generateStationaryData(Driver driver) {
+    private void generateStationaryData(Driver driver, MutableTelematicsMessage out) {
+        SplittableRandom random = driver.getRandom();
+        SensorTraceLibrary library = sensorTraces;
+        int sample = library != null ? library.sample(SensorTraceLibrary.PARKED, driver.getDriverId(), driver.getMessageCount())
+            : 0;
         // Minimal accelerometer data for stationary vehicle
-        double accelX = roundToFourDecimals((random.nextDouble() - 0.5) * 0.1);
-        double accelY = roundToFourDecimals((random.nextDouble() - 0.5) * 0.1);
-        double accelZ = roundToFourDecimals(0.95 + random.nextDouble() * 0.1);
+        int accelX = library != null ? library.read(sample, SensorTraceLibrary.ACCEL_X)
+            : FixedPoint.fourDecimals((random.nextDouble() - 0.5) * 0.1);
+        int accelY = library != null ? library.read(sample, SensorTraceLibrary.ACCEL_Y)
+            : FixedPoint.fourDecimals((random.nextDouble() - 0.5) * 0.1);
+        int accelZ = library != null ? library.read(sample, SensorTraceLibrary.ACCEL_Z)
+            : FixedPoint.fourDecimals(0.95 + random.nextDouble() * 0.1);
 
         // Calculate G-force from accelerometer data (minimal for stationary)
-        double gForce = Math.sqrt(accelX * accelX + accelY * accelY + accelZ * accelZ);
+        double gForce = gForce(accelX, accelY, accelZ);
 
-        return new FlatTelematicsMessage(
+        out.set(
             // Core message fields
             driver.getPolicyId(),
             driver.getVehicleId(),
             driver.getVin(),
-            Instant.now(),
-            0.0, // Zero speed when stationary
+            driver.getFleetState().currentTimeMillis(),
+            0, // Zero speed when stationary
             driver.getSpeedLimit(),
             gForce,
             driver.getDriverId(),
@@ -335,14 +481,20 @@ public class TelematicsDataGenerator {
             accelZ,
 
             // Gyroscope data fields (minimal movement when stationary)
-            roundToFourDecimals((random.nextDouble() - 0.5) * 0.02), // Tiny pitch variations
-            roundToFourDecimals((random.nextDouble() - 0.5) * 0.02), // Tiny roll variations
-            roundToFourDecimals((random.nextDouble() - 0.5) * 0.02), // Tiny yaw variations
+            library != null ? library.read(sample, SensorTraceLibrary.GYRO_X)
+                : FixedPoint.fourDecimals((random.nextDouble() - 0.5) * 0.02), // Tiny pitch variations
+            library != null ? library.read(sample, SensorTraceLibrary.GYRO_Y)
+                : FixedPoint.fourDecimals((random.nextDouble() - 0.5) * 0.02), // Tiny roll variations
+            library != null ? library.read(sample, SensorTraceLibrary.GYRO_Z)
+                : FixedPoint.fourDecimals((random.nextDouble() - 0.5) * 0.02), // Tiny yaw variations
 
             // Magnetometer data fields (stable when stationary)
-            roundToFourDecimals(22.0 + random.nextDouble() * 6.0),
-            roundToFourDecimals(-12.0 + random.nextDouble() * 6.0),
-            roundToFourDecimals(42.0 + random.nextDouble() * 8.0),
+            library != null ? library.read(sample, SensorTraceLibrary.MAG_X)
+                : FixedPoint.fourDecimals(22.0 + random.nextDouble() * 6.0),
+            library != null ? library.read(sample, SensorTraceLibrary.MAG_Y)
+                : FixedPoint.fourDecimals(-12.0 + random.nextDouble() * 6.0),
+            library != null ? library.read(sample, SensorTraceLibrary.MAG_Z)
+                : FixedPoint.fourDecimals(42.0 + random.nextDouble() * 8.0),
             driver.getCurrentBearing(), // Compass heading
 
             // Environmental data
@@ -350,18 +502,36 @@ public class TelematicsDataGenerator {
 
             // Device metadata fields (potentially different when parked)
             85 + random.nextInt(10),               // Battery level (85-95%, may be charging)
-            -65 - random.nextInt(20),              // Signal strength (-65 to -85 dBm)
+            signalStrength(driver, -65, 20, random), // Signal strength (-65 to -85 dBm)
             random.nextBoolean() ? "portrait" : "face_up", // Device orientation when parked
             random.nextBoolean(),                  // Screen on/off
             random.nextDouble() > 0.3              // Higher chance of charging when parked
         );
     }
 
-    private double roundToTwoDecimals(double value) {
-        return Math.round(value * 100.0) / 100.0;
+    /**
+     * Signal strength within {@code spread} dBm below {@code strongest}, or below
+     * {@link #NO_COVERAGE_DBM} while the device is out of coverage.
+     */
+    static int signalStrength(Driver driver, int strongest, int spread, SplittableRandom random) {
+        return (driver.isOutOfCoverage() ? NO_COVERAGE_DBM : strongest) - random.nextInt(spread);
     }
 
-    private double roundToFourDecimals(double value) {
-        return Math.round(value * 10000.0) / 10000.0;
+    public static boolean isHardBraking(double accelerometerX, double gForce) {
+        return accelerometerX < HARD_BRAKING_ACCEL_X && gForce >= HARSH_EVENT_G_FORCE;
+    }
+
+    public static boolean isRapidAcceleration(double accelerometerX, double gForce) {
+        return accelerometerX > RAPID_ACCEL_ACCEL_X && gForce >= HARSH_EVENT_G_FORCE;
+    }
+
+    /**
+     * Magnitude of an accelerometer reading given in ten-thousandths of a g.
+     */
+    static double gForce(int accelX, int accelY, int accelZ) {
+        double x = FixedPoint.toDouble(accelX, FixedPoint.FOUR_DECIMALS);
+        double y = FixedPoint.toDouble(accelY, FixedPoint.FOUR_DECIMALS);
+        double z = FixedPoint.toDouble(accelZ, FixedPoint.FOUR_DECIMALS);
+        return Math.sqrt(x * x + y * y + z * z);
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,11 @@
 package com.insurancemegacorp.telematicsgen.service;
 
+import com.insurancemegacorp.telematicsgen.model.CrashPulse;
 import com.insurancemegacorp.telematicsgen.model.Driver;
 import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.model.TelematicsSummary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -13,22 +14,24 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 
 import jakarta.annotation.PostConstruct;
-import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 @Service
 public class TelematicsPublisher {
 
     private static final Logger logger = LoggerFactory.getLogger(TelematicsPublisher.class);
-    private static final int MAX_RETRIES = 3;
-    private static final long CONFIRM_TIMEOUT_MS = 5000;
+
+    /** Reports at or above this g-force are crash events, published with confirmation. */
+    public static final double CRASH_G_FORCE = 2.5;
 
     private final RabbitTemplate rabbitTemplate;
     private final WebSocketBroadcastService webSocketService;
     private final Counter messagesSentCounter;
     private final Counter messagesFailedCounter;
-    private final Counter messagesRetriedCounter;
     private final TelematicsRateService rateService;
+    private final ColumnarBatchPublisher columnarBatches;
+    private final BatchingPublisher batchingPublisher;
+    private final CrashEventPublisher crashEvents;
+    private final CrashPulseService crashPulses;
 
     @Value("${telematics.exchange.name:telematics_exchange}")
     private String exchangeName;
@@ -36,19 +39,24 @@ public class TelematicsPublisher {
     public TelematicsPublisher(RabbitTemplate rabbitTemplate,
                               WebSocketBroadcastService webSocketService,
                               MeterRegistry meterRegistry,
-                              TelematicsRateService rateService) {
+                              TelematicsRateService rateService,
+                              ColumnarBatchPublisher columnarBatches,
+                              BatchingPublisher batchingPublisher,
+                              CrashEventPublisher crashEvents,
+                              CrashPulseService crashPulses) {
         this.rabbitTemplate = rabbitTemplate;
         this.webSocketService = webSocketService;
         this.rateService = rateService;
+        this.columnarBatches = columnarBatches;
+        this.batchingPublisher = batchingPublisher;
+        this.crashEvents = crashEvents;
+        this.crashPulses = crashPulses;
         this.messagesSentCounter = Counter.builder("telematics.messages.sent")
             .description("Total number of telematics messages sent to RabbitMQ")
             .register(meterRegistry);
         this.messagesFailedCounter = Counter.builder("telematics.messages.failed")
             .description("Total number of telematics messages that failed to send")
             .register(meterRegistry);
-        this.messagesRetriedCounter = Counter.builder("telematics.messages.retried")
-            .description("Total number of telematics message retry attempts")
-            .register(meterRegistry);
     }
 
     @PostConstruct
@@ -65,14 +73,19 @@ public class TelematicsPublisher {
         }
 
         logger.info("✅ RabbitMQ publisher confirms enabled");
+        if (columnarBatches.isEnabled() && batchingPublisher.isEnabled()) {
+            logger.warn("📦 Batching has no effect while columnar batches are enabled: reports go out in columnar batches");
+        }
     }
 
     public void publishTelematicsData(FlatTelematicsMessage message, Driver driver) {
-        boolean isCrashEvent = message.gForce() >= 2.5; // Treat high G-force as crash
+        boolean isCrashEvent = message.gForce() >= CRASH_G_FORCE; // Treat high G-force as crash
 
         if (isCrashEvent) {
-            // For crash events, use confirmed publish with retry
-            publishWithConfirmation(message, driver);
+            // For crash events, use confirmed publish with retry, tracked off this thread
+            crashEvents.publish(message);
+            crashPulses.publishFor(driver, message, this::publishCrashPulse);
+            webSocketService.broadcastDriverUpdate(driver, message);
         } else {
             // For normal telemetry, use standard publish (fire-and-forget is OK)
             publishStandard(message, driver);
@@ -80,76 +93,53 @@ public class TelematicsPublisher {
     }
 
     /**
-     * Publish with confirmation and retry logic - used for critical messages like crash events.
+     * Publish a window summary in aggregation mode, fire-and-forget like regular telemetry.
      */
-    private void publishWithConfirmation(FlatTelematicsMessage message, Driver driver) {
-        int attempt = 0;
-        boolean confirmed = false;
-
-        while (attempt < MAX_RETRIES && !confirmed) {
-            attempt++;
-            String correlationId = UUID.randomUUID().toString();
-            CorrelationData correlationData = new CorrelationData(correlationId);
-
-            try {
-                // Send with correlation data for confirmation tracking
-                rabbitTemplate.convertAndSend(exchangeName, "", message, correlationData);
-
-                // Wait for confirmation
-                CorrelationData.Confirm confirm = correlationData.getFuture()
-                    .get(CONFIRM_TIMEOUT_MS, TimeUnit.MILLISECONDS);
-
-                if (confirm != null && confirm.isAck()) {
-                    confirmed = true;
-                    messagesSentCounter.increment();
-                    rateService.incrementMessageCount();
-
-                    logger.info("🚨📡 CRASH EVENT CONFIRMED | Driver:{} | Speed:{} mph | SpeedLimit:{} mph | G-force:{}g | Street:{} | Type:{} | correlationId={}",
-                        message.driverId(),
-                        String.format("%.2f", message.speedMph()),
-                        message.speedLimitMph(),
-                        String.format("%.2f", message.gForce()),
-                        message.currentStreet(),
-                        message.accidentType(),
-                        correlationId);
-                } else {
-                    logger.warn("⚠️ Crash event not acknowledged, attempt {}/{}: driver={}, reason={}",
-                        attempt, MAX_RETRIES, message.driverId(),
-                        confirm != null ? confirm.getReason() : "timeout");
-                    messagesRetriedCounter.increment();
-                }
-
-            } catch (Exception e) {
-                logger.warn("⚠️ Crash event publish failed, attempt {}/{}: driver={}, error={}",
-                    attempt, MAX_RETRIES, message.driverId(), e.getMessage());
-                messagesRetriedCounter.increment();
-
-                // Brief delay before retry
-                if (attempt < MAX_RETRIES) {
-                    try {
-                        Thread.sleep(100 * attempt); // Exponential backoff: 100ms, 200ms, 300ms
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
-                }
-            }
+    public void publishSummary(TelematicsSummary summary) {
+        try {
+            rabbitTemplate.convertAndSend(exchangeName, "", summary);
+            messagesSentCounter.increment();
+            rateService.incrementMessageCount();
+            logger.debug("📦 SUMMARY | {} | {} samples | Speed:{}-{} mph | Max G-force:{}g | Harsh:{}/{}",
+                summary.driverId(), summary.sampleCount(), summary.speedMph().min(), summary.speedMph().max(),
+                summary.gForce().max(), summary.hardBrakingCount(), summary.rapidAccelerationCount());
+        } catch (Exception e) {
+            logger.error("Failed to publish summary for driver {}: {}", summary.driverId(), e.getMessage(), e);
+            messagesFailedCounter.increment();
         }
+    }
 
-        if (!confirmed) {
+    /**
+     * Publish a crash burst next to its crash event. The burst is serialized while this call runs,
+     * so the caller may refill the buffer afterwards.
+     */
+    public void publishCrashPulse(CrashPulse pulse) {
+        try {
+            rabbitTemplate.convertAndSend(exchangeName, "", pulse);
+            messagesSentCounter.increment();
+            logger.info("📈 CRASH PULSE | Driver:{} | Type:{} | {} samples at {} Hz",
+                pulse.driverId(), pulse.accidentType(), pulse.size(), pulse.sampleRateHz());
+        } catch (Exception e) {
+            logger.error("Failed to publish crash pulse for driver {}: {}", pulse.driverId(), e.getMessage(), e);
             messagesFailedCounter.increment();
-            logger.error("❌ CRASH EVENT LOST after {} attempts: driver={}, G-force={}",
-                MAX_RETRIES, message.driverId(), message.gForce());
         }
-
-        // Broadcast to web clients
-        webSocketService.broadcastDriverUpdate(driver, message);
     }
 
     /**
-     * Standard publish without confirmation - used for normal telemetry.
+     * Standard publish without confirmation - used for normal telemetry. In columnar or batching
+     * mode the report joins a batch instead and goes out with it.
      */
     private void publishStandard(FlatTelematicsMessage message, Driver driver) {
+        if (columnarBatches.isEnabled() || batchingPublisher.isEnabled()) {
+            if (columnarBatches.isEnabled()) {
+                columnarBatches.add(driver, message);
+            } else {
+                batchingPublisher.add(message);
+            }
+            rateService.incrementMessageCount();
+            webSocketService.broadcastDriverUpdate(driver, message);
+            return;
+        }
         try {
             rabbitTemplate.convertAndSend(exchangeName, "", message);
             messagesSentCounter.increment();
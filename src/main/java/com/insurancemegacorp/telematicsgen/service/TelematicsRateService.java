@@ -6,26 +6,87 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Measures two rates once a second: reports generated, which is what the simulation is paced to
+ * and what drift is computed from, and messages published, which is lower when the emission
+ * policy withholds reports or aggregation folds many reports into one summary.
+ */
 @Service
 public class TelematicsRateService {
 
-    private final AtomicLong messagesSentInSecond = new AtomicLong(0);
+    private final LongAdder messagesSentInWindow = new LongAdder();
+    private final LongAdder reportsGeneratedInWindow = new LongAdder();
     private final AtomicLong currentRate = new AtomicLong(0);
+    private final AtomicLong generatedRate = new AtomicLong(0);
+
+    private volatile double targetRate = 0.0;
+    private volatile double driftPercent = 0.0;
+    private long windowStartNanos = System.nanoTime();
 
     public TelematicsRateService(MeterRegistry meterRegistry) {
         Gauge.builder("telematics.messages.rate", currentRate, AtomicLong::get)
              .description("The current rate of telematics messages sent per second")
              .register(meterRegistry);
+        Gauge.builder("telematics.reports.rate", generatedRate, AtomicLong::get)
+             .description("The current rate of telematics reports generated per second, published or not")
+             .register(meterRegistry);
+        Gauge.builder("telematics.messages.rate.target", this, TelematicsRateService::getTargetRate)
+             .description("The report rate the simulation is paced to, in reports per second")
+             .register(meterRegistry);
+        Gauge.builder("telematics.messages.rate.drift", this, TelematicsRateService::getDriftPercent)
+             .description("Generated report rate minus target rate, as a percentage of the target")
+             .register(meterRegistry);
     }
 
     public void incrementMessageCount() {
-        messagesSentInSecond.incrementAndGet();
+        messagesSentInWindow.increment();
+    }
+
+    /**
+     * Count one simulation step's report, whether it is then published, withheld or summarized.
+     */
+    public void incrementGeneratedCount() {
+        reportsGeneratedInWindow.increment();
+    }
+
+    public void setTargetRate(double targetRate) {
+        this.targetRate = targetRate;
+    }
+
+    public double getTargetRate() {
+        return Double.isFinite(targetRate) ? targetRate : 0.0;
+    }
+
+    public long getCurrentRate() {
+        return currentRate.get();
+    }
+
+    public long getGeneratedRate() {
+        return generatedRate.get();
+    }
+
+    /**
+     * Deviation of the last generated report rate from the target, in percent; 0 when no finite
+     * target is set.
+     */
+    public double getDriftPercent() {
+        return driftPercent;
     }
 
     @Scheduled(fixedRate = 1000)
-    public void calculateAndResetRate() {
-        long rate = messagesSentInSecond.getAndSet(0);
-        currentRate.set(rate);
+    public synchronized void calculateAndResetRate() {
+        long now = System.nanoTime();
+        long elapsedNanos = Math.max(1, now - windowStartNanos);
+        windowStartNanos = now;
+
+        // Normalize by the real window length so scheduler jitter does not show up as drift
+        currentRate.set(Math.round(messagesSentInWindow.sumThenReset() * 1_000_000_000.0 / elapsedNanos));
+        long generated = Math.round(reportsGeneratedInWindow.sumThenReset() * 1_000_000_000.0 / elapsedNanos);
+        generatedRate.set(generated);
+
+        double target = getTargetRate();
+        driftPercent = target > 0 ? (generated - target) * 100.0 / target : 0.0;
     }
 }
@@ -2,6 +2,8 @@ package com.insurancemegacorp.telematicsgen.service;
 
 import com.insurancemegacorp.telematicsgen.model.Driver;
 import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.model.TelematicsSummary;
+import com.insurancemegacorp.telematicsgen.util.TokenBucketPacer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,23 +15,62 @@ import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PreDestroy;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class TelematicsSimulator {
 
     private static final Logger logger = LoggerFactory.getLogger(TelematicsSimulator.class);
+    private static final long PAUSE_POLL_MS = 300;
+    private static final int MAX_BATCH = 1024;
+    private static final double BURST_SECONDS = 0.1;
+    private static final long CRASH_TRIGGER_TIMEOUT_MS = 5000;
+
+    /**
+     * How the fleet is driven: RANDOM is the original single loop that picks one random
+     * driver per message, SHARDED advances every driver once per tick across worker threads,
+     * VIRTUAL runs each driver as an independent device on its own virtual thread.
+     */
+    public enum EngineType {
+        RANDOM,
+        SHARDED,
+        VIRTUAL
+    }
 
     private final TelematicsDataGenerator dataGenerator;
     private final TelematicsPublisher publisher;
     private final DriverManager driverManager;
     private final WebSocketBroadcastService webSocketService;
+    private final TelematicsRateService rateService;
+    private final HeadlessBenchmarkService benchmarkService;
+    private final FleetCheckpointService checkpointService;
+    private final BackfillService backfillService;
+    private final EmissionPolicyService emissionPolicy;
+    private final SummaryAggregationService aggregationService;
+    private final StoreAndForwardService storeAndForward;
     private final AtomicLong totalMessageCount = new AtomicLong(0);
 
     @Value("${telematics.simulation.interval-ms:100}")
     private long intervalMs;
 
+    @Value("${telematics.simulation.engine:SHARDED}")
+    private EngineType engineType;
+
+    @Value("${telematics.simulation.tick-interval-ms:1000}")
+    private long tickIntervalMs;
+
+    @Value("${telematics.simulation.shards:0}")
+    private int shardCount;
+
+    @Value("${telematics.simulation.device-cadence-jitter:0.1}")
+    private double deviceCadenceJitter;
+
+    // Fleet-wide messages per second; 0 derives the rate from the configured interval
+    @Value("${telematics.simulation.target-rate:0}")
+    private double targetRate;
+
     @Value("${telematics.policy.id:ACME-AUTO-98765}")
     private String basePolicyId;
 
@@ -41,15 +82,32 @@ public class TelematicsSimulator {
 
     private volatile boolean running = false;
     private volatile boolean paused = false;
+    private volatile FleetEngine fleetEngine;
+    private volatile TokenBucketPacer randomPacer;
+    private volatile long statusLogEvery = 100;
 
     public TelematicsSimulator(TelematicsDataGenerator dataGenerator, 
                              TelematicsPublisher publisher,
                              DriverManager driverManager,
-                             WebSocketBroadcastService webSocketService) {
+                             WebSocketBroadcastService webSocketService,
+                             TelematicsRateService rateService,
+                             HeadlessBenchmarkService benchmarkService,
+                             FleetCheckpointService checkpointService,
+                             BackfillService backfillService,
+                             EmissionPolicyService emissionPolicy,
+                             SummaryAggregationService aggregationService,
+                             StoreAndForwardService storeAndForward) {
         this.dataGenerator = dataGenerator;
         this.publisher = publisher;
         this.driverManager = driverManager;
         this.webSocketService = webSocketService;
+        this.rateService = rateService;
+        this.benchmarkService = benchmarkService;
+        this.checkpointService = checkpointService;
+        this.backfillService = backfillService;
+        this.emissionPolicy = emissionPolicy;
+        this.aggregationService = aggregationService;
+        this.storeAndForward = storeAndForward;
     }
 
     @EventListener(ApplicationReadyEvent.class)
@@ -57,11 +115,33 @@ public class TelematicsSimulator {
     public void startSimulation() {
         logger.info("🚗 Starting multi-driver telematics simulation...");
         
+        if (backfillService.isEnabled()) {
+            // Drivers must start on the historical timeline, so position the clock first
+            backfillService.prepareClock();
+        }
+        
         // Initialize drivers
         driverManager.initializeDrivers(basePolicyId, baseLatitude, baseLongitude);
         
-        logger.info("📡 Sending data every {}ms from {} drivers", 
-            intervalMs, driverManager.getDriverCount());
+        if (backfillService.isEnabled()) {
+            // Backfill mode: write historical telemetry to files, never publish or broadcast
+            logger.info("🕰️ Historical backfill mode, telemetry is written to files only");
+            backfillService.run();
+            return;
+        }
+        
+        if (benchmarkService.isEnabled()) {
+            // Headless mode: measure the generator into a null sink, never publish or broadcast
+            logger.info("🏁 Headless benchmark mode, telemetry is not published");
+            benchmarkService.run();
+            return;
+        }
+        
+        // Resume from the last fleet checkpoint instead of the random start positions
+        if (checkpointService.restore()) {
+            logger.info("♻️ Resuming fleet from checkpoint");
+        }
+        
         logger.info("💥 Crash events will occur periodically with post-crash idle periods");
         logger.info("Press Ctrl+C to stop.");
         
@@ -70,37 +150,77 @@ public class TelematicsSimulator {
         webSocketService.broadcastAllDrivers();
         
         running = true;
+        // With whole-fleet engines, log the status summary roughly every ten fleet passes
+        statusLogEvery = engineType == EngineType.RANDOM ? 100 : Math.max(100, 10L * driverManager.getDriverCount());
+        rateService.setTargetRate(paused ? 0 : effectiveRate());
+        
+        if (engineType == EngineType.RANDOM) {
+            runRandomLoop();
+        } else {
+            runFleetEngine();
+        }
+        
+        logger.info("🛑 Multi-driver telematics simulation stopped. Total messages sent: {}", 
+            totalMessageCount.get());
+        logFinalDriverStats();
+    }
+
+    private void runFleetEngine() {
+        if (driverManager.getDriverCount() == 0) {
+            logger.error("❌ No drivers initialized, {} engine not started", engineType);
+            return;
+        }
+        FleetEngine engine = createFleetEngine();
+        engine.setPaused(paused);
+        fleetEngine = engine;
+
+        engine.start();
+        try {
+            engine.awaitTermination();
+        } catch (InterruptedException e) {
+            logger.info("🛑 Simulation interrupted");
+            engine.stop();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private FleetEngine createFleetEngine() {
+        double rate = effectiveRate();
+        if (engineType == EngineType.VIRTUAL) {
+            logger.info("📡 Running {} drivers as independent devices at {} msg/s", 
+                driverManager.getDriverCount(), rate);
+            return new VirtualThreadEngine(
+                driverManager.getAllDrivers(), rate, deviceCadenceJitter, this::advanceDriver);
+        }
+        int shards = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        ShardedTickEngine engine = new ShardedTickEngine(
+            driverManager.getAllDrivers(), shards, rate, this::advanceDriver);
+        logger.info("📡 Advancing {} drivers at {} msg/s across {} shards", 
+            driverManager.getDriverCount(), rate, engine.getShardCount());
+        return engine;
+    }
+
+    private void runRandomLoop() {
+        TokenBucketPacer pacer = new TokenBucketPacer(effectiveRate(), MAX_BATCH, BURST_SECONDS);
+        randomPacer = pacer;
+        logger.info("📡 Sending {} msg/s from {} drivers", 
+            pacer.getRate(), driverManager.getDriverCount());
         
+        long pollNanos = TimeUnit.MILLISECONDS.toNanos(PAUSE_POLL_MS);
         while (running) {
             try {
                 // If paused, wait briefly and continue loop without generating
                 if (paused) {
-                    Thread.sleep(300);
+                    Thread.sleep(PAUSE_POLL_MS);
+                    pacer.reset();
                     continue;
                 }
-                // Select a driver for this message
-                Driver selectedDriver = driverManager.selectDriverForMessage();
-                
-                // Update driver behavior and state
-                driverManager.updateDriverBehavior(selectedDriver);
-                
-                // Generate telemetry based on driver state
-                // Note: Crash events are handled in DriverManager.updateDriverState()
-                FlatTelematicsMessage message = dataGenerator.generateTelematicsData(selectedDriver);
-                
-                selectedDriver.incrementMessageCount();
-                publisher.publishTelematicsData(message, selectedDriver);
-                totalMessageCount.incrementAndGet();
-                
-                // Log driver states periodically
-                if (totalMessageCount.get() % 100 == 0) {
-                    driverManager.logDriverStates();
+                // Emit every message owed since the last wake-up, so publish time does not lower the rate
+                int batch = pacer.acquire(pollNanos);
+                for (int i = 0; i < batch && running && !paused; i++) {
+                    advanceDriver(driverManager.selectDriverForMessage());
                 }
                 
-                // Random sleep interval to simulate real-world variance
-                long sleepTime = intervalMs + ThreadLocalRandom.current().nextInt(20) - 10; // ±10ms variance
-                Thread.sleep(Math.max(sleepTime, 10)); // Minimum 10ms for system stability
-                
             } catch (InterruptedException e) {
                 logger.info("🛑 Simulation interrupted");
                 Thread.currentThread().interrupt();
@@ -109,16 +229,85 @@ public class TelematicsSimulator {
                 logger.error("❌ Error in simulation: {}", e.getMessage(), e);
                 try {
                     Thread.sleep(5000); // Wait 5 seconds before retrying
+                    pacer.reset();
                 } catch (InterruptedException ie) {
                     Thread.currentThread().interrupt();
                     break;
                 }
             }
         }
+    }
+
+    /**
+     * Advance a single driver by one step: update behavior, generate telemetry and publish it,
+     * unless the emission policy for the driver's state withholds it or aggregation mode folds
+     * it into the driver's next window summary.
+     * Called from whichever thread owns the driver under the active engine.
+     */
+    private void advanceDriver(Driver driver) {
+        // Update driver behavior and state
+        driverManager.updateDriverBehavior(driver);
         
-        logger.info("🛑 Multi-driver telematics simulation stopped. Total messages sent: {}", 
-            totalMessageCount.get());
-        logFinalDriverStats();
+        // Generate telemetry based on driver state
+        // Note: Crash events are handled in DriverManager.updateDriverState()
+        FlatTelematicsMessage message = dataGenerator.generateTelematicsData(driver);
+        
+        driver.incrementMessageCount();
+        rateService.incrementGeneratedCount();
+        boolean published = false;
+        if (aggregationService.isEnabled()) {
+            TelematicsSummary summary = aggregationService.add(driver, message);
+            if (summary != null) {
+                publisher.publishSummary(summary);
+            }
+            // Crash events are not held back until the window closes
+            if (message.gForce() >= TelematicsPublisher.CRASH_G_FORCE) {
+                publisher.publishTelematicsData(message, driver);
+                published = true;
+            }
+        } else if (emissionPolicy.shouldEmit(driver, message)) {
+            // Queued on the device while it has no coverage
+            published = storeAndForward.send(driver, message);
+        }
+        if (!published) {
+            // Keep the dashboard moving for reports that are not published
+            webSocketService.broadcastDriverUpdate(driver, message);
+        }
+        
+        // Log driver states periodically
+        if (totalMessageCount.incrementAndGet() % statusLogEvery == 0) {
+            driverManager.logDriverStates();
+        }
+    }
+
+    /**
+     * Crash a driver on demand (REST and dashboard triggers). Like every change from outside the
+     * engine, the crash is handed to the thread that owns the driver and generated, recorded and
+     * published on its next visit. The future completes with the crash report, with null if the
+     * driver could not crash by then, or with a {@link java.util.concurrent.TimeoutException} if
+     * the driver was not visited in time (paused or stopped); the crash then stays queued.
+     */
+    public CompletableFuture<FlatTelematicsMessage> triggerCrash(Driver driver) {
+        CompletableFuture<FlatTelematicsMessage> crash = new CompletableFuture<>();
+        driver.post(target -> {
+            if (!driverManager.canTriggerDemoAccident(target)) {
+                crash.complete(null);
+                return;
+            }
+            // Generate the report BEFORE recording the crash, to capture the speed at impact
+            FlatTelematicsMessage crashMessage = dataGenerator.generateCrashEventData(target);
+            // Now record the crash (sets speed to 0 and state to POST_CRASH_IDLE)
+            target.recordCrashEvent(crashMessage.accidentType());
+            try {
+                publisher.publishTelematicsData(crashMessage, target);
+                logger.info("🚗💥 Demo crash event published for {} at {} mph",
+                    target.getDriverId(), crashMessage.speedMph());
+            } catch (Exception e) {
+                logger.warn("⚠️ Crash event publish failed for {}: {}", target.getDriverId(), e.getMessage());
+            }
+            crash.complete(crashMessage);
+        });
+        return crash.orTimeout(CRASH_TRIGGER_TIMEOUT_MS, TimeUnit.MILLISECONDS);
     }
 
     private void logFinalDriverStats() {
@@ -138,6 +327,7 @@ public class TelematicsSimulator {
         if (running) {
             logger.info("🛑 Graceful shutdown initiated...");
             running = false;
+            stopFleetEngine();
             
             // Give the simulation loop time to finish current iteration
             try {
@@ -150,6 +340,14 @@ public class TelematicsSimulator {
     
     public void forceStop() {
         running = false;
+        stopFleetEngine();
+    }
+
+    private void stopFleetEngine() {
+        FleetEngine engine = fleetEngine;
+        if (engine != null) {
+            engine.stop();
+        }
     }
     
     public long getTotalMessageCount() {
@@ -159,6 +357,11 @@ public class TelematicsSimulator {
     // --- Runtime controls ---
     public void setPaused(boolean paused) {
         this.paused = paused;
+        FleetEngine engine = fleetEngine;
+        if (engine != null) {
+            engine.setPaused(paused);
+        }
+        rateService.setTargetRate(paused ? 0 : effectiveRate());
         logger.info(paused ? "⏸️ Simulation paused" : "▶️ Simulation resumed");
     }
 
@@ -170,15 +373,74 @@ public class TelematicsSimulator {
         setPaused(!paused);
     }
 
+    /**
+     * Set the pacing interval of the active engine: the delay between messages for the
+     * RANDOM loop, or the period between two reports of the same driver otherwise.
+     * Clears any explicit target rate so the rate is derived from the interval again.
+     */
     public void setIntervalMs(long intervalMs) {
-        if (intervalMs < 10) {
-            intervalMs = 10; // Safety lower bound
+        if (intervalMs < 1) {
+            intervalMs = 1; // Safety lower bound; use setTargetRate for sub-millisecond pacing
+        }
+        if (engineType != EngineType.RANDOM) {
+            this.tickIntervalMs = intervalMs;
+            logger.info("⏱️ Tick interval set to {} ms", this.tickIntervalMs);
+        } else {
+            this.intervalMs = intervalMs;
+            logger.info("⏱️ Simulation interval set to {} ms", this.intervalMs);
         }
-        this.intervalMs = intervalMs;
-        logger.info("⏱️ Simulation interval set to {} ms", this.intervalMs);
+        this.targetRate = 0;
+        applyRate();
     }
 
     public long getIntervalMs() {
-        return intervalMs;
+        return engineType == EngineType.RANDOM ? intervalMs : tickIntervalMs;
+    }
+
+    /**
+     * Set the fleet-wide message rate in messages per second; 0 falls back to the configured interval.
+     */
+    public void setTargetRate(double messagesPerSecond) {
+        this.targetRate = Math.max(0, messagesPerSecond);
+        applyRate();
+        logger.debug("⏱️ Target rate set to {} msg/s", effectiveRate());
+    }
+
+    public double getTargetRate() {
+        return effectiveRate();
+    }
+
+    /**
+     * The rate last passed to {@link #setTargetRate}, or 0 while the rate is derived from the interval.
+     */
+    public double getConfiguredTargetRate() {
+        return targetRate;
+    }
+
+    private double effectiveRate() {
+        if (targetRate > 0) {
+            return targetRate;
+        }
+        if (engineType == EngineType.RANDOM) {
+            return 1000.0 / intervalMs;
+        }
+        return driverManager.getDriverCount() * 1000.0 / tickIntervalMs;
+    }
+
+    private void applyRate() {
+        double rate = effectiveRate();
+        FleetEngine engine = fleetEngine;
+        if (engine != null) {
+            engine.setTargetRate(rate);
+        }
+        TokenBucketPacer pacer = randomPacer;
+        if (pacer != null) {
+            pacer.setRate(rate);
+        }
+        rateService.setTargetRate(paused ? 0 : rate);
+    }
+
+    public EngineType getEngineType() {
+        return engineType;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,188 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.util.TokenBucketPacer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Runs every driver on its own virtual thread, modelling each vehicle as an independent
+ * device with its own reporting cadence. Devices start at a random phase and each one
+ * reports at the nominal interval scaled by its own jitter factor, so the fleet does not
+ * report in lock-step. The nominal interval follows from the fleet-wide target rate.
+ * Parked virtual threads cost no platform thread, which makes 100k+ concurrently reporting
+ * devices practical.
+ * <p>
+ * A device whose step throws backs off for {@value #ERROR_BACKOFF_MS} ms. Failures are counted
+ * across the fleet and logged at most once per {@value #ERROR_LOG_INTERVAL_MS} ms, so a broker
+ * outage does not log a stack trace per device.
+ */
+public class VirtualThreadEngine implements FleetEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadEngine.class);
+    private static final long PAUSE_POLL_MS = 300;
+    private static final long ERROR_BACKOFF_MS = 5000;
+    private static final long ERROR_LOG_INTERVAL_MS = 5000;
+
+    private final List<Driver> drivers;
+    private final Consumer<Driver> step;
+    private final double cadenceJitter;
+    private final Thread[] threads;
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong nextErrorLogNanos = new AtomicLong(System.nanoTime());
+    private volatile long failuresLogged;
+
+    private volatile double targetRate;
+    private volatile long tickIntervalNanos;
+    private volatile boolean running = false;
+    private volatile boolean paused = false;
+
+    /**
+     * @param cadenceJitter maximum relative deviation of a device's cadence from the nominal
+     *                      interval, e.g. 0.1 for devices reporting every 0.9x to 1.1x the interval
+     */
+    public VirtualThreadEngine(List<Driver> drivers, double targetRate, double cadenceJitter, Consumer<Driver> step) {
+        if (drivers.isEmpty()) {
+            throw new IllegalStateException("No drivers initialized");
+        }
+        this.drivers = List.copyOf(drivers);
+        this.step = step;
+        this.cadenceJitter = Math.max(0.0, Math.min(0.9, cadenceJitter));
+        this.threads = new Thread[this.drivers.size()];
+        setTargetRate(targetRate);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread.Builder builder = Thread.ofVirtual().name("device-", 0);
+        for (int i = 0; i < drivers.size(); i++) {
+            threads[i] = builder.start(new DeviceLoop(drivers.get(i)));
+        }
+        logger.info("⚙️ Virtual thread engine started: {} devices, nominal report every {} ms",
+            drivers.size(), TimeUnit.NANOSECONDS.toMillis(tickIntervalNanos));
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        for (Thread thread : threads) {
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+
+    @Override
+    public void awaitTermination() throws InterruptedException {
+        for (Thread thread : threads) {
+            if (thread != null) {
+                thread.join();
+            }
+        }
+    }
+
+    @Override
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    @Override
+    public void setTargetRate(double targetRate) {
+        this.targetRate = targetRate;
+        // Each device reports once per interval, so the fleet rate fixes the interval;
+        // a rate of zero holds every device like a pause
+        this.tickIntervalNanos = targetRate == TokenBucketPacer.UNLIMITED || targetRate <= 0
+            ? 0
+            : (long) (drivers.size() * 1_000_000_000.0 / targetRate);
+    }
+
+    @Override
+    public double getTargetRate() {
+        return targetRate;
+    }
+
+    public int getDeviceCount() {
+        return drivers.size();
+    }
+
+    /**
+     * Device steps that threw, across the fleet.
+     */
+    public long getFailureCount() {
+        return failures.get();
+    }
+
+    private void onFailure(Driver driver, Exception e) {
+        long failed = failures.incrementAndGet();
+        long now = System.nanoTime();
+        long next = nextErrorLogNanos.get();
+        // Only the device that claims the next log slot reports
+        if (now - next < 0
+                || !nextErrorLogNanos.compareAndSet(next, now + TimeUnit.MILLISECONDS.toNanos(ERROR_LOG_INTERVAL_MS))) {
+            return;
+        }
+        long suppressed = Math.max(0, failed - failuresLogged - 1);
+        failuresLogged = failed;
+        logger.error("❌ Error advancing device {} ({} more failures since last report): {}",
+            driver.getDriverId(), suppressed, e.getMessage(), e);
+    }
+
+    private final class DeviceLoop implements Runnable {
+        private final Driver driver;
+        private final double cadenceFactor;
+
+        private DeviceLoop(Driver driver) {
+            this.driver = driver;
+            this.cadenceFactor = 1.0 + (ThreadLocalRandom.current().nextDouble() * 2.0 - 1.0) * cadenceJitter;
+        }
+
+        @Override
+        public void run() {
+            // Random phase so devices spread their reports across the interval
+            long nextReport = System.nanoTime() + (long) (ThreadLocalRandom.current().nextDouble() * cadence());
+            while (running) {
+                long wait = nextReport - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                    continue;
+                }
+                if (paused || targetRate <= 0) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(PAUSE_POLL_MS));
+                    nextReport = System.nanoTime();
+                    continue;
+                }
+                try {
+                    step.accept(driver);
+                } catch (Exception e) {
+                    onFailure(driver, e);
+                    nextReport = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ERROR_BACKOFF_MS);
+                    continue;
+                }
+
+                long cadence = cadence();
+                nextReport += cadence;
+                long now = System.nanoTime();
+                if (now - nextReport > cadence) {
+                    // Fell more than a full period behind; skip ahead instead of bursting to catch up
+                    nextReport = now;
+                }
+                if (cadence == 0) {
+                    // Unpaced: give the other devices on this carrier thread a turn
+                    Thread.yield();
+                }
+            }
+        }
+
+        private long cadence() {
+            return (long) (tickIntervalNanos * cadenceFactor);
+        }
+    }
+}
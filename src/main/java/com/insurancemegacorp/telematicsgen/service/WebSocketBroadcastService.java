@@ -46,7 +46,7 @@ public class WebSocketBroadcastService {
                 routeDescription,
                 isInCrashState,
                 gForce,
-                Instant.now()
+                Instant.now(driver.getFleetState().clock())
             );
 
             // Only broadcast every few messages to reduce load, unless driver is in crash state
@@ -82,7 +82,7 @@ public class WebSocketBroadcastService {
                     driverManager.getRouteDescription(driver),
                     false, // Not a crash event
                     0.0, // No G-force for bulk update
-                    Instant.now()
+                    Instant.now(driver.getFleetState().clock())
                 ))
                 .toList();
 
@@ -0,0 +1,140 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Fixed-point encoding for sensor readings quantized to a number of decimals.
+ * <p>
+ * A reading rounded to four decimals is kept as an {@code int} count of ten-thousandths (two
+ * decimals: hundredths), so quantizing costs one multiply and round instead of the
+ * multiply-round-divide of {@code Math.round(x * 10000.0) / 10000.0}, and the double is only
+ * rebuilt when a caller asks for it. {@link #format} writes the digits straight from the integer
+ * in exactly the form {@link Double#toString} gives the equivalent double, so JSON built from
+ * fixed-point fields is byte-identical to JSON built from the rounded doubles.
+ */
+public final class FixedPoint {
+
+    public static final int FOUR_DECIMALS = 4;
+    public static final int TWO_DECIMALS = 2;
+
+    /** Longest output of {@link #format}, e.g. {@code -214748.3648}. */
+    public static final int MAX_CHARS = 24;
+
+    private static final double[] SCALES = {1.0, 10.0, 100.0, 1000.0, 10000.0};
+
+    private static final ThreadLocal<char[]> BUFFERS = ThreadLocal.withInitial(() -> new char[MAX_CHARS]);
+
+    private FixedPoint() {
+    }
+
+    public static int fourDecimals(double value) {
+        return (int) Math.round(value * 10000.0);
+    }
+
+    public static int twoDecimals(double value) {
+        return (int) Math.round(value * 100.0);
+    }
+
+    /**
+     * The double a fixed-point value stands for; equal to rounding the original with Math.round.
+     */
+    public static double toDouble(int units, int decimals) {
+        return units / SCALES[decimals];
+    }
+
+    /**
+     * Write {@code units / 10^decimals} into {@code buf} at {@code pos} as {@link Double#toString}
+     * would render it and return the position after the last character.
+     */
+    public static int format(int units, int decimals, char[] buf, int pos) {
+        if (units == 0) {
+            buf[pos++] = '0';
+            buf[pos++] = '.';
+            buf[pos++] = '0';
+            return pos;
+        }
+        long digits = units;
+        if (digits < 0) {
+            buf[pos++] = '-';
+            digits = -digits;
+        }
+        int trailingZeros = 0;
+        while (digits % 10 == 0) {
+            digits /= 10;
+            trailingZeros++;
+        }
+        int length = length(digits);
+        int power = trailingZeros - decimals;
+        int exponent = length - 1 + power;
+
+        if (exponent < -3 || exponent >= 7) {
+            // Computerized scientific notation, e.g. 5.0E-4
+            int start = pos;
+            pos = writeDigits(digits, length, buf, pos + 1);
+            buf[start] = buf[start + 1];
+            buf[start + 1] = '.';
+            if (length == 1) {
+                buf[pos++] = '0';
+            }
+            buf[pos++] = 'E';
+            if (exponent < 0) {
+                buf[pos++] = '-';
+                exponent = -exponent;
+            }
+            return writeDigits(exponent, length(exponent), buf, pos);
+        }
+        if (power >= 0) {
+            pos = writeDigits(digits, length, buf, pos);
+            for (int i = 0; i < power; i++) {
+                buf[pos++] = '0';
+            }
+            buf[pos++] = '.';
+            buf[pos++] = '0';
+            return pos;
+        }
+        int fraction = -power;
+        if (length > fraction) {
+            int start = pos;
+            pos = writeDigits(digits, length, buf, pos + 1);
+            int integerDigits = length - fraction;
+            System.arraycopy(buf, start + 1, buf, start, integerDigits);
+            buf[start + integerDigits] = '.';
+            return pos;
+        }
+        buf[pos++] = '0';
+        buf[pos++] = '.';
+        for (int i = length; i < fraction; i++) {
+            buf[pos++] = '0';
+        }
+        return writeDigits(digits, length, buf, pos);
+    }
+
+    private static int length(long value) {
+        int length = 1;
+        while (value >= 10) {
+            value /= 10;
+            length++;
+        }
+        return length;
+    }
+
+    private static int writeDigits(long value, int length, char[] buf, int pos) {
+        int end = pos + length;
+        for (int i = end - 1; i >= pos; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return end;
+    }
+
+    /**
+     * Write {@code units / 10^decimals} to {@code gen} as a number, formatted into a buffer kept
+     * per thread instead of a new one per field.
+     */
+    public static void write(int units, int decimals, JsonGenerator gen) throws IOException {
+        char[] buf = BUFFERS.get();
+        gen.writeNumber(buf, 0, format(units, decimals, buf, 0));
+    }
+}
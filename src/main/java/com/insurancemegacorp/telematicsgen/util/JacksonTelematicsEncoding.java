@@ -0,0 +1,103 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.avro.AvroMapper;
+import com.fasterxml.jackson.dataformat.avro.AvroSchema;
+import com.fasterxml.jackson.dataformat.avro.jsr310.AvroJavaTimeModule;
+import com.fasterxml.jackson.dataformat.avro.schema.AvroSchemaGenerator;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import org.msgpack.jackson.dataformat.MessagePackMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Binary formats through Jackson's dataformat modules, driven by the same {@code @JsonProperty}
+ * names as the JSON output. Avro and Protobuf schemas are generated from
+ * {@link FlatTelematicsMessage}: Avro carries {@code event_time} as {@code timestamp-millis},
+ * Protobuf as a double of epoch seconds, so both keep millisecond precision.
+ */
+final class JacksonTelematicsEncoding implements TelematicsEncoding {
+
+    private final WireFormat format;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private final String schema;
+
+    private JacksonTelematicsEncoding(WireFormat format, ObjectWriter writer, ObjectReader reader, String schema) {
+        this.format = format;
+        this.writer = writer;
+        this.reader = reader;
+        this.schema = schema;
+    }
+
+    static JacksonTelematicsEncoding cbor() {
+        return schemaless(WireFormat.CBOR, CBORMapper.builder().addModule(new JavaTimeModule()).build());
+    }
+
+    static JacksonTelematicsEncoding msgpack() {
+        return schemaless(WireFormat.MSGPACK, new MessagePackMapper().registerModule(new JavaTimeModule()));
+    }
+
+    static JacksonTelematicsEncoding avro() {
+        AvroMapper mapper = AvroMapper.builder().addModule(new AvroJavaTimeModule()).build();
+        AvroSchemaGenerator generator = new AvroSchemaGenerator().enableLogicalTypes();
+        try {
+            mapper.acceptJsonFormatVisitor(FlatTelematicsMessage.class, generator);
+        } catch (JsonMappingException e) {
+            throw new IllegalStateException("Cannot derive Avro schema from FlatTelematicsMessage", e);
+        }
+        AvroSchema schema = generator.getGeneratedSchema();
+        return new JacksonTelematicsEncoding(WireFormat.AVRO, mapper.writer(schema),
+            mapper.readerFor(FlatTelematicsMessage.class).with(schema), schema.getAvroSchema().toString());
+    }
+
+    static JacksonTelematicsEncoding protobuf() {
+        ProtobufMapper mapper = new ProtobufMapper();
+        mapper.registerModule(new JavaTimeModule());
+        ProtobufSchema schema;
+        try {
+            schema = mapper.generateSchemaFor(FlatTelematicsMessage.class);
+        } catch (JsonMappingException e) {
+            throw new IllegalStateException("Cannot derive Protobuf schema from FlatTelematicsMessage", e);
+        }
+        return new JacksonTelematicsEncoding(WireFormat.PROTOBUF, mapper.writer(schema),
+            mapper.readerFor(FlatTelematicsMessage.class).with(schema), schema.getSource().toString());
+    }
+
+    private static JacksonTelematicsEncoding schemaless(WireFormat format, ObjectMapper mapper) {
+        return new JacksonTelematicsEncoding(format, mapper.writer(), mapper.readerFor(FlatTelematicsMessage.class), null);
+    }
+
+    @Override
+    public WireFormat format() {
+        return format;
+    }
+
+    @Override
+    public byte[] encode(FlatTelematicsMessage message) {
+        try {
+            return writer.writeValueAsBytes(message);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Cannot encode report as " + format, e);
+        }
+    }
+
+    @Override
+    public FlatTelematicsMessage decode(byte[] bytes) throws IOException {
+        return reader.readValue(bytes);
+    }
+
+    @Override
+    public String schema() {
+        return schema;
+    }
+}
@@ -0,0 +1,62 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.model.MutableTelematicsMessage;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * JSON through {@link TelematicsJsonWriter}, byte-identical to Jackson's output. Writers are
+ * pooled rather than kept per thread, since the virtual-thread engine runs one thread per device.
+ */
+final class JsonTelematicsEncoding implements TelematicsEncoding {
+
+    private final ArrayBlockingQueue<TelematicsJsonWriter> writers =
+        new ArrayBlockingQueue<>(2 * Runtime.getRuntime().availableProcessors());
+    private final ObjectReader reader = JsonMapper.builder().findAndAddModules().build()
+        .readerFor(FlatTelematicsMessage.class);
+
+    @Override
+    public WireFormat format() {
+        return WireFormat.JSON;
+    }
+
+    @Override
+    public byte[] encode(FlatTelematicsMessage message) {
+        TelematicsJsonWriter writer = borrow();
+        byte[] bytes = writer.write(message);
+        writers.offer(writer);
+        return bytes;
+    }
+
+    @Override
+    public byte[] encode(MutableTelematicsMessage message) {
+        TelematicsJsonWriter writer = borrow();
+        byte[] bytes = writer.write(message);
+        writers.offer(writer);
+        return bytes;
+    }
+
+    @Override
+    public void encode(MutableTelematicsMessage message, Sink sink) throws IOException {
+        TelematicsJsonWriter writer = borrow();
+        try {
+            sink.accept(writer.buffer(), writer.writeInPlace(message));
+        } finally {
+            writers.offer(writer);
+        }
+    }
+
+    @Override
+    public FlatTelematicsMessage decode(byte[] bytes) throws IOException {
+        return reader.readValue(bytes);
+    }
+
+    private TelematicsJsonWriter borrow() {
+        TelematicsJsonWriter writer = writers.poll();
+        return writer != null ? writer : new TelematicsJsonWriter();
+    }
+}
@@ -0,0 +1,48 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+
+/**
+ * Derives independent, reproducible random streams from a run seed.
+ * <p>
+ * Every driver gets its own {@link SplittableRandom} seeded from the run seed and its id, so no
+ * thread ever contends on a shared generator, and a run with the same seed replays the same
+ * draws per driver no matter how drivers are spread across threads. Streams are not
+ * thread-safe; each one belongs to the thread that currently owns its driver.
+ */
+public final class RandomStreams {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private RandomStreams() {
+    }
+
+    /**
+     * A fresh seed for runs that did not ask for a specific one; log it to replay the run.
+     */
+    public static long randomSeed() {
+        return new SecureRandom().nextLong();
+    }
+
+    /**
+     * The stream for {@code key} (e.g. a driver id) within the run seeded with {@code runSeed}.
+     */
+    public static SplittableRandom forKey(long runSeed, long key) {
+        return new SplittableRandom(hash(runSeed, key));
+    }
+
+    /**
+     * A well-mixed 64-bit value for {@code key} within the run, without creating a stream.
+     */
+    public static long hash(long runSeed, long key) {
+        return mix64(runSeed + mix64(key + GOLDEN_GAMMA));
+    }
+
+    // SplitMix64 finalizer, so neighbouring ids and seeds land far apart
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,89 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Appends newline-terminated records to {@code <prefix>-00000.jsonl}, {@code <prefix>-00001.jsonl}, ...
+ * starting a new file once the current one reaches {@code maxFileBytes}. Records in a binary
+ * {@link WireFormat} are prefixed with their length as a big-endian int instead, and the files
+ * take that format's extension. Records are never split across files. Not thread-safe; give each
+ * writing thread its own instance.
+ */
+public class RollingFileWriter implements Closeable {
+
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private final Path directory;
+    private final String prefix;
+    private final WireFormat format;
+    private final long maxFileBytes;
+    private OutputStream out;
+    private long fileBytes;
+    private int fileIndex;
+    private long totalBytes;
+
+    public RollingFileWriter(Path directory, String prefix, WireFormat format, long maxFileBytes) {
+        this.directory = directory;
+        this.prefix = prefix;
+        this.format = format;
+        this.maxFileBytes = Math.max(1, maxFileBytes);
+    }
+
+    public void write(byte[] record) throws IOException {
+        write(record, record.length);
+    }
+
+    /**
+     * Append the first {@code length} bytes of {@code record}, which may be a reused buffer.
+     */
+    public void write(byte[] record, int length) throws IOException {
+        if (out == null || fileBytes >= maxFileBytes) {
+            roll();
+        }
+        int written;
+        if (format.isText()) {
+            out.write(record, 0, length);
+            out.write('\n');
+            written = length + 1;
+        } else {
+            out.write(length >>> 24);
+            out.write(length >>> 16);
+            out.write(length >>> 8);
+            out.write(length);
+            out.write(record, 0, length);
+            written = length + 4;
+        }
+        fileBytes += written;
+        totalBytes += written;
+    }
+
+    private void roll() throws IOException {
+        if (out != null) {
+            out.close();
+            fileIndex++;
+        }
+        Path file = directory.resolve(String.format("%s-%05d.%s", prefix, fileIndex, format.fileExtension()));
+        out = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_BYTES);
+        fileBytes = 0;
+    }
+
+    public int getFileCount() {
+        return out == null ? 0 : fileIndex + 1;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+/**
+ * Plain-loop {@link SensorKernel}; the reference for the vector implementation and its tail loop.
+ */
+final class ScalarSensorKernel implements SensorKernel {
+
+    static final ScalarSensorKernel INSTANCE = new ScalarSensorKernel();
+
+    private ScalarSensorKernel() {
+    }
+
+    @Override
+    public void affine(double[] u, double[] shift, double[] scale, double[] bias, double[] out, int n) {
+        affine(u, shift, scale, bias, out, 0, n);
+    }
+
+    @Override
+    public void affineFourDecimals(double[] u, double[] shift, double[] scale, double[] bias, double[] out, int n) {
+        affineFourDecimals(u, shift, scale, bias, out, 0, n);
+    }
+
+    @Override
+    public void magnitudeFourDecimals(double[] x, double[] y, double[] z, double[] out, int n) {
+        magnitudeFourDecimals(x, y, z, out, 0, n);
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    static void affine(double[] u, double[] shift, double[] scale, double[] bias, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = bias[i] + (u[i] + shift[i]) * scale[i];
+        }
+    }
+
+    static void affineFourDecimals(double[] u, double[] shift, double[] scale, double[] bias, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = Math.round((bias[i] + (u[i] + shift[i]) * scale[i]) * 10000.0);
+        }
+    }
+
+    static void magnitudeFourDecimals(double[] x, double[] y, double[] z, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            double vx = x[i] / 10000.0;
+            double vy = y[i] / 10000.0;
+            double vz = z[i] / 10000.0;
+            out[i] = Math.sqrt(vx * vx + vy * vy + vz * vz);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+/**
+ * Column transforms used to synthesize sensor readings for a block of drivers at once.
+ * <p>
+ * Implementations must produce bit-identical results to the scalar formulas, so a batch is
+ * indistinguishable from generating the same drivers one report at a time. {@link #preferred()}
+ * picks the SIMD implementation when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector} and falls back to plain loops otherwise.
+ */
+public interface SensorKernel {
+
+    String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /**
+     * {@code out[i] = bias[i] + (u[i] + shift[i]) * scale[i]} for the first {@code n} entries.
+     */
+    void affine(double[] u, double[] shift, double[] scale, double[] bias, double[] out, int n);
+
+    /**
+     * As {@link #affine}, then quantized to {@link FixedPoint} ten-thousandths like
+     * {@code Math.round(x * 10000.0)}; the integral results are returned as doubles.
+     */
+    void affineFourDecimals(double[] u, double[] shift, double[] scale, double[] bias, double[] out, int n);
+
+    /**
+     * {@code out[i] = sqrt(x[i]² + y[i]² + z[i]²)} for axes in ten-thousandths, e.g. the g-force
+     * of an accelerometer reading.
+     */
+    void magnitudeFourDecimals(double[] x, double[] y, double[] z, double[] out, int n);
+
+    String name();
+
+    static SensorKernel scalar() {
+        return ScalarSensorKernel.INSTANCE;
+    }
+
+    static SensorKernel preferred() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                return new VectorSensorKernel();
+            } catch (LinkageError e) {
+                // Incubator API changed or unavailable on this platform
+            }
+        }
+        return scalar();
+    }
+}
@@ -0,0 +1,216 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import com.insurancemegacorp.telematicsgen.model.AccidentType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Pre-generated accelerometer, gyroscope and magnetometer traces, memory-mapped from a file.
+ * <p>
+ * There is one looping trace per driving regime ({@link #CRUISE}, {@link #HARD_BRAKE},
+ * {@link #RAPID_ACCEL}, {@link #PARKED}) and one per {@link AccidentType}, each holding
+ * {@code samples} readings of nine {@link FixedPoint} ten-thousandths channels. A trace is a
+ * smoothed (AR(1)) random walk squeezed into the regime's value range, with the end faded into
+ * the start so replay wraps without a jump. Drivers replay a trace from their own offset, one
+ * sample per report, so consecutive reports of a driver form a continuous signal and a reading
+ * costs a few array reads.
+ * <p>
+ * File layout: a 32-byte header (magic, version, channels, samples, traces, seed), then the
+ * samples as little-endian ints ordered by trace, sample and channel. The mapping is read-only
+ * and shared by all threads.
+ */
+public final class SensorTraceLibrary {
+
+    private static final long MAGIC = 0x494D435452414345L; // "IMCTRACE"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+
+    // Channels of a sample
+    public static final int ACCEL_X = 0;
+    public static final int ACCEL_Y = 1;
+    public static final int ACCEL_Z = 2;
+    public static final int GYRO_X = 3;
+    public static final int GYRO_Y = 4;
+    public static final int GYRO_Z = 5;
+    public static final int MAG_X = 6;
+    public static final int MAG_Y = 7;
+    public static final int MAG_Z = 8;
+    public static final int CHANNELS = 9;
+
+    // Driving regimes; accident types follow
+    public static final int CRUISE = 0;
+    public static final int HARD_BRAKE = 1;
+    public static final int RAPID_ACCEL = 2;
+    public static final int PARKED = 3;
+    private static final int REGIMES = 4;
+    public static final int TRACES = REGIMES + AccidentType.values().length;
+
+    // Samples blended across the loop point
+    private static final int FADE = 32;
+
+    private final ByteBuffer buffer;
+    private final int samples;
+    private final long seed;
+
+    private SensorTraceLibrary(ByteBuffer buffer, int samples, long seed) {
+        this.buffer = buffer;
+        this.samples = samples;
+        this.seed = seed;
+    }
+
+    public static int traceFor(AccidentType accidentType) {
+        return REGIMES + accidentType.ordinal();
+    }
+
+    /**
+     * Map an existing library read-only.
+     *
+     * @throws IOException if the file is missing, truncated or of another format
+     */
+    public static SensorTraceLibrary open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            if (channel.size() < HEADER_BYTES || mapped.getLong(0) != MAGIC || mapped.getInt(8) != VERSION
+                    || mapped.getInt(12) != CHANNELS || mapped.getInt(20) != TRACES) {
+                throw new IOException("Not a sensor trace library of this version: " + file);
+            }
+            int samples = mapped.getInt(16);
+            if (channel.size() != fileBytes(samples)) {
+                throw new IOException("Sensor trace library " + file + " is truncated");
+            }
+            return new SensorTraceLibrary(mapped, samples, mapped.getLong(24));
+        }
+    }
+
+    /**
+     * Generate a library with {@code samples} readings per trace, write it to {@code file}
+     * (replacing any existing one) and map it.
+     */
+    public static SensorTraceLibrary create(Path file, int samples, long seed) throws IOException {
+        if (samples <= FADE || fileBytes(samples) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Traces need more than " + FADE + " samples and must fit 2 GiB: " + samples);
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileBytes(samples));
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            for (int trace = 0; trace < TRACES; trace++) {
+                double[][] ranges = ranges(trace);
+                for (int c = 0; c < CHANNELS; c++) {
+                    SplittableRandom random = RandomStreams.forKey(seed, (long) trace * CHANNELS + c);
+                    double[] walk = walk(samples, smoothing(trace), random);
+                    double low = Math.min(ranges[c][0], ranges[c][1]);
+                    double high = Math.max(ranges[c][0], ranges[c][1]);
+                    for (int s = 0; s < samples; s++) {
+                        double unit = Math.max(-1.0, Math.min(1.0, walk[s] / 3.0));
+                        double value = (low + high) / 2 + unit * (high - low) / 2;
+                        mapped.putInt(HEADER_BYTES + ((trace * samples + s) * CHANNELS + c) * Integer.BYTES,
+                            FixedPoint.fourDecimals(value));
+                    }
+                }
+            }
+            mapped.putLong(0, MAGIC);
+            mapped.putInt(8, VERSION);
+            mapped.putInt(12, CHANNELS);
+            mapped.putInt(16, samples);
+            mapped.putInt(20, TRACES);
+            mapped.putLong(24, seed);
+            mapped.force();
+        }
+        return open(file);
+    }
+
+    private static long fileBytes(int samples) {
+        return HEADER_BYTES + (long) TRACES * samples * CHANNELS * Integer.BYTES;
+    }
+
+    // Stationary AR(1) walk with unit variance whose tail is faded into its start
+    private static double[] walk(int samples, double phi, SplittableRandom random) {
+        double innovation = Math.sqrt(1 - phi * phi);
+        double[] raw = new double[samples + FADE];
+        raw[0] = random.nextGaussian();
+        for (int s = 1; s < raw.length; s++) {
+            raw[s] = phi * raw[s - 1] + innovation * random.nextGaussian();
+        }
+        double[] walk = Arrays.copyOf(raw, samples);
+        for (int s = 0; s < FADE; s++) {
+            // The first samples continue from the last one, so sample 0 follows sample n-1
+            double weight = (double) s / FADE;
+            walk[s] = (1 - weight) * raw[samples + s] + weight * raw[s];
+        }
+        return walk;
+    }
+
+    // Crash traces are jerky, parked ones barely move
+    private static double smoothing(int trace) {
+        return switch (trace) {
+            case CRUISE -> 0.95;
+            case PARKED -> 0.98;
+            case HARD_BRAKE, RAPID_ACCEL -> 0.85;
+            default -> 0.5;
+        };
+    }
+
+    // Per channel {from, to} in physical units, matching the ranges of the synthesized readings
+    private static double[][] ranges(int trace) {
+        double[][] drivingMagnetometer = {{20.0, 30.0}, {-15.0, -5.0}, {40.0, 55.0}};
+        double[][] drivingGyroscope = {{-0.25, 0.25}, {-0.4, 0.4}, {-0.6, 0.6}};
+        return switch (trace) {
+            case CRUISE -> concat(new double[][] {{-0.5, 0.5}, {-0.5, 0.5}, {0.8, 1.2}}, drivingGyroscope, drivingMagnetometer);
+            case HARD_BRAKE -> concat(new double[][] {{-1.4, -0.9}, {-0.15, 0.15}, {0.9, 1.1}}, drivingGyroscope, drivingMagnetometer);
+            case RAPID_ACCEL -> concat(new double[][] {{0.8, 1.2}, {-0.15, 0.15}, {0.9, 1.1}}, drivingGyroscope, drivingMagnetometer);
+            case PARKED -> concat(new double[][] {{-0.05, 0.05}, {-0.05, 0.05}, {0.95, 1.05}},
+                new double[][] {{-0.01, 0.01}, {-0.01, 0.01}, {-0.01, 0.01}},
+                new double[][] {{22.0, 28.0}, {-12.0, -6.0}, {42.0, 50.0}});
+            default -> {
+                AccidentType.SensorProfile profile = AccidentType.values()[trace - REGIMES].getSensorProfile();
+                yield concat(
+                    new double[][] {{profile.accelXMin(), profile.accelXMax()}, {profile.accelYMin(), profile.accelYMax()},
+                        {profile.accelZMin(), profile.accelZMax()}},
+                    new double[][] {{profile.gyroXMin(), profile.gyroXMax()}, {profile.gyroYMin(), profile.gyroYMax()},
+                        {profile.gyroZMin(), profile.gyroZMax()}},
+                    drivingMagnetometer);
+            }
+        };
+    }
+
+    private static double[][] concat(double[][] accelerometer, double[][] gyroscope, double[][] magnetometer) {
+        return new double[][] {accelerometer[0], accelerometer[1], accelerometer[2],
+            gyroscope[0], gyroscope[1], gyroscope[2], magnetometer[0], magnetometer[1], magnetometer[2]};
+    }
+
+    public int samples() {
+        return samples;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * Position of the sample a driver replays at {@code step} of {@code trace}; pass it to {@link #read}.
+     */
+    public int sample(int trace, int driverId, long step) {
+        return trace * samples + (int) Math.floorMod(RandomStreams.hash(seed, driverId) + step, (long) samples);
+    }
+
+    /**
+     * One channel of a sample, in ten-thousandths.
+     */
+    public int read(int sample, int channel) {
+        return buffer.getInt(HEADER_BYTES + (sample * CHANNELS + channel) * Integer.BYTES);
+    }
+}
@@ -0,0 +1,112 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * Clock for simulated time, either warped relative to the wall clock or stepped by hand.
+ * <p>
+ * In warp mode simulated time runs {@code warpFactor} times as fast as real time from the last
+ * anchor; in manual mode it stands still until {@link #advance} is called. Changing the factor or
+ * mode re-anchors at the current simulated instant, so time never jumps. Only state, trip and
+ * crash timing and message timestamps follow this clock; report pacing stays on real time.
+ */
+public class SimulationClock extends Clock {
+
+    // Simulated time was simMillis at wall time wallMillis; replaced as a whole
+    private record Anchor(long simMillis, long wallMillis, double warpFactor, boolean manual) {}
+
+    private final ZoneId zone;
+    private volatile Anchor anchor;
+
+    public SimulationClock() {
+        this(System.currentTimeMillis(), 1.0, false, ZoneId.systemDefault());
+    }
+
+    public SimulationClock(long startMillis, double warpFactor, boolean manual, ZoneId zone) {
+        this.zone = zone;
+        this.anchor = new Anchor(startMillis, System.currentTimeMillis(), validate(warpFactor), manual);
+    }
+
+    private SimulationClock(SimulationClock source, ZoneId zone) {
+        this.zone = zone;
+        this.anchor = source.anchor;
+    }
+
+    private static double validate(double warpFactor) {
+        if (!(warpFactor > 0) || Double.isInfinite(warpFactor)) {
+            throw new IllegalArgumentException("Warp factor must be positive: " + warpFactor);
+        }
+        return warpFactor;
+    }
+
+    @Override
+    public long millis() {
+        Anchor current = anchor;
+        if (current.manual()) {
+            return current.simMillis();
+        }
+        long realElapsed = System.currentTimeMillis() - current.wallMillis();
+        return current.simMillis() + (long) (realElapsed * current.warpFactor());
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis());
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * A view with another zone; it shares nothing with this clock after creation, so later
+     * warp or mode changes are not reflected.
+     */
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : new SimulationClock(this, zone);
+    }
+
+    public synchronized void setWarpFactor(double warpFactor) {
+        Anchor current = anchor;
+        anchor = new Anchor(millis(), System.currentTimeMillis(), validate(warpFactor), current.manual());
+    }
+
+    public double getWarpFactor() {
+        return anchor.warpFactor();
+    }
+
+    public synchronized void setManual(boolean manual) {
+        Anchor current = anchor;
+        anchor = new Anchor(millis(), System.currentTimeMillis(), current.warpFactor(), manual);
+    }
+
+    public boolean isManual() {
+        return anchor.manual();
+    }
+
+    /**
+     * Jump to an arbitrary instant, backwards included. Only meant for batch runs that position
+     * the clock before the fleet is initialized; times already stamped on drivers are not shifted.
+     */
+    public synchronized void setTime(long millis) {
+        Anchor current = anchor;
+        anchor = new Anchor(millis, System.currentTimeMillis(), current.warpFactor(), current.manual());
+    }
+
+    /**
+     * Step simulated time forward; works in both modes.
+     */
+    public synchronized void advance(Duration step) {
+        if (step.isNegative()) {
+            throw new IllegalArgumentException("Simulated time cannot go backwards: " + step);
+        }
+        Anchor current = anchor;
+        anchor = new Anchor(millis() + step.toMillis(), System.currentTimeMillis(),
+            current.warpFactor(), current.manual());
+    }
+}
@@ -0,0 +1,47 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.model.MutableTelematicsMessage;
+
+import java.io.IOException;
+
+/**
+ * Encodes telematics reports in one {@link WireFormat}. Implementations are thread-safe.
+ */
+public interface TelematicsEncoding {
+
+    WireFormat format();
+
+    byte[] encode(FlatTelematicsMessage message);
+
+    default byte[] encode(MutableTelematicsMessage message) {
+        return encode(message.toRecord());
+    }
+
+    /**
+     * Encode a report and hand the bytes to {@code sink}. JSON passes its pooled writer's buffer
+     * without copying, so a loop that reuses one message and one sink allocates no body per
+     * report; other formats pass the array {@link #encode(MutableTelematicsMessage)} returns.
+     */
+    default void encode(MutableTelematicsMessage message, Sink sink) throws IOException {
+        byte[] bytes = encode(message);
+        sink.accept(bytes, bytes.length);
+    }
+
+    FlatTelematicsMessage decode(byte[] bytes) throws IOException;
+
+    /**
+     * The schema consumers need to decode, or null for self-describing formats.
+     */
+    default String schema() {
+        return null;
+    }
+
+    /**
+     * Receives an encoded report; {@code bytes} is only valid for the duration of the call.
+     */
+    @FunctionalInterface
+    interface Sink {
+        void accept(byte[] bytes, int length) throws IOException;
+    }
+}
@@ -0,0 +1,310 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.model.MutableTelematicsMessage;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes telematics reports as JSON straight into a reusable byte buffer, without reflection.
+ * <p>
+ * The output is byte-identical to what Jackson produces for {@link FlatTelematicsMessage} and
+ * {@link MutableTelematicsMessage} through the AMQP converter: the same field order, numbers as
+ * {@link Double#toString} writes them (non-finite ones quoted), {@code event_time} as decimal
+ * epoch seconds with nanoseconds, and strings as UTF-8 with Jackson's escapes. Field names are
+ * encoded once up front; fixed-point readings are written digit by digit through
+ * {@link FixedPoint}. Not thread-safe; reuse one writer per thread or pool them.
+ */
+public final class TelematicsJsonWriter {
+
+    private static final byte[][] FIELDS = fields(
+        "policy_id", "vehicle_id", "vin", "event_time",
+        "speed_mph", "speed_limit_mph", "g_force", "driver_id",
+        "current_street", "accident_type", "gps_latitude", "gps_longitude",
+        "gps_altitude", "gps_speed", "gps_bearing", "gps_accuracy",
+        "gps_satellite_count", "gps_fix_time", "accelerometer_x", "accelerometer_y",
+        "accelerometer_z", "gyroscope_x", "gyroscope_y", "gyroscope_z",
+        "magnetometer_x", "magnetometer_y", "magnetometer_z", "magnetometer_heading",
+        "barometric_pressure", "device_battery_level", "device_signal_strength", "device_orientation",
+        "device_screen_on", "device_charging");
+
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    private final char[] digits = new char[FixedPoint.MAX_CHARS];
+    private byte[] buf = new byte[1024];
+    private int pos;
+
+    // {"name": for the first field, ,"name": for the others
+    private static byte[][] fields(String... names) {
+        byte[][] fields = new byte[names.length][];
+        for (int i = 0; i < names.length; i++) {
+            fields[i] = ((i == 0 ? "{\"" : ",\"") + names[i] + "\":").getBytes(StandardCharsets.US_ASCII);
+        }
+        return fields;
+    }
+
+    /**
+     * Serialize a report; the returned array is the caller's.
+     */
+    public byte[] write(FlatTelematicsMessage m) {
+        pos = 0;
+        field(0); writeLong(m.policyId());
+        field(1); writeLong(m.vehicleId());
+        field(2); writeString(m.vin());
+        field(3); writeInstant(m.eventTime().getEpochSecond(), m.eventTime().getNano());
+        field(4); writeDouble(m.speedMph());
+        field(5); writeLong(m.speedLimitMph());
+        field(6); writeDouble(m.gForce());
+        field(7); writeLong(m.driverId());
+        field(8); writeString(m.currentStreet());
+        field(9); writeString(m.accidentType());
+        field(10); writeDouble(m.gpsLatitude());
+        field(11); writeDouble(m.gpsLongitude());
+        field(12); writeDouble(m.gpsAltitude());
+        field(13); writeDouble(m.gpsSpeed());
+        field(14); writeDouble(m.gpsBearing());
+        field(15); writeDouble(m.gpsAccuracy());
+        field(16); writeLong(m.gpsSatelliteCount());
+        field(17); writeLong(m.gpsFixTime());
+        field(18); writeDouble(m.accelerometerX());
+        field(19); writeDouble(m.accelerometerY());
+        field(20); writeDouble(m.accelerometerZ());
+        field(21); writeDouble(m.gyroscopeX());
+        field(22); writeDouble(m.gyroscopeY());
+        field(23); writeDouble(m.gyroscopeZ());
+        field(24); writeDouble(m.magnetometerX());
+        field(25); writeDouble(m.magnetometerY());
+        field(26); writeDouble(m.magnetometerZ());
+        field(27); writeDouble(m.magnetometerHeading());
+        field(28); writeDouble(m.barometricPressure());
+        field(29); writeLong(m.deviceBatteryLevel());
+        field(30); writeLong(m.deviceSignalStrength());
+        field(31); writeString(m.deviceOrientation());
+        field(32); writeBoolean(m.deviceScreenOn());
+        field(33); writeBoolean(m.deviceCharging());
+        return Arrays.copyOf(buf, finish());
+    }
+
+    /**
+     * Serialize a report buffer, writing its fixed-point readings without going through doubles.
+     */
+    public byte[] write(MutableTelematicsMessage m) {
+        return Arrays.copyOf(buf, writeInPlace(m));
+    }
+
+    /**
+     * Like {@link #write(MutableTelematicsMessage)}, but leaves the JSON in {@link #buffer()}
+     * instead of copying it out, for callers that pass it straight on.
+     *
+     * @return the number of bytes written
+     */
+    public int writeInPlace(MutableTelematicsMessage m) {
+        pos = 0;
+        field(0); writeLong(m.policyId());
+        field(1); writeLong(m.vehicleId());
+        field(2); writeString(m.vin());
+        field(3); writeInstant(Math.floorDiv(m.eventTimeMillis(), 1000), (int) Math.floorMod(m.eventTimeMillis(), 1000) * 1_000_000);
+        field(4); writeFixed(m.speedMphFixed(), FixedPoint.TWO_DECIMALS);
+        field(5); writeLong(m.speedLimitMph());
+        field(6); writeDouble(m.gForce());
+        field(7); writeLong(m.driverId());
+        field(8); writeString(m.currentStreet());
+        field(9); writeString(m.accidentType());
+        field(10); writeDouble(m.gpsLatitude());
+        field(11); writeDouble(m.gpsLongitude());
+        field(12); writeDouble(m.gpsAltitude());
+        field(13); writeDouble(m.gpsSpeed());
+        field(14); writeDouble(m.gpsBearing());
+        field(15); writeDouble(m.gpsAccuracy());
+        field(16); writeLong(m.gpsSatelliteCount());
+        field(17); writeLong(m.gpsFixTime());
+        field(18); writeFixed(m.accelerometerXFixed(), FixedPoint.FOUR_DECIMALS);
+        field(19); writeFixed(m.accelerometerYFixed(), FixedPoint.FOUR_DECIMALS);
+        field(20); writeFixed(m.accelerometerZFixed(), FixedPoint.FOUR_DECIMALS);
+        field(21); writeFixed(m.gyroscopeXFixed(), FixedPoint.FOUR_DECIMALS);
+        field(22); writeFixed(m.gyroscopeYFixed(), FixedPoint.FOUR_DECIMALS);
+        field(23); writeFixed(m.gyroscopeZFixed(), FixedPoint.FOUR_DECIMALS);
+        field(24); writeFixed(m.magnetometerXFixed(), FixedPoint.FOUR_DECIMALS);
+        field(25); writeFixed(m.magnetometerYFixed(), FixedPoint.FOUR_DECIMALS);
+        field(26); writeFixed(m.magnetometerZFixed(), FixedPoint.FOUR_DECIMALS);
+        field(27); writeDouble(m.magnetometerHeading());
+        field(28); writeDouble(m.barometricPressure());
+        field(29); writeLong(m.deviceBatteryLevel());
+        field(30); writeLong(m.deviceSignalStrength());
+        field(31); writeString(m.deviceOrientation());
+        field(32); writeBoolean(m.deviceScreenOn());
+        field(33); writeBoolean(m.deviceCharging());
+        return finish();
+    }
+
+    /**
+     * The writer's buffer, holding the last {@link #writeInPlace} output until the next write.
+     */
+    public byte[] buffer() {
+        return buf;
+    }
+
+    private int finish() {
+        ensure(1);
+        buf[pos++] = '}';
+        return pos;
+    }
+
+    private void field(int index) {
+        writeBytes(FIELDS[index]);
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buf, pos, bytes.length);
+        pos += bytes.length;
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        ensure(20);
+        if (value < 0) {
+            buf[pos++] = '-';
+            value = -value;
+        }
+        int end = pos + length(value);
+        for (int i = end - 1; i >= pos; i--) {
+            buf[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        pos = end;
+    }
+
+    private static int length(long value) {
+        int length = 1;
+        while (value >= 10) {
+            value /= 10;
+            length++;
+        }
+        return length;
+    }
+
+    private void writeDouble(double value) {
+        if (Double.isFinite(value)) {
+            writeAscii(Double.toString(value));
+        } else {
+            ensure(1);
+            buf[pos++] = '"';
+            writeAscii(Double.toString(value));
+            ensure(1);
+            buf[pos++] = '"';
+        }
+    }
+
+    private void writeFixed(int units, int decimals) {
+        int length = FixedPoint.format(units, decimals, digits, 0);
+        ensure(length);
+        for (int i = 0; i < length; i++) {
+            buf[pos++] = (byte) digits[i];
+        }
+    }
+
+    // Decimal seconds with nine digits of nanoseconds; within the epoch's first second Jackson
+    // goes through BigDecimal, which switches to scientific notation below a microsecond
+    private void writeInstant(long seconds, int nanos) {
+        if (seconds == 0) {
+            writeAscii(nanos == 0 ? "0.0" : BigDecimal.valueOf(nanos, 9).toString());
+            return;
+        }
+        writeLong(seconds);
+        ensure(10);
+        buf[pos++] = '.';
+        int end = pos + 9;
+        for (int i = end - 1; i >= pos; i--) {
+            buf[i] = (byte) ('0' + nanos % 10);
+            nanos /= 10;
+        }
+        pos = end;
+    }
+
+    private void writeBoolean(boolean value) {
+        writeBytes(value ? TRUE : FALSE);
+    }
+
+    private void writeAscii(String value) {
+        int length = value.length();
+        ensure(length);
+        for (int i = 0; i < length; i++) {
+            buf[pos++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeString(String value) {
+        if (value == null) {
+            writeBytes(NULL);
+            return;
+        }
+        int length = value.length();
+        // Worst case: every char a six-byte escape
+        ensure(length * 6 + 2);
+        buf[pos++] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c < 0x20 || c == '"' || c == '\\') {
+                    escape(c);
+                } else {
+                    buf[pos++] = (byte) c;
+                }
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xC0 | c >> 6);
+                buf[pos++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                // Jackson escapes surrogates one char at a time rather than combining them
+                unicodeEscape(c);
+            } else {
+                buf[pos++] = (byte) (0xE0 | c >> 12);
+                buf[pos++] = (byte) (0x80 | c >> 6 & 0x3F);
+                buf[pos++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        buf[pos++] = '"';
+    }
+
+    private void escape(char c) {
+        byte code = switch (c) {
+            case '"' -> '"';
+            case '\\' -> '\\';
+            case '\b' -> 'b';
+            case '\t' -> 't';
+            case '\n' -> 'n';
+            case '\f' -> 'f';
+            case '\r' -> 'r';
+            default -> 0;
+        };
+        if (code == 0) {
+            unicodeEscape(c);
+        } else {
+            buf[pos++] = '\\';
+            buf[pos++] = code;
+        }
+    }
+
+    private void unicodeEscape(char c) {
+        buf[pos++] = '\\';
+        buf[pos++] = 'u';
+        buf[pos++] = HEX[c >> 12];
+        buf[pos++] = HEX[c >> 8 & 0xF];
+        buf[pos++] = HEX[c >> 4 & 0xF];
+        buf[pos++] = HEX[c & 0xF];
+    }
+
+    private void ensure(int bytes) {
+        if (pos + bytes > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + bytes));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for large numbers of coarse timers.
+ * <p>
+ * Four levels of 64 buckets cover 64, 4096, 262144 and 16.7M ticks; a timer is filed in
+ * the lowest level whose window contains its due tick and cascades one level down each
+ * time the level below wraps, so scheduling and firing are O(1) and idle timers cost
+ * nothing between cascades. Timers beyond the top level are parked in its last bucket
+ * and re-filed when it comes round.
+ * <p>
+ * Scheduling is thread-safe. Expired items are handed to the callback outside the lock,
+ * so the callback may schedule new timers.
+ */
+public class TimerWheel<T> {
+
+    private static final int LEVELS = 4;
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+
+    private record Timer<T>(T item, long dueTick) {}
+
+    private final long tickMillis;
+    private final long originMillis;
+    private final List<ArrayDeque<Timer<T>>> buckets = new ArrayList<>(LEVELS * SLOTS);
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis  timer resolution; timers fire on the first {@link #advance} at or after their tick
+     * @param originMillis wall-clock time of tick 0
+     */
+    public TimerWheel(long tickMillis, long originMillis) {
+        this.tickMillis = Math.max(1, tickMillis);
+        this.originMillis = originMillis;
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+    }
+
+    public synchronized void schedule(T item, long dueMillis) {
+        long dueTick = Math.floorDiv(dueMillis - originMillis + tickMillis - 1, tickMillis);
+        file(new Timer<>(item, Math.max(dueTick, currentTick + 1)));
+        size++;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Move the wheel forward to {@code nowMillis} and hand every expired item to {@code onExpire}.
+     *
+     * @return number of expired items
+     */
+    public int advance(long nowMillis, Consumer<T> onExpire) {
+        List<T> expired = new ArrayList<>();
+        synchronized (this) {
+            long targetTick = Math.floorDiv(nowMillis - originMillis, tickMillis);
+            while (currentTick < targetTick) {
+                currentTick++;
+                // Cascade from the highest level that wrapped, so re-filed timers land in buckets still to come
+                for (int level = LEVELS - 1; level > 0; level--) {
+                    if ((currentTick & ((1L << (BITS * level)) - 1)) == 0) {
+                        cascade(level);
+                    }
+                }
+                ArrayDeque<Timer<T>> due = bucket(0, (int) (currentTick & MASK));
+                for (Timer<T> timer : due) {
+                    expired.add(timer.item());
+                }
+                size -= due.size();
+                due.clear();
+            }
+        }
+        expired.forEach(onExpire);
+        return expired.size();
+    }
+
+    private void cascade(int level) {
+        ArrayDeque<Timer<T>> pending = bucket(level, (int) ((currentTick >>> (BITS * level)) & MASK));
+        List<Timer<T>> timers = new ArrayList<>(pending);
+        pending.clear();
+        timers.forEach(this::file);
+    }
+
+    private void file(Timer<T> timer) {
+        long dueTick = Math.max(timer.dueTick(), currentTick);
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = BITS * level;
+            if ((dueTick >>> shift) - (currentTick >>> shift) < SLOTS) {
+                bucket(level, (int) ((dueTick >>> shift) & MASK)).add(timer);
+                return;
+            }
+        }
+        // Beyond the top level: park in the furthest top bucket and re-file on cascade
+        int top = BITS * (LEVELS - 1);
+        bucket(LEVELS - 1, (int) (((currentTick >>> top) + MASK) & MASK)).add(timer);
+    }
+
+    private ArrayDeque<Timer<T>> bucket(int level, int index) {
+        return buckets.get(level * SLOTS + index);
+    }
+}
@@ -0,0 +1,129 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Deficit-based token bucket that paces work to a target rate in batches.
+ * <p>
+ * Credit accrues continuously at the target rate from an anchor point, and every wake-up
+ * hands out all whole tokens owed so far. Time spent doing the work, or oversleeping in
+ * {@code parkNanos}, therefore turns into a larger next batch instead of a lower rate, so the
+ * long-run rate holds whatever the per-message cost. Credit is capped at a burst window;
+ * anything above that is forgiven and counted as shortfall, so a stalled caller does not
+ * flood downstream consumers when it recovers.
+ * <p>
+ * A pacer is owned by a single thread; only {@link #setRate(double)} and
+ * {@link #getShortfall()} may be called from others.
+ */
+public class TokenBucketPacer {
+
+    /** Rate meaning "as fast as possible": every call returns a full batch immediately. */
+    public static final double UNLIMITED = Double.POSITIVE_INFINITY;
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final int maxBatch;
+    private final double burstSeconds;
+    private final LongSupplier nanoTime;
+
+    private volatile double rate;
+
+    // Owner-thread state
+    private double anchorRate = Double.NaN;
+    private long anchorNanos;
+    private long grantedSinceAnchor;
+    // Written by the owner only, read by metrics
+    private volatile long shortfall;
+
+    /**
+     * @param rate         tokens per second; 0 holds all work, {@link #UNLIMITED} removes pacing
+     * @param maxBatch     upper bound for the tokens returned by one {@link #acquire(long)} call
+     * @param burstSeconds how much unused credit may accumulate, in seconds of the target rate
+     */
+    public TokenBucketPacer(double rate, int maxBatch, double burstSeconds) {
+        this(rate, maxBatch, burstSeconds, System::nanoTime);
+    }
+
+    /**
+     * @param nanoTime time source in nanoseconds, {@link System#nanoTime()} outside of tests
+     */
+    public TokenBucketPacer(double rate, int maxBatch, double burstSeconds, LongSupplier nanoTime) {
+        this.rate = rate;
+        this.maxBatch = Math.max(1, maxBatch);
+        this.burstSeconds = burstSeconds;
+        this.nanoTime = nanoTime;
+    }
+
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    /**
+     * Tokens forgiven because they could not be consumed within the burst window.
+     */
+    public long getShortfall() {
+        return shortfall;
+    }
+
+    /**
+     * Drop accumulated credit, e.g. after a pause, so pacing restarts from now.
+     */
+    public void reset() {
+        anchorRate = Double.NaN;
+    }
+
+    /**
+     * Wait until at least one token is available and take every token owed, up to the
+     * max batch. Returns 0 if no token became available within {@code maxWaitNanos}, which
+     * lets the caller re-check its running and paused flags.
+     */
+    public int acquire(long maxWaitNanos) {
+        long deadline = nanoTime.getAsLong() + maxWaitNanos;
+        while (true) {
+            double currentRate = rate;
+            if (currentRate == UNLIMITED) {
+                return maxBatch;
+            }
+            long now = nanoTime.getAsLong();
+            if (currentRate != anchorRate) {
+                // Rate changed (or first call): re-anchor so the new rate applies from now on
+                anchorRate = currentRate;
+                anchorNanos = now;
+                grantedSinceAnchor = 0;
+            }
+            if (currentRate <= 0) {
+                if (now - deadline >= 0) {
+                    return 0;
+                }
+                LockSupport.parkNanos(deadline - now);
+                continue;
+            }
+
+            long earned = (long) ((now - anchorNanos) * currentRate / NANOS_PER_SECOND);
+            long owed = earned - grantedSinceAnchor;
+            long burst = Math.max(maxBatch, (long) (currentRate * burstSeconds));
+            if (owed > burst) {
+                shortfall += owed - burst;
+                grantedSinceAnchor += owed - burst;
+                owed = burst;
+            }
+            if (owed >= 1) {
+                int batch = (int) Math.min(owed, maxBatch);
+                grantedSinceAnchor += batch;
+                return batch;
+            }
+
+            long nextToken = anchorNanos + (long) Math.ceil((grantedSinceAnchor + 1) * NANOS_PER_SECOND / currentRate);
+            long wakeUp = nextToken - deadline < 0 ? nextToken : deadline;
+            if (now - deadline >= 0) {
+                return 0;
+            }
+            LockSupport.parkNanos(Math.max(1, wakeUp - now));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link SensorKernel} on the incubating Vector API, using the platform's widest double lanes.
+ * <p>
+ * Only loaded when {@code jdk.incubator.vector} is in the boot layer. Multiply and add stay
+ * separate (no FMA) so every lane rounds exactly like the scalar formula. The vector API has no
+ * rounding operator, so the {@link Math#round} behind fixed-point quantization is rebuilt from
+ * truncation: floor is the truncated value minus one where that overshot, and the exact fraction
+ * {@code y - floor(y)} decides the half-up step. Leftover entries go through the scalar loop.
+ */
+final class VectorSensorKernel implements SensorKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void affine(double[] u, double[] shift, double[] scale, double[] bias, double[] out, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += SPECIES.length()) {
+            affine(u, shift, scale, bias, i).intoArray(out, i);
+        }
+        ScalarSensorKernel.affine(u, shift, scale, bias, out, i, n);
+    }
+
+    @Override
+    public void affineFourDecimals(double[] u, double[] shift, double[] scale, double[] bias, double[] out, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += SPECIES.length()) {
+            DoubleVector y = affine(u, shift, scale, bias, i).mul(10000.0);
+            DoubleVector truncated = (DoubleVector) y.convert(VectorOperators.D2L, 0).convert(VectorOperators.L2D, 0);
+            DoubleVector floor = truncated.lanewise(VectorOperators.SUB, 1.0, truncated.compare(VectorOperators.GT, y));
+            VectorMask<Double> roundUp = y.sub(floor).compare(VectorOperators.GE, 0.5);
+            floor.lanewise(VectorOperators.ADD, 1.0, roundUp).intoArray(out, i);
+        }
+        ScalarSensorKernel.affineFourDecimals(u, shift, scale, bias, out, i, n);
+    }
+
+    @Override
+    public void magnitudeFourDecimals(double[] x, double[] y, double[] z, double[] out, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += SPECIES.length()) {
+            DoubleVector vx = DoubleVector.fromArray(SPECIES, x, i).div(10000.0);
+            DoubleVector vy = DoubleVector.fromArray(SPECIES, y, i).div(10000.0);
+            DoubleVector vz = DoubleVector.fromArray(SPECIES, z, i).div(10000.0);
+            vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz)).lanewise(VectorOperators.SQRT).intoArray(out, i);
+        }
+        ScalarSensorKernel.magnitudeFourDecimals(x, y, z, out, i, n);
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + SPECIES.length() + "x64";
+    }
+
+    private static DoubleVector affine(double[] u, double[] shift, double[] scale, double[] bias, int i) {
+        DoubleVector shifted = DoubleVector.fromArray(SPECIES, u, i).add(DoubleVector.fromArray(SPECIES, shift, i));
+        return DoubleVector.fromArray(SPECIES, bias, i).add(shifted.mul(DoubleVector.fromArray(SPECIES, scale, i)));
+    }
+}
@@ -0,0 +1,48 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+/**
+ * Wire formats a telematics report can be encoded in, with the AMQP {@code content_type} each one
+ * is advertised under. JSON is the only text format; the others are binary. AVRO and PROTOBUF
+ * are schema-based: the schema is derived from {@code FlatTelematicsMessage} and consumers need
+ * it out of band, while CBOR and MSGPACK carry field names like JSON does.
+ */
+public enum WireFormat {
+    JSON("application/json", "jsonl"),
+    CBOR("application/cbor", "cbor"),
+    MSGPACK("application/x-msgpack", "msgpack"),
+    AVRO("application/avro", "avro"),
+    PROTOBUF("application/x-protobuf", "pb");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    WireFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+
+    public boolean isText() {
+        return this == JSON;
+    }
+
+    /**
+     * A new encoder for this format; encoders are thread-safe, so one per sink is enough.
+     */
+    public TelematicsEncoding newEncoding() {
+        return switch (this) {
+            case JSON -> new JsonTelematicsEncoding();
+            case CBOR -> JacksonTelematicsEncoding.cbor();
+            case MSGPACK -> JacksonTelematicsEncoding.msgpack();
+            case AVRO -> JacksonTelematicsEncoding.avro();
+            case PROTOBUF -> JacksonTelematicsEncoding.protobuf();
+        };
+    }
+}
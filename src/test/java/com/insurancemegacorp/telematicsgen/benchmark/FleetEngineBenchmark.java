@@ -0,0 +1,101 @@
+package com.insurancemegacorp.telematicsgen.benchmark;
+
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
+import com.insurancemegacorp.telematicsgen.service.FleetEngine;
+import com.insurancemegacorp.telematicsgen.service.ShardedTickEngine;
+import com.insurancemegacorp.telematicsgen.service.VirtualThreadEngine;
+import com.insurancemegacorp.telematicsgen.util.TokenBucketPacer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares the sharded platform-thread engine with the virtual-thread-per-driver engine.
+ * Both engines run unpaced in the background with a synthetic per-driver work unit and no
+ * broker; one benchmark operation is one fleet pass worth of driver advances, so the score
+ * is fleet passes per second.
+ *
+ * Run with:
+ *   ./mvnw test-compile dependency:build-classpath -Dmdep.outputFile=target/test.classpath
+ *   java -cp target/test-classes:target/classes:$(cat target/test.classpath) org.openjdk.jmh.Main FleetEngineBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FleetEngineBenchmark {
+
+    @Param({"10000", "100000"})
+    private int fleetSize;
+
+    @Param({"SHARDED", "VIRTUAL"})
+    private String engineType;
+
+    /** CPU tokens burnt per driver advance, standing in for behavior update and message generation. */
+    @Param({"200"})
+    private int workPerAdvance;
+
+    private final LongAdder advances = new LongAdder();
+    private List<Driver> drivers;
+    private FleetEngine engine;
+
+    @Setup(Level.Trial)
+    public void createFleet() {
+        FleetState fleet = new FleetState(fleetSize);
+        drivers = new ArrayList<>(fleetSize);
+        for (int i = 0; i < fleetSize; i++) {
+            drivers.add(fleet.add(10_000_000 + i, 20_000_000 + i, 30_000_000 + i, "1HGBH41JXMN" + i, 33.7490, -84.3880, false));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void startEngine() {
+        int work = workPerAdvance;
+        if ("VIRTUAL".equals(engineType)) {
+            engine = new VirtualThreadEngine(drivers, TokenBucketPacer.UNLIMITED, 0.0, driver -> advance(work));
+        } else {
+            engine = new ShardedTickEngine(drivers, Runtime.getRuntime().availableProcessors(), TokenBucketPacer.UNLIMITED, driver -> advance(work));
+        }
+        engine.start();
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopEngine() throws InterruptedException {
+        engine.stop();
+        engine.awaitTermination();
+    }
+
+    private void advance(int work) {
+        Blackhole.consumeCPU(work);
+        advances.increment();
+    }
+
+    @Benchmark
+    public long fleetPass() {
+        long target = advances.sum() + fleetSize;
+        long current;
+        while ((current = advances.sum()) < target) {
+            Thread.onSpinWait();
+        }
+        return current;
+    }
+}
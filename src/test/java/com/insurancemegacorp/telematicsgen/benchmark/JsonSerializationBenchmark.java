@@ -0,0 +1,79 @@
+package com.insurancemegacorp.telematicsgen.benchmark;
+
+import com.insurancemegacorp.telematicsgen.config.TelematicsMessageConverter;
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.DriverState;
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
+import com.insurancemegacorp.telematicsgen.model.MutableTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.service.TelematicsDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares Jackson's reflective serialization of a report with the hand-written
+ * {@link TelematicsMessageConverter}, for both the record and the reusable buffer. One operation
+ * converts one report into an AMQP message body, headers included.
+ *
+ * Run with:
+ *   ./mvnw test-compile dependency:build-classpath -Dmdep.outputFile=target/test.classpath
+ *   java -cp target/test-classes:target/classes:$(cat target/test.classpath) org.openjdk.jmh.Main JsonSerializationBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class JsonSerializationBenchmark {
+
+    private final Jackson2JsonMessageConverter jackson = new Jackson2JsonMessageConverter();
+    private final TelematicsMessageConverter handWritten = new TelematicsMessageConverter();
+    private final MutableTelematicsMessage buffer = new MutableTelematicsMessage();
+    private FlatTelematicsMessage record;
+
+    @Setup(Level.Trial)
+    public void generateReport() {
+        TelematicsDataGenerator generator = new TelematicsDataGenerator();
+        FleetState fleet = new FleetState(1, 42L);
+        Driver driver = fleet.add(10_000_000, 20_000_000, 30_000_000, "1HGBH41JXMN109186", 33.7490, -84.3880, false);
+        driver.setCurrentState(DriverState.DRIVING);
+        driver.setCurrentSpeed(35.0);
+        driver.setCurrentStreet("Peachtree St NE");
+        record = generator.generateTelematicsData(driver);
+        generator.generateTelematicsData(driver, buffer);
+    }
+
+    @Benchmark
+    public byte[] jacksonRecord() {
+        return jackson.toMessage(record, new MessageProperties()).getBody();
+    }
+
+    @Benchmark
+    public byte[] handWrittenRecord() {
+        return handWritten.toMessage(record, new MessageProperties()).getBody();
+    }
+
+    @Benchmark
+    public byte[] jacksonBuffer() {
+        return jackson.toMessage(buffer, new MessageProperties()).getBody();
+    }
+
+    @Benchmark
+    public byte[] handWrittenBuffer() {
+        return handWritten.toMessage(buffer, new MessageProperties()).getBody();
+    }
+}
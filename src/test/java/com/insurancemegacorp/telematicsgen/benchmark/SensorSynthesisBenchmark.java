@@ -0,0 +1,85 @@
+package com.insurancemegacorp.telematicsgen.benchmark;
+
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.DriverState;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
+import com.insurancemegacorp.telematicsgen.model.MutableTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.service.TelematicsBatch;
+import com.insurancemegacorp.telematicsgen.service.TelematicsDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares one-at-a-time report generation with block generation through a
+ * {@link TelematicsBatch} on the scalar and the Vector API sensor kernels. One operation
+ * generates a report for every driver of the block, so the score is blocks per second.
+ *
+ * Run with:
+ *   ./mvnw test-compile dependency:build-classpath -Dmdep.outputFile=target/test.classpath
+ *   java --add-modules jdk.incubator.vector -cp target/test-classes:target/classes:$(cat target/test.classpath) org.openjdk.jmh.Main SensorSynthesisBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class SensorSynthesisBenchmark {
+
+    @Param({"256", "4096"})
+    private int blockSize;
+
+    @Param({"SCALAR", "VECTOR"})
+    private String kernel;
+
+    private final MutableTelematicsMessage message = new MutableTelematicsMessage();
+    private TelematicsDataGenerator generator;
+    private TelematicsBatch batch;
+    private List<Driver> drivers;
+
+    @Setup(Level.Trial)
+    public void createFleet() {
+        generator = new TelematicsDataGenerator();
+        ReflectionTestUtils.setField(generator, "vectorSensors", "VECTOR".equals(kernel));
+        batch = generator.newBatch(blockSize);
+        FleetState fleet = new FleetState(blockSize, 42L);
+        drivers = new ArrayList<>(blockSize);
+        for (int i = 0; i < blockSize; i++) {
+            Driver driver = fleet.add(10_000_000 + i, 20_000_000 + i, 30_000_000 + i, "1HGBH41JXMN" + i, 33.7490, -84.3880, i % 5 == 0);
+            driver.setCurrentState(i % 4 == 0 ? DriverState.PARKED : DriverState.DRIVING);
+            driver.setCurrentSpeed(35.0);
+            drivers.add(driver);
+        }
+    }
+
+    @Benchmark
+    public void oneAtATime(Blackhole blackhole) {
+        for (Driver driver : drivers) {
+            blackhole.consume(generator.generateTelematicsData(driver, message));
+        }
+    }
+
+    @Benchmark
+    public void batched(Blackhole blackhole) {
+        batch.generate(drivers, 0, drivers.size());
+        for (int i = 0; i < batch.size(); i++) {
+            blackhole.consume(batch.fill(i, message));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.insurancemegacorp.telematicsgen.benchmark;
+
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.DriverState;
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
+import com.insurancemegacorp.telematicsgen.service.TelematicsDataGenerator;
+import com.insurancemegacorp.telematicsgen.util.TelematicsEncoding;
+import com.insurancemegacorp.telematicsgen.util.WireFormat;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of a report per {@link WireFormat}: encoding is the generator's share,
+ * decoding the consumer's. {@code encode} also reports the encoded body size as the
+ * {@code bytesPerReport} counter, i.e. what every report costs on the broker.
+ *
+ * Run with:
+ *   ./mvnw test-compile dependency:build-classpath -Dmdep.outputFile=target/test.classpath
+ *   java -cp target/test-classes:target/classes:$(cat target/test.classpath) org.openjdk.jmh.Main WireFormatBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class WireFormatBenchmark {
+
+    @Param({"JSON", "CBOR", "MSGPACK", "AVRO", "PROTOBUF"})
+    private WireFormat format;
+
+    private TelematicsEncoding encoding;
+    private FlatTelematicsMessage message;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void encodeReport() {
+        TelematicsDataGenerator generator = new TelematicsDataGenerator();
+        FleetState fleet = new FleetState(1, 42L);
+        Driver driver = fleet.add(10_000_000, 20_000_000, 30_000_000, "1HGBH41JXMN109186", 33.7490, -84.3880, false);
+        driver.setCurrentState(DriverState.DRIVING);
+        driver.setCurrentSpeed(35.0);
+        driver.setCurrentStreet("Peachtree St NE");
+        message = generator.generateTelematicsData(driver);
+        encoding = format.newEncoding();
+        encoded = encoding.encode(message);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long bytesPerReport;
+    }
+
+    @Benchmark
+    public byte[] encode(EncodedSize size) {
+        byte[] bytes = encoding.encode(message);
+        size.bytesPerReport = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public FlatTelematicsMessage decode() throws IOException {
+        return encoding.decode(encoded);
+    }
+}
@@ -0,0 +1,114 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.DriverState;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
+import com.insurancemegacorp.telematicsgen.util.SimulationClock;
+import com.insurancemegacorp.telematicsgen.util.TelematicsEncoding;
+import com.insurancemegacorp.telematicsgen.util.WireFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BackfillServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void run_shouldWriteEveryDriverOncePerStepWithHistoricalTimes() throws Exception {
+        Instant from = Instant.parse("2025-01-06T00:00:00Z");
+        Instant to = Instant.parse("2025-01-06T01:00:00Z");
+        SimulationClock clock = new SimulationClock(from.toEpochMilli(), 1.0, true, ZoneOffset.UTC);
+        FleetState fleet = new FleetState(3);
+        fleet.setClock(clock);
+        List<Driver> drivers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Driver driver = fleet.add(999000 + i, 200000 + i, 300000 + i, "VIN-" + i, 33.7490, -84.3880, false);
+            driver.setCurrentState(DriverState.DRIVING);
+            driver.setCurrentSpeed(30.0);
+            drivers.add(driver);
+        }
+        DriverManager driverManager = mock(DriverManager.class);
+        when(driverManager.getAllDrivers()).thenReturn(drivers);
+        BackfillService service = new BackfillService(driverManager, new TelematicsDataGenerator(), clock);
+        ReflectionTestUtils.setField(service, "reportIntervalMs", 60_000L);
+        ReflectionTestUtils.setField(service, "threads", 2);
+        ReflectionTestUtils.setField(service, "maxFileMb", 256L);
+
+        BackfillService.Report report = service.run(from, to, tempDir);
+
+        assertThat(report.steps()).isEqualTo(60);
+        assertThat(report.messages()).isEqualTo(180);
+        assertThat(report.files()).isEqualTo(2);
+        assertThat(report.to()).isEqualTo(to);
+
+        List<String> lines = new ArrayList<>();
+        try (Stream<Path> files = Files.list(tempDir)) {
+            for (Path file : files.toList()) {
+                lines.addAll(Files.readAllLines(file));
+            }
+        }
+        assertThat(lines).hasSize(180);
+        ObjectMapper mapper = new ObjectMapper();
+        for (String line : lines) {
+            JsonNode event = mapper.readTree(line);
+            Instant eventTime = Instant.ofEpochSecond(event.get("event_time").asLong());
+            assertThat(eventTime).isBetween(from, to.minusSeconds(60));
+        }
+        assertThat(drivers.get(0).getMessageCount()).isEqualTo(60);
+    }
+
+    @Test
+    void run_shouldWriteLengthPrefixedRecordsInBinaryFormats() throws Exception {
+        Instant from = Instant.parse("2025-01-06T00:00:00Z");
+        Instant to = Instant.parse("2025-01-06T00:10:00Z");
+        SimulationClock clock = new SimulationClock(from.toEpochMilli(), 1.0, true, ZoneOffset.UTC);
+        FleetState fleet = new FleetState(2);
+        fleet.setClock(clock);
+        List<Driver> drivers = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Driver driver = fleet.add(999000 + i, 200000 + i, 300000 + i, "VIN-" + i, 33.7490, -84.3880, false);
+            driver.setCurrentState(DriverState.DRIVING);
+            driver.setCurrentSpeed(30.0);
+            drivers.add(driver);
+        }
+        DriverManager driverManager = mock(DriverManager.class);
+        when(driverManager.getAllDrivers()).thenReturn(drivers);
+        BackfillService service = new BackfillService(driverManager, new TelematicsDataGenerator(), clock);
+        ReflectionTestUtils.setField(service, "reportIntervalMs", 60_000L);
+        ReflectionTestUtils.setField(service, "threads", 1);
+        ReflectionTestUtils.setField(service, "maxFileMb", 256L);
+        ReflectionTestUtils.setField(service, "wireFormat", WireFormat.AVRO);
+
+        BackfillService.Report report = service.run(from, to, tempDir);
+
+        Path file = tempDir.resolve("telemetry-000-00000.avro");
+        assertThat(report.bytes()).isEqualTo(Files.size(file));
+        TelematicsEncoding encoding = WireFormat.AVRO.newEncoding();
+        ByteBuffer records = ByteBuffer.wrap(Files.readAllBytes(file));
+        int count = 0;
+        while (records.hasRemaining()) {
+            byte[] record = new byte[records.getInt()];
+            records.get(record);
+            assertThat(encoding.decode(record).eventTime()).isBetween(from, to.minusSeconds(60));
+            count++;
+        }
+        assertThat(count).isEqualTo(20);
+    }
+}
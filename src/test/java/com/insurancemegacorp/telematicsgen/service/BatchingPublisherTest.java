@@ -0,0 +1,117 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.config.TelematicsMessageConverter;
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.DriverState;
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.batch.SimpleBatchingStrategy;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchingPublisherTest {
+
+    private final TelematicsDataGenerator dataGenerator = new TelematicsDataGenerator();
+    private final TelematicsMessageConverter converter = new TelematicsMessageConverter();
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void add_shouldFrameReportsSoSpringListenersCanSplitThem() {
+        BatchingPublisher publisher = createPublisher(3, 131072, 60_000);
+        List<FlatTelematicsMessage> reports = generateReports(7);
+
+        reports.forEach(publisher::add);
+        verify(rabbitTemplate, timeout(5_000).times(2)).send(eq("telematics_exchange"), eq(""), any(Message.class));
+        publisher.stop();
+
+        List<Message> batches = captureSent(3);
+        assertThat(batches).extracting(batch -> batch.getMessageProperties().getHeaders().get("amqp_batchSize"))
+            .containsExactly(3, 3, 1);
+        List<Object> split = new ArrayList<>();
+        for (Message batch : batches) {
+            new SimpleBatchingStrategy(0, 0, 0).deBatch(batch, message -> split.add(converter.fromMessage(message)));
+        }
+        assertThat(split).containsExactlyElementsOf(reports);
+        assertThat(meterRegistry.get("telematics.batch.flushes").tag("reason", "count").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("telematics.batch.flushes").tag("reason", "shutdown").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("telematics.messages.sent").counter().count()).isEqualTo(7);
+    }
+
+    @Test
+    void add_shouldFlushByBytesAndLinger() {
+        List<FlatTelematicsMessage> reports = generateReports(3);
+        int reportBytes = converter.toMessage(reports.get(0), null).getBody().length;
+        BatchingPublisher publisher = createPublisher(100, 2 * (reportBytes + Integer.BYTES) + 16, 200);
+
+        reports.forEach(publisher::add);
+        verify(rabbitTemplate, timeout(5_000).times(2)).send(eq("telematics_exchange"), eq(""), any(Message.class));
+        publisher.stop();
+
+        assertThat(captureSent(2)).extracting(batch -> batch.getMessageProperties().getHeaders().get("amqp_batchSize"))
+            .containsExactly(2, 1);
+        assertThat(meterRegistry.get("telematics.batch.flushes").tag("reason", "bytes").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("telematics.batch.flushes").tag("reason", "linger").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("telematics.batch.messages").summary().totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.get("telematics.batch.linger").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void add_shouldDropAndCountReportsAfterStop() {
+        BatchingPublisher publisher = createPublisher(100, 131072, 60_000);
+        publisher.stop();
+
+        generateReports(2).forEach(publisher::add);
+
+        verify(rabbitTemplate, times(0)).send(eq("telematics_exchange"), eq(""), any(Message.class));
+        assertThat(meterRegistry.get("telematics.batch.dropped").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("telematics.messages.failed").counter().count()).isEqualTo(2);
+    }
+
+    private BatchingPublisher createPublisher(int maxMessages, int maxBytes, long lingerMs) {
+        when(rabbitTemplate.getMessageConverter()).thenReturn(converter);
+        BatchingPublisher publisher = new BatchingPublisher(rabbitTemplate, meterRegistry);
+        ReflectionTestUtils.setField(publisher, "exchangeName", "telematics_exchange");
+        ReflectionTestUtils.setField(publisher, "enabled", true);
+        ReflectionTestUtils.setField(publisher, "maxMessages", maxMessages);
+        ReflectionTestUtils.setField(publisher, "maxBytes", maxBytes);
+        ReflectionTestUtils.setField(publisher, "lingerMs", lingerMs);
+        publisher.start();
+        return publisher;
+    }
+
+    private List<Message> captureSent(int count) {
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate, times(count)).send(eq("telematics_exchange"), eq(""), captor.capture());
+        return captor.getAllValues();
+    }
+
+    private List<FlatTelematicsMessage> generateReports(int count) {
+        FleetState fleet = new FleetState(1, 11L);
+        Driver driver = fleet.add(400001, 200001, 300001, "1HGBH41JXMN109186", 33.7490, -84.3880, false);
+        driver.setCurrentState(DriverState.DRIVING);
+        driver.setCurrentSpeed(30.0);
+        driver.setCurrentStreet("Peachtree St NE");
+        List<FlatTelematicsMessage> reports = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            reports.add(dataGenerator.generateTelematicsData(driver));
+        }
+        return reports;
+    }
+}
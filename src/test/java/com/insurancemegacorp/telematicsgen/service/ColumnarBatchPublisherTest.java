@@ -0,0 +1,150 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurancemegacorp.telematicsgen.model.ColumnarTelematicsBatch;
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.DriverState;
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
+import com.insurancemegacorp.telematicsgen.util.SimulationClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class ColumnarBatchPublisherTest {
+
+    private final TelematicsDataGenerator dataGenerator = new TelematicsDataGenerator();
+    private static final long START_MILLIS = Instant.parse("2024-03-01T08:00:00Z").toEpochMilli();
+
+    private final SimulationClock clock = new SimulationClock(START_MILLIS, 1.0, true, ZoneOffset.UTC);
+
+    @Test
+    void add_shouldPublishFullBatchesColumnWiseAndFlushTheRest() throws Exception {
+        RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+        Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+        List<JsonNode> published = new ArrayList<>();
+        ObjectMapper mapper = new ObjectMapper();
+        // Batches are reused, so capture them as serialized at publish time
+        doAnswer(invocation -> {
+            byte[] body = converter.toMessage(invocation.getArgument(2), new MessageProperties()).getBody();
+            published.add(mapper.readTree(body));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+        ColumnarBatchPublisher publisher = new ColumnarBatchPublisher(rabbitTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(publisher, "enabled", true);
+        ReflectionTestUtils.setField(publisher, "batchReadings", 4);
+        ReflectionTestUtils.setField(publisher, "stripeCount", 1);
+        ReflectionTestUtils.setField(publisher, "exchangeName", "telematics_exchange");
+        publisher.init();
+        List<Driver> drivers = createDrivers(2);
+
+        for (int i = 0; i < 6; i++) {
+            Driver driver = drivers.get(i % 2);
+            publisher.add(driver, dataGenerator.generateTelematicsData(driver));
+            clock.advance(Duration.ofMillis(250));
+        }
+        assertThat(published).hasSize(1);
+        publisher.flush();
+
+        assertThat(published).hasSize(2);
+        JsonNode batch = published.get(0);
+        assertThat(batch.get("message_type").asText()).isEqualTo(ColumnarTelematicsBatch.MESSAGE_TYPE);
+        assertThat(batch.get("reading_count").asInt()).isEqualTo(4);
+        assertThat(batch.get("base_event_time").asLong()).isEqualTo(START_MILLIS / 1000);
+        assertThat(batch.get("event_time_delta_ms").toString()).isEqualTo("[0,250,250,250]");
+        assertThat(batch.get("drivers").get("driver_id").toString()).isEqualTo("[999000,999001]");
+        assertThat(batch.get("driver_index").toString()).isEqualTo("[0,1,0,1]");
+        assertThat(batch.get("speed_mph")).hasSize(4);
+        assertThat(batch.get("current_street").toString()).isEqualTo("[0,0,0,0]");
+        assertThat(batch.get("accident_type").toString()).isEqualTo("[-1,-1,-1,-1]");
+        assertThat(published.get(1).get("reading_count").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    void add_shouldStripeByContiguousSlotRangesAndCountEveryReport() {
+        RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+        List<List<Integer>> published = new ArrayList<>();
+        doAnswer(invocation -> {
+            ColumnarTelematicsBatch batch = invocation.getArgument(2);
+            List<Integer> driverIds = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                driverIds.add(batch.get(i).driverId());
+            }
+            published.add(driverIds);
+            if (published.size() == 2) {
+                throw new AmqpException("broker down");
+            }
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ColumnarBatchPublisher publisher = new ColumnarBatchPublisher(rabbitTemplate, meterRegistry);
+        ReflectionTestUtils.setField(publisher, "enabled", true);
+        ReflectionTestUtils.setField(publisher, "batchReadings", 2);
+        ReflectionTestUtils.setField(publisher, "stripeCount", 2);
+        ReflectionTestUtils.setField(publisher, "exchangeName", "telematics_exchange");
+        publisher.init();
+        List<Driver> drivers = createDrivers(4);
+
+        for (Driver driver : drivers) {
+            publisher.add(driver, dataGenerator.generateTelematicsData(driver));
+        }
+
+        assertThat(published).containsExactly(List.of(999000, 999001), List.of(999002, 999003));
+        assertThat(meterRegistry.get("telematics.messages.sent").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("telematics.messages.failed").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void get_shouldDecodeEveryReadingBack() {
+        ColumnarTelematicsBatch batch = new ColumnarTelematicsBatch(8);
+        List<Driver> drivers = createDrivers(3);
+        List<FlatTelematicsMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            FlatTelematicsMessage message = dataGenerator.generateTelematicsData(drivers.get(i % 3));
+            messages.add(message);
+            assertThat(batch.add(message)).isTrue();
+            // Late, store-and-forward style data goes backwards in time
+            clock.setTime(clock.millis() + (i == 4 ? -5_000 : 1_000));
+        }
+
+        assertThat(batch.add(messages.get(0))).isFalse();
+        assertThat(batch.driverCount()).isEqualTo(3);
+        for (int i = 0; i < 8; i++) {
+            assertThat(batch.get(i)).isEqualTo(messages.get(i));
+        }
+        batch.clear();
+        assertThat(batch.add(messages.get(7))).isTrue();
+        assertThat(batch.get(0)).isEqualTo(messages.get(7));
+    }
+
+    private List<Driver> createDrivers(int count) {
+        FleetState fleet = new FleetState(count, 7L);
+        fleet.setClock(clock);
+        List<Driver> drivers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Driver driver = fleet.add(999000 + i, 200000 + i, 300000 + i, "VIN-" + i, 33.7490, -84.3880, false);
+            driver.setCurrentState(DriverState.DRIVING);
+            driver.setCurrentSpeed(30.0);
+            driver.setCurrentStreet("Main St");
+            drivers.add(driver);
+        }
+        return drivers;
+    }
+}
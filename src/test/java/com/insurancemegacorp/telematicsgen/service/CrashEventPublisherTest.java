@@ -0,0 +1,133 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class CrashEventPublisherTest {
+
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<CorrelationData> sent = new CopyOnWriteArrayList<>();
+    private CrashEventPublisher publisher;
+
+    @AfterEach
+    void stopPublisher() {
+        publisher.stop();
+    }
+
+    @Test
+    void publish_shouldReturnBeforeTheConfirmAndRetryNacks() throws InterruptedException {
+        createPublisher(8, 60_000);
+        FlatTelematicsMessage crash = crashEvent();
+
+        publisher.publish(crash);
+
+        assertThat(sent).hasSize(1);
+        assertThat(publisher.getOutstanding()).isEqualTo(1);
+        assertThat(meterRegistry.get("telematics.crash.confirms.outstanding").gauge().value()).isEqualTo(1);
+
+        sent.get(0).getFuture().complete(new CorrelationData.Confirm(false, "nack"));
+        await(() -> sent.size() >= 2);
+        sent.get(1).getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        assertThat(publisher.getOutstanding()).isZero();
+        assertThat(meterRegistry.get("telematics.messages.retried").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("telematics.messages.sent").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("telematics.crash.confirm.latency").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void publish_shouldGiveUpAfterMaxAttemptsOfTimeouts() throws InterruptedException {
+        createPublisher(8, 50);
+
+        publisher.publish(crashEvent());
+
+        await(() -> meterRegistry.get("telematics.messages.failed").counter().count() >= 1);
+        assertThat(sent).hasSize(3);
+        assertThat(publisher.getOutstanding()).isZero();
+        assertThat(meterRegistry.get("telematics.messages.retried").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("telematics.messages.sent").counter().count()).isZero();
+    }
+
+    @Test
+    void publish_shouldHoldEventsBackWhileTheWindowIsFull() throws InterruptedException {
+        createPublisher(1, 60_000);
+
+        publisher.publish(crashEvent());
+        publisher.publish(crashEvent());
+
+        assertThat(sent).hasSize(1);
+        sent.get(0).getFuture().complete(new CorrelationData.Confirm(true, null));
+        await(() -> sent.size() >= 2);
+        sent.get(1).getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        assertThat(meterRegistry.get("telematics.messages.sent").counter().count()).isEqualTo(2);
+        assertThat(publisher.getOutstanding()).isZero();
+    }
+
+    @Test
+    void publish_shouldQueueABurstWithoutUsingUpAttempts() throws InterruptedException {
+        createPublisher(1, 60_000);
+
+        for (int i = 0; i < 5; i++) {
+            publisher.publish(crashEvent());
+        }
+        assertThat(sent).hasSize(1);
+        assertThat(meterRegistry.get("telematics.crash.confirms.waiting").gauge().value()).isEqualTo(4);
+        for (int i = 0; i < 5; i++) {
+            int published = i + 1;
+            await(() -> sent.size() >= published);
+            sent.get(i).getFuture().complete(new CorrelationData.Confirm(true, null));
+        }
+
+        assertThat(meterRegistry.get("telematics.messages.sent").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("telematics.messages.retried").counter().count()).isZero();
+        assertThat(meterRegistry.get("telematics.messages.failed").counter().count()).isZero();
+    }
+
+    private void createPublisher(int maxOutstanding, long confirmTimeoutMs) {
+        doAnswer(invocation -> sent.add(invocation.getArgument(3)))
+            .when(rabbitTemplate).convertAndSend(eq("telematics_exchange"), anyString(), any(Object.class), any(CorrelationData.class));
+        publisher = new CrashEventPublisher(rabbitTemplate, new TelematicsRateService(meterRegistry), meterRegistry);
+        ReflectionTestUtils.setField(publisher, "exchangeName", "telematics_exchange");
+        ReflectionTestUtils.setField(publisher, "maxOutstanding", maxOutstanding);
+        ReflectionTestUtils.setField(publisher, "confirmTimeoutMs", confirmTimeoutMs);
+        ReflectionTestUtils.setField(publisher, "retryBackoffMs", 50L);
+        publisher.start();
+    }
+
+    // Confirms and retries complete on the publisher's threads; fail instead of hanging if they never do
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime() - deadline).as("condition not met within 5 s").isNegative();
+            Thread.sleep(5);
+        }
+    }
+
+    private static FlatTelematicsMessage crashEvent() {
+        return new FlatTelematicsMessage(200001, 300001, "1HGBH41JXMN109186", Instant.parse("2024-03-01T08:00:00Z"),
+            42.0, 35, 6.5, 400001, "Peachtree St NE", "FRONTAL",
+            33.7490, -84.3880, 300.0, 42.0, 90.0, 3.0, 9, 1709280000000L,
+            -6.2, 1.1, 9.8, 0.2, 0.1, 0.3, 25.0, -5.0, 40.0, 90.0, 1013.25,
+            80, -70, "portrait", true, false);
+    }
+}
@@ -2,26 +2,43 @@ package com.insurancemegacorp.telematicsgen.service;
 
 import com.insurancemegacorp.telematicsgen.model.Driver;
 import com.insurancemegacorp.telematicsgen.model.DriverState;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
 import com.insurancemegacorp.telematicsgen.model.RoutePoint;
+import com.insurancemegacorp.telematicsgen.util.SimulationClock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 
 class DriverManagerTest {
 
     private DriverManager driverManager;
+    private SimulationClock clock;
     private FileBasedRouteService mockRouteService;
     @BeforeEach
     void setUp() {
+        clock = new SimulationClock();
+        driverManager = newDriverManager(clock);
+    }
+
+    private DriverManager newDriverManager(SimulationClock clock) {
         mockRouteService = mock(FileBasedRouteService.class);
 
         // Create mock route data with multiple waypoints for proper testing
@@ -33,7 +50,7 @@ class DriverManagerTest {
             new RoutePoint(33.7510, -84.3900, "Test Street Final", 35, false, "none")
         );
 
-        when(mockRouteService.getRandomRoute()).thenReturn(mockRoute);
+        when(mockRouteService.getRandomRoute(any())).thenReturn(mockRoute);
         when(mockRouteService.getRouteByName(anyString())).thenReturn(mockRoute);
         
         DriverConfigService mockDriverConfigService = mock(DriverConfigService.class);
@@ -44,7 +61,7 @@ class DriverManagerTest {
         when(mockDriverConfigService.getAllDriverConfigs()).thenReturn(mockDriverConfigs);
 
         DailyRoutineService mockDailyRoutineService = mock(DailyRoutineService.class);
-        driverManager = new DriverManager(mockRouteService, mockDriverConfigService, mockDailyRoutineService);
+        DriverManager driverManager = new DriverManager(mockRouteService, mockDriverConfigService, mockDailyRoutineService, clock);
         ReflectionTestUtils.setField(driverManager, "postCrashIdleMinutes", 1);
         ReflectionTestUtils.setField(driverManager, "randomStopProbability", 0.1);
         ReflectionTestUtils.setField(driverManager, "breakDurationMinutes", 1);
@@ -56,6 +73,7 @@ class DriverManagerTest {
         ReflectionTestUtils.setField(driverManager, "nightParkedProbability", 0.85);
         ReflectionTestUtils.setField(driverManager, "peakHours", List.of(7, 8, 17, 18));
         ReflectionTestUtils.setField(driverManager, "peakDrivingBoost", 1.5);
+        return driverManager;
     }
 
     @Test
@@ -73,6 +91,28 @@ class DriverManagerTest {
         assertThat(driverManager.getAllDrivers().get(0).getCurrentLongitude()).isCloseTo(-84.3880, within(0.01));
     }
 
+    @Test
+    void initializeDrivers_shouldBackDriversWithSharedFleetState() {
+        driverManager.initializeDrivers("TEST-POLICY", 33.7490, -84.3880);
+        FleetState fleetState = driverManager.getFleetState();
+        Driver second = driverManager.getAllDrivers().get(1);
+        
+        assertThat(fleetState.size()).isEqualTo(2);
+        assertThat(second.getFleetState()).isSameAs(fleetState);
+        assertThat(second.getSlot()).isEqualTo(1);
+        
+        // Writes through the view land in the slot's arrays
+        second.setCurrentSpeed(42.0);
+        second.recordCrashEvent("T_BONE");
+        assertThat(fleetState.speed(1)).isEqualTo(0.0);
+        assertThat(fleetState.crashSpeed(1)).isEqualTo(42.0);
+        assertThat(fleetState.state(1)).isEqualTo(DriverState.POST_CRASH_IDLE);
+        assertThat(second.getCrashSpeedAtImpact()).isEqualTo(42.0);
+        
+        second.clearCrashData();
+        assertThat(second.getCrashSpeedAtImpact()).isNull();
+    }
+
     @Test
     void selectDriverForMessage_shouldReturnDriver() {
         driverManager.initializeDrivers("TEST-POLICY", 33.7490, -84.3880);
@@ -112,6 +152,126 @@ class DriverManagerTest {
         );
     }
 
+    @Test
+    void startAllDriving_shouldLeaveTheChangeToTheDriversNextVisit() {
+        ReflectionTestUtils.setField(driverManager, "randomStopProbability", 0.0);
+        driverManager.initializeDrivers("TEST-POLICY", 33.7490, -84.3880);
+        Driver driver = driverManager.getAllDrivers().get(0);
+        driver.recordCrashEvent();
+
+        assertThat(driverManager.startAllDriving()).isEqualTo(1);
+        assertThat(driver.getCurrentState()).isEqualTo(DriverState.POST_CRASH_IDLE);
+
+        driverManager.updateDriverBehavior(driver);
+        assertThat(driver.getCurrentState()).isEqualTo(DriverState.DRIVING);
+        assertThat(driver.getCurrentSpeed()).isPositive();
+    }
+
+    @Test
+    void fireStateTimers_shouldEndCrashIdleOnTheDriversNextVisit() {
+        ReflectionTestUtils.setField(driverManager, "postCrashIdleMinutes", 0);
+        clock.setManual(true);
+        driverManager.initializeDrivers("TEST-POLICY", 33.7490, -84.3880);
+        Driver driver = driverManager.getAllDrivers().get(0);
+        
+        driver.recordCrashEvent();
+        assertThat(driver.getCurrentState()).isEqualTo(DriverState.POST_CRASH_IDLE);
+        
+        clock.advance(Duration.ofSeconds(1));
+        driverManager.fireStateTimers();
+        // The timer thread only hands the expiry to the driver's owner
+        assertThat(driver.getCurrentState()).isEqualTo(DriverState.POST_CRASH_IDLE);
+        
+        driverManager.updateDriverBehavior(driver);
+        assertThat(driver.getCurrentState()).isEqualTo(DriverState.PARKED);
+    }
+
+    @Test
+    void manualClock_shouldExpireCrashIdleWhenAdvanced() {
+        ReflectionTestUtils.setField(driverManager, "postCrashIdleMinutes", 15);
+        clock.setManual(true);
+        driverManager.initializeDrivers("TEST-POLICY", 33.7490, -84.3880);
+        Driver driver = driverManager.getAllDrivers().get(0);
+        
+        driver.recordCrashEvent();
+        clock.advance(Duration.ofMinutes(14));
+        driverManager.fireStateTimers();
+        assertThat(driver.getCurrentState()).isEqualTo(DriverState.POST_CRASH_IDLE);
+        assertThat(driver.getTimeSinceCrashSeconds()).isEqualTo(14 * 60);
+        
+        clock.advance(Duration.ofMinutes(1));
+        driverManager.fireStateTimers();
+        driverManager.updateDriverBehavior(driver);
+        assertThat(driver.getCurrentState()).isEqualTo(DriverState.PARKED);
+    }
+
+    @Test
+    void sameSeed_shouldReplayByteIdenticalTelemetry() {
+        List<String> first = replay(42L);
+        
+        assertThat(replay(42L)).isEqualTo(first);
+        assertThat(replay(43L)).isNotEqualTo(first);
+    }
+
+    private List<String> replay(long seed) {
+        SimulationClock manualClock = new SimulationClock(1_700_000_000_000L, 1.0, true, ZoneOffset.UTC);
+        DriverManager manager = newDriverManager(manualClock);
+        ReflectionTestUtils.setField(manager, "seed", seed);
+        ReflectionTestUtils.setField(manager, "fleetSize", 6);
+        manager.initializeDrivers("TEST-POLICY", 33.7490, -84.3880);
+        TelematicsDataGenerator generator = new TelematicsDataGenerator();
+        Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+        
+        List<String> telemetry = new ArrayList<>();
+        for (int step = 0; step < 200; step++) {
+            for (Driver driver : manager.getAllDrivers()) {
+                manager.updateDriverBehavior(driver);
+                byte[] body = converter.toMessage(generator.generateTelematicsData(driver), new MessageProperties()).getBody();
+                telemetry.add(new String(body, StandardCharsets.UTF_8));
+            }
+            manualClock.advance(Duration.ofSeconds(1));
+            manager.fireStateTimers();
+        }
+        return telemetry;
+    }
+
+    @Test
+    void sameSeed_shouldReplayIdenticallyOnOneOrManyShards() throws InterruptedException {
+        Map<Integer, List<String>> singleShard = replaySharded(42L, 1);
+
+        assertThat(replaySharded(42L, 3)).isEqualTo(singleShard);
+    }
+
+    private Map<Integer, List<String>> replaySharded(long seed, int shards) throws InterruptedException {
+        SimulationClock manualClock = new SimulationClock(1_700_000_000_000L, 1.0, true, ZoneOffset.UTC);
+        DriverManager manager = newDriverManager(manualClock);
+        ReflectionTestUtils.setField(manager, "seed", seed);
+        ReflectionTestUtils.setField(manager, "fleetSize", 12);
+        manager.initializeDrivers("TEST-POLICY", 33.7490, -84.3880);
+        TelematicsDataGenerator generator = new TelematicsDataGenerator();
+        Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+        // Handed to each driver's owner before the run, like a dashboard trigger
+        manager.getAllDrivers().get(5).post(driver -> driver.recordCrashEvent("T_BONE"));
+
+        int steps = 100;
+        Map<Integer, List<String>> telemetry = new ConcurrentHashMap<>();
+        ShardedTickEngine engine = new ShardedTickEngine(manager.getAllDrivers(), shards, 100_000, driver -> {
+            List<String> reports = telemetry.computeIfAbsent(driver.getDriverId(), id -> new ArrayList<>());
+            if (reports.size() < steps) {
+                manager.updateDriverBehavior(driver);
+                byte[] body = converter.toMessage(generator.generateTelematicsData(driver), new MessageProperties()).getBody();
+                reports.add(new String(body, StandardCharsets.UTF_8));
+            }
+        });
+        engine.start();
+        while (telemetry.size() < 12 || telemetry.values().stream().anyMatch(reports -> reports.size() < steps)) {
+            Thread.sleep(5);
+        }
+        engine.stop();
+        engine.awaitTermination();
+        return telemetry;
+    }
+
     @Test
     void driver_shouldTrackStateChanges() {
         Driver driver = new Driver(999001, 200001, 300001, "1HGBH41JXMN109001", 33.7490, -84.3880);
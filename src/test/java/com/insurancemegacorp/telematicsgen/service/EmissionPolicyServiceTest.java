@@ -0,0 +1,91 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.AccidentType;
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.DriverState;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
+import com.insurancemegacorp.telematicsgen.util.SimulationClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmissionPolicyServiceTest {
+
+    private final TelematicsDataGenerator dataGenerator = new TelematicsDataGenerator();
+    private final SimulationClock clock =
+        new SimulationClock(Instant.parse("2024-03-01T08:00:00Z").toEpochMilli(), 1.0, true, ZoneOffset.UTC);
+
+    private EmissionPolicyService createService() {
+        EmissionPolicyService service = new EmissionPolicyService(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "enabled", true);
+        service.init();
+        return service;
+    }
+
+    private Driver createDriver() {
+        FleetState fleet = new FleetState(1, 7L);
+        fleet.setClock(clock);
+        Driver driver = fleet.add(999001, 200123, 300999, "1HGBH41JXMN109999", 40.7128, -74.0060, false);
+        ReflectionTestUtils.setField(dataGenerator, "minCrashGForce", 6.0);
+        return driver;
+    }
+
+    private boolean report(EmissionPolicyService service, Driver driver) {
+        return service.shouldEmit(driver, dataGenerator.generateTelematicsData(driver));
+    }
+
+    @Test
+    void shouldEmit_heartbeatShouldSendParkedDriverOncePerInterval() {
+        EmissionPolicyService service = createService();
+        Driver driver = createDriver();
+
+        assertThat(report(service, driver)).isTrue();
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(report(service, driver)).isFalse();
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(report(service, driver)).isTrue();
+
+        // State changes are always sent
+        clock.advance(Duration.ofSeconds(1));
+        driver.setCurrentState(DriverState.DRIVING);
+        assertThat(report(service, driver)).isTrue();
+    }
+
+    @Test
+    void shouldEmit_deadBandShouldSendOnlyOnMovementOrSpeedChange() {
+        EmissionPolicyService service = createService();
+        Driver driver = createDriver();
+        driver.setCurrentState(DriverState.DRIVING);
+        driver.setCurrentSpeed(30.0);
+        assertThat(report(service, driver)).isTrue();
+
+        clock.advance(Duration.ofSeconds(1));
+        driver.setCurrentLatitude(driver.getCurrentLatitude() + 0.0001); // ~11 m
+        assertThat(report(service, driver)).isFalse();
+
+        clock.advance(Duration.ofSeconds(1));
+        driver.setCurrentLatitude(driver.getCurrentLatitude() + 0.0002); // ~33 m from the last sent
+        assertThat(report(service, driver)).isTrue();
+
+        clock.advance(Duration.ofSeconds(1));
+        driver.setCurrentSpeed(34.0);
+        assertThat(report(service, driver)).isTrue();
+    }
+
+    @Test
+    void shouldEmit_shouldAlwaysSendCrashEvents() {
+        EmissionPolicyService service = createService();
+        Driver driver = createDriver();
+        driver.setCurrentState(DriverState.DRIVING);
+        assertThat(report(service, driver)).isTrue();
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(service.shouldEmit(driver, dataGenerator.generateCrashEventData(driver, AccidentType.HEAD_ON))).isTrue();
+    }
+}
@@ -0,0 +1,141 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.DriverState;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
+import com.insurancemegacorp.telematicsgen.model.RoutePoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FleetCheckpointServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final List<RoutePoint> route = List.of(
+        new RoutePoint(33.7490, -84.3880, "Peachtree St", 35, false, "none"),
+        new RoutePoint(33.7500, -84.3890, "Spring St", 35, true, "none"),
+        new RoutePoint(33.7510, -84.3900, "West Peachtree St", 45, false, "none")
+    );
+    private FileBasedRouteService routeService;
+
+    @BeforeEach
+    void setUp() {
+        routeService = mock(FileBasedRouteService.class);
+        when(routeService.findRouteName(any())).thenReturn(Optional.of("peachtree"));
+        when(routeService.getAvailableRoutes()).thenReturn(Set.of("peachtree"));
+        when(routeService.getRouteByName("peachtree")).thenReturn(route);
+    }
+
+    private FleetState createFleet(int size) {
+        FleetState fleet = new FleetState(size);
+        for (int i = 0; i < size; i++) {
+            fleet.add(500000 + i, 200000 + i, 300000 + i, "VIN-" + i, 33.7490, -84.3880, false);
+        }
+        return fleet;
+    }
+
+    private FleetCheckpointService createService(FleetState fleet) {
+        DriverManager driverManager = mock(DriverManager.class);
+        when(driverManager.getFleetState()).thenReturn(fleet);
+        FleetCheckpointService service = new FleetCheckpointService(driverManager, routeService);
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "path", tempDir.resolve("fleet-state.bin").toString());
+        return service;
+    }
+
+    @Test
+    void restore_shouldResumeExactDriverState() {
+        FleetState original = createFleet(3);
+        FleetCheckpointService writer = createService(original);
+        assertThat(writer.restore()).isFalse();
+
+        original.setRoute(1, route);
+        original.setRouteIndex(1, 2);
+        original.setState(1, DriverState.DRIVING);
+        original.setLatitude(1, 33.7512);
+        original.setSpeed(1, 41.5);
+        original.incrementMessageCount(1);
+        original.incrementMessageCount(1);
+        assertThat(writer.checkpoint()).isEqualTo(1);
+
+        // A later checkpoint goes to the other region and wins
+        original.setCrashSpeed(2, 55.0);
+        original.setCrashAccidentType(2, "T_BONE");
+        original.setLastCrashMillis(2, System.currentTimeMillis());
+        original.setState(2, DriverState.POST_CRASH_IDLE);
+        assertThat(writer.checkpoint()).isEqualTo(2);
+
+        FleetState restarted = createFleet(3);
+        assertThat(createService(restarted).restore()).isTrue();
+
+        assertThat(restarted.state(1)).isEqualTo(DriverState.DRIVING);
+        assertThat(restarted.latitude(1)).isEqualTo(33.7512);
+        assertThat(restarted.speed(1)).isEqualTo(41.5);
+        assertThat(restarted.messageCount(1)).isEqualTo(2);
+        assertThat(restarted.route(1)).isEqualTo(route);
+        assertThat(restarted.routeIndex(1)).isEqualTo(2);
+        assertThat(restarted.street(1)).isEqualTo("West Peachtree St");
+        assertThat(restarted.route(0)).isNull();
+
+        assertThat(restarted.state(2)).isEqualTo(DriverState.POST_CRASH_IDLE);
+        assertThat(restarted.crashSpeed(2)).isEqualTo(55.0);
+        assertThat(restarted.crashAccidentType(2)).isEqualTo("T_BONE");
+        // Time since the crash continues from where the checkpoint left off
+        assertThat((double) System.currentTimeMillis() - restarted.lastCrashMillis(2)).isCloseTo(0, within(5000.0));
+        assertThat(restarted.tripStartMillis(2)).isEqualTo(FleetState.NO_TIME);
+    }
+
+    @Test
+    void restore_shouldSnapToTheAssignedRouteWhenTheSavedRouteIsGone() {
+        FleetState original = createFleet(1);
+        FleetCheckpointService writer = createService(original);
+        writer.restore();
+        original.setRoute(0, route);
+        original.setLatitude(0, 33.7511);
+        original.setLongitude(0, -84.3899);
+        writer.checkpoint();
+
+        when(routeService.getAvailableRoutes()).thenReturn(Set.of("downtown"));
+        List<RoutePoint> assigned = List.of(
+            new RoutePoint(33.7400, -84.3800, "Edgewood Ave", 25, false, "none"),
+            new RoutePoint(33.7505, -84.3895, "Ellis St", 30, false, "none")
+        );
+        FleetState restarted = createFleet(1);
+        restarted.setRoute(0, assigned);
+        assertThat(createService(restarted).restore()).isTrue();
+
+        assertThat(restarted.route(0)).isSameAs(assigned);
+        assertThat(restarted.routeIndex(0)).isEqualTo(1);
+        assertThat(restarted.latitude(0)).isEqualTo(33.7505);
+        assertThat(restarted.longitude(0)).isEqualTo(-84.3895);
+        assertThat(restarted.street(0)).isEqualTo("Ellis St");
+        assertThat(restarted.speedLimit(0)).isEqualTo(30);
+    }
+
+    @Test
+    void restore_shouldStartFreshWhenFleetChanged() {
+        FleetCheckpointService writer = createService(createFleet(3));
+        writer.restore();
+        writer.checkpoint();
+
+        FleetState differentDrivers = new FleetState(3);
+        for (int i = 0; i < 3; i++) {
+            differentDrivers.add(700000 + i, 1, 1, "VIN", 33.7490, -84.3880, false);
+        }
+        assertThat(createService(differentDrivers).restore()).isFalse();
+        assertThat(createService(createFleet(4)).restore()).isFalse();
+    }
+}
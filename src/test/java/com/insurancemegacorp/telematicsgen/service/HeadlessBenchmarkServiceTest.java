@@ -0,0 +1,58 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.DriverState;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HeadlessBenchmarkServiceTest {
+
+    private HeadlessBenchmarkService createService(List<Driver> drivers) {
+        DriverManager driverManager = mock(DriverManager.class);
+        when(driverManager.getAllDrivers()).thenReturn(drivers);
+        HeadlessBenchmarkService service = new HeadlessBenchmarkService(
+            driverManager, new TelematicsDataGenerator(), new Jackson2JsonMessageConverter());
+        ReflectionTestUtils.setField(service, "warmupSeconds", 0);
+        return service;
+    }
+
+    @Test
+    void run_shouldReportThroughputStageTimesAndAllocation() {
+        List<Driver> drivers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Driver driver = new Driver(999000 + i, 200000 + i, 300000 + i, "1HGBH41JXMN10999" + i, 33.7490, -84.3880);
+            driver.setCurrentState(DriverState.DRIVING);
+            driver.setCurrentSpeed(30.0);
+            drivers.add(driver);
+        }
+        HeadlessBenchmarkService service = createService(drivers);
+
+        HeadlessBenchmarkService.Report report = service.run(1, 2);
+
+        assertThat(report.threads()).isEqualTo(2);
+        assertThat(report.messages()).isPositive();
+        assertThat(report.messagesPerSecond()).isPositive();
+        assertThat(report.generateNanosPerMessage()).isPositive();
+        assertThat(report.serializeNanosPerMessage()).isPositive();
+        assertThat(report.bytesPerMessage()).isGreaterThan(100);
+        assertThat(report.allocatedBytesPerMessage()).isPositive();
+        assertThat(service.getLastReport()).isSameAs(report);
+        assertThat(service.isRunning()).isFalse();
+    }
+
+    @Test
+    void run_shouldRejectEmptyFleet() {
+        HeadlessBenchmarkService service = createService(List.of());
+
+        assertThrows(IllegalStateException.class, () -> service.run(1, 1));
+    }
+}
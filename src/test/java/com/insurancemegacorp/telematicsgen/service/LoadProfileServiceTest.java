@@ -0,0 +1,99 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.LoadProfile;
+import com.insurancemegacorp.telematicsgen.model.LoadProfile.Phase;
+import com.insurancemegacorp.telematicsgen.model.LoadProfile.PhaseType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoadProfileServiceTest {
+
+    private TelematicsSimulator simulator;
+    private LoadProfileService service;
+
+    // ramp 1k -> 50k over 10 min, hold 1h, spike to 200k for 30s, then ramp down to 100 over 1 min
+    private final LoadProfile capacityTest = new LoadProfile("capacity", List.of(
+        new Phase(PhaseType.RAMP, 1000.0, 50_000, Duration.ofMinutes(10)),
+        new Phase(PhaseType.HOLD, null, 50_000, Duration.ofHours(1)),
+        new Phase(PhaseType.SPIKE, null, 200_000, Duration.ofSeconds(30)),
+        new Phase(PhaseType.RAMP, null, 100, Duration.ofMinutes(1))
+    ));
+
+    @BeforeEach
+    void setUp() {
+        simulator = mock(TelematicsSimulator.class);
+        when(simulator.getTargetRate()).thenReturn(10.0);
+        when(simulator.getConfiguredTargetRate()).thenReturn(10.0);
+        service = new LoadProfileService(simulator, mock(TelematicsRateService.class));
+    }
+
+    @Test
+    void positionAt_shouldFollowTimeline() {
+        assertThat(capacityTest.positionAt(Duration.ZERO, 10).rate()).isEqualTo(1000.0);
+        assertThat(capacityTest.positionAt(Duration.ofMinutes(5), 10).rate()).isCloseTo(25_500.0, within(0.001));
+        assertThat(capacityTest.positionAt(Duration.ofMinutes(30), 10).phaseType()).isEqualTo(PhaseType.HOLD);
+        assertThat(capacityTest.positionAt(Duration.ofMinutes(70).plusSeconds(10), 10).rate()).isEqualTo(200_000.0);
+
+        // The ramp after a spike starts from the pre-spike rate
+        LoadProfile.Position rampDown = capacityTest.positionAt(Duration.ofMinutes(70).plusSeconds(60), 10);
+        assertThat(rampDown.phaseIndex()).isEqualTo(3);
+        assertThat(rampDown.rate()).isCloseTo(25_050.0, within(0.001));
+
+        assertThat(capacityTest.positionAt(Duration.ofHours(2), 10).finished()).isTrue();
+        assertThat(capacityTest.getTotalDuration()).isEqualTo(Duration.ofMinutes(71).plusSeconds(30));
+    }
+
+    @Test
+    void advance_shouldDriveSimulatorRateAndRestoreBaselineWhenFinished() {
+        service.start(capacityTest);
+        verify(simulator).setTargetRate(1000.0);
+
+        service.advance(Duration.ofMinutes(5));
+        verify(simulator).setTargetRate(25_500.0);
+        assertThat(service.getStatus().active()).isTrue();
+        assertThat(service.getStatus().phaseIndex()).isZero();
+
+        service.advance(Duration.ofHours(2));
+        verify(simulator).setTargetRate(10.0);
+        assertThat(service.getStatus().active()).isFalse();
+    }
+
+    @Test
+    void stop_shouldRestoreBaselineRate() {
+        service.start(capacityTest);
+
+        assertThat(service.stop()).isTrue();
+        verify(simulator).setTargetRate(10.0);
+        assertThat(service.stop()).isFalse();
+    }
+
+    @Test
+    void stop_shouldKeepDerivingTheRateFromTheIntervalIfItWasBefore() {
+        when(simulator.getConfiguredTargetRate()).thenReturn(0.0);
+        service.start(capacityTest);
+
+        service.stop();
+        verify(simulator).setTargetRate(0.0);
+    }
+
+    @Test
+    void loadProfile_shouldRejectInvalidPhases() {
+        assertThrows(IllegalArgumentException.class, () -> new LoadProfile("empty", List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new LoadProfile("zero", List.of(
+            new Phase(PhaseType.HOLD, null, 100, Duration.ZERO))));
+        assertThrows(IllegalArgumentException.class, () -> new LoadProfile("negative", List.of(
+            new Phase(PhaseType.STEP, null, -1, Duration.ofSeconds(1)))));
+        assertThrows(IllegalArgumentException.class, () -> new LoadProfile("pause", List.of(
+            new Phase(PhaseType.RAMP, null, 0, Duration.ofSeconds(1)))));
+    }
+}
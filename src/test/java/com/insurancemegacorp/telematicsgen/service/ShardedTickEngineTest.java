@@ -0,0 +1,108 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ShardedTickEngineTest {
+
+    private List<Driver> createDrivers(int count) {
+        List<Driver> drivers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            drivers.add(new Driver(500000 + i, 200000 + i, 300000 + i, "VIN-" + i, 33.7490, -84.3880));
+        }
+        return drivers;
+    }
+
+    @Test
+    void engine_shouldAdvanceEveryDriverOncePerTick() throws InterruptedException {
+        List<Driver> drivers = createDrivers(10);
+        Map<Integer, AtomicInteger> advances = new ConcurrentHashMap<>();
+
+        ShardedTickEngine engine = new ShardedTickEngine(drivers, 1, 1000, driver ->
+            advances.computeIfAbsent(driver.getDriverId(), id -> new AtomicInteger()).incrementAndGet());
+        engine.start();
+        while (engine.getTickCount() < 5) {
+            Thread.sleep(10);
+        }
+        engine.stop();
+        engine.awaitTermination();
+
+        assertThat(advances).hasSize(10);
+        int min = advances.values().stream().mapToInt(AtomicInteger::get).min().orElseThrow();
+        int max = advances.values().stream().mapToInt(AtomicInteger::get).max().orElseThrow();
+        assertThat(min).isGreaterThanOrEqualTo(5);
+        // A shard walks its drivers round-robin, so it may only stop part way through a tick
+        assertThat(max - min).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void engine_shouldAdvanceEachDriverFromOneShardThread() throws InterruptedException {
+        List<Driver> drivers = createDrivers(10);
+        Map<Integer, AtomicInteger> advances = new ConcurrentHashMap<>();
+        Map<Integer, String> owners = new ConcurrentHashMap<>();
+
+        ShardedTickEngine engine = new ShardedTickEngine(drivers, 3, 1000, driver -> {
+            advances.computeIfAbsent(driver.getDriverId(), id -> new AtomicInteger()).incrementAndGet();
+            owners.merge(driver.getDriverId(), Thread.currentThread().getName(),
+                (previous, current) -> previous.equals(current) ? previous : "MULTIPLE");
+        });
+        engine.start();
+        while (engine.getTickCount() < 5) {
+            Thread.sleep(10);
+        }
+        engine.stop();
+        engine.awaitTermination();
+
+        assertThat(engine.getShardCount()).isEqualTo(3);
+        assertThat(advances).hasSize(10);
+        // Shards tick independently, so only a lower bound holds across them
+        assertThat(advances.values()).allSatisfy(count -> assertThat(count.get()).isGreaterThanOrEqualTo(5));
+        // Each driver is owned by exactly one shard thread
+        assertThat(owners.values()).doesNotContain("MULTIPLE");
+    }
+
+    @Test
+    void engine_shouldKeepAdvancingTheShardWhenOneDriverFails() throws InterruptedException {
+        List<Driver> drivers = createDrivers(4);
+        Map<Integer, AtomicInteger> advances = new ConcurrentHashMap<>();
+
+        ShardedTickEngine engine = new ShardedTickEngine(drivers, 1, 1000, driver -> {
+            advances.computeIfAbsent(driver.getDriverId(), id -> new AtomicInteger()).incrementAndGet();
+            if (driver.getDriverId() == 500001) {
+                throw new IllegalStateException("broker down");
+            }
+        });
+        engine.start();
+        while (engine.getTickCount() < 20) {
+            Thread.sleep(10);
+        }
+        engine.stop();
+        engine.awaitTermination();
+
+        assertThat(advances.get(500001).get()).isGreaterThanOrEqualTo(20);
+        assertThat(advances.get(500002).get()).isGreaterThanOrEqualTo(20);
+        assertThat(engine.getFailureCount()).isEqualTo(advances.get(500001).get());
+    }
+
+    @Test
+    void engine_shouldNotCreateMoreShardsThanDrivers() {
+        ShardedTickEngine engine = new ShardedTickEngine(createDrivers(2), 8, 1000, driver -> { });
+
+        assertThat(engine.getShardCount()).isEqualTo(2);
+    }
+
+    @Test
+    void engine_shouldRejectEmptyFleet() {
+        assertThrows(IllegalStateException.class, () ->
+            new ShardedTickEngine(List.of(), 4, 1000, driver -> { }));
+    }
+}
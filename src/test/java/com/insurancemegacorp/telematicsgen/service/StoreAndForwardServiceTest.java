@@ -0,0 +1,123 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.DriverState;
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
+import com.insurancemegacorp.telematicsgen.util.SimulationClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class StoreAndForwardServiceTest {
+
+    private final TelematicsDataGenerator dataGenerator = new TelematicsDataGenerator();
+    private final TelematicsPublisher publisher = mock(TelematicsPublisher.class);
+    private final SimulationClock clock =
+        new SimulationClock(Instant.parse("2024-03-01T08:00:00Z").toEpochMilli(), 1.0, true, ZoneOffset.UTC);
+
+    private StoreAndForwardService createService(int bufferCapacity) {
+        StoreAndForwardService service = new StoreAndForwardService(publisher, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "outageProbability", 0.0);
+        ReflectionTestUtils.setField(service, "bufferCapacity", bufferCapacity);
+        service.init();
+        return service;
+    }
+
+    private Driver createDriver() {
+        FleetState fleet = new FleetState(1, 11L);
+        fleet.setClock(clock);
+        Driver driver = fleet.add(999001, 200123, 300999, "1HGBH41JXMN109999", 40.7128, -74.0060, false);
+        driver.setCurrentState(DriverState.DRIVING);
+        driver.setCurrentSpeed(30.0);
+        return driver;
+    }
+
+    @Test
+    void send_shouldQueueWithoutCoverageAndUploadBacklogAsBurst() {
+        StoreAndForwardService service = createService(100);
+        Driver driver = createDriver();
+        driver.loseCoverageUntil(clock.millis() + 3_000);
+
+        List<Instant> offline = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            FlatTelematicsMessage message = dataGenerator.generateTelematicsData(driver);
+            assertThat(message.deviceSignalStrength()).isLessThanOrEqualTo(TelematicsDataGenerator.NO_COVERAGE_DBM);
+            assertThat(service.send(driver, message)).isFalse();
+            offline.add(message.eventTime());
+            clock.advance(Duration.ofSeconds(1));
+        }
+        verify(publisher, times(0)).publishTelematicsData(any(), any());
+
+        FlatTelematicsMessage online = dataGenerator.generateTelematicsData(driver);
+        assertThat(service.send(driver, online)).isTrue();
+
+        ArgumentCaptor<FlatTelematicsMessage> published = ArgumentCaptor.forClass(FlatTelematicsMessage.class);
+        verify(publisher, times(4)).publishTelematicsData(published.capture(), eq(driver));
+        assertThat(published.getAllValues()).extracting(FlatTelematicsMessage::eventTime)
+            .containsExactly(offline.get(0), offline.get(1), offline.get(2), online.eventTime());
+    }
+
+    @Test
+    void send_shouldDropOldestReportsBeyondCapacity() {
+        StoreAndForwardService service = createService(2);
+        Driver driver = createDriver();
+        driver.loseCoverageUntil(clock.millis() + 3_000);
+
+        for (int i = 0; i < 3; i++) {
+            service.send(driver, dataGenerator.generateTelematicsData(driver));
+            clock.advance(Duration.ofSeconds(1));
+        }
+        service.send(driver, dataGenerator.generateTelematicsData(driver));
+
+        ArgumentCaptor<FlatTelematicsMessage> published = ArgumentCaptor.forClass(FlatTelematicsMessage.class);
+        verify(publisher, times(3)).publishTelematicsData(published.capture(), eq(driver));
+        assertThat(published.getAllValues().get(0).eventTime()).isEqualTo(Instant.parse("2024-03-01T08:00:01Z"));
+    }
+
+    @Test
+    void send_shouldKeepTheUnsentTailWhenTheBurstFails() {
+        StoreAndForwardService service = createService(100);
+        Driver driver = createDriver();
+        driver.loseCoverageUntil(clock.millis() + 3_000);
+        List<FlatTelematicsMessage> offline = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            FlatTelematicsMessage message = dataGenerator.generateTelematicsData(driver);
+            service.send(driver, message);
+            offline.add(message);
+            clock.advance(Duration.ofSeconds(1));
+        }
+
+        doNothing().doThrow(new RuntimeException("broker down"))
+            .when(publisher).publishTelematicsData(any(), eq(driver));
+        FlatTelematicsMessage first = dataGenerator.generateTelematicsData(driver);
+        assertThat(service.send(driver, first)).isFalse();
+
+        clearInvocations(publisher);
+        doNothing().when(publisher).publishTelematicsData(any(), eq(driver));
+        clock.advance(Duration.ofSeconds(1));
+        FlatTelematicsMessage second = dataGenerator.generateTelematicsData(driver);
+        assertThat(service.send(driver, second)).isTrue();
+
+        ArgumentCaptor<FlatTelematicsMessage> published = ArgumentCaptor.forClass(FlatTelematicsMessage.class);
+        verify(publisher, times(4)).publishTelematicsData(published.capture(), eq(driver));
+        assertThat(published.getAllValues()).containsExactly(offline.get(1), offline.get(2), first, second);
+    }
+}
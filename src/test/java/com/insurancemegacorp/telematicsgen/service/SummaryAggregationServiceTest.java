@@ -0,0 +1,58 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.DriverState;
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
+import com.insurancemegacorp.telematicsgen.model.TelematicsSummary;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SummaryAggregationServiceTest {
+
+    @Test
+    void add_shouldSummarizeEachFullWindow() {
+        SummaryAggregationService service = new SummaryAggregationService();
+        ReflectionTestUtils.setField(service, "windowSamples", 20);
+        FleetState fleet = new FleetState(2, 5L);
+        fleet.add(999001, 200123, 300999, "1HGBH41JXMN109999", 40.7128, -74.0060, false);
+        Driver driver = fleet.add(999002, 200124, 301000, "1HGBH41JXMN100000", 40.7128, -74.0060, false);
+        driver.setCurrentState(DriverState.DRIVING);
+
+        TelematicsSummary summary = null;
+        for (int i = 1; i <= 20; i++) {
+            // Speeds 1..20 mph; the third report brakes hard
+            assertThat(summary).isNull();
+            summary = service.add(driver, message(i, i == 3 ? -1.1 : 0.1, 40.0 + i));
+        }
+
+        assertThat(summary).isNotNull();
+        assertThat(summary.messageType()).isEqualTo(TelematicsSummary.MESSAGE_TYPE);
+        assertThat(summary.driverId()).isEqualTo(999002);
+        assertThat(summary.sampleCount()).isEqualTo(20);
+        assertThat(summary.windowStart()).isEqualTo(Instant.ofEpochSecond(1));
+        assertThat(summary.windowEnd()).isEqualTo(Instant.ofEpochSecond(20));
+        assertThat(summary.speedMph()).isEqualTo(new TelematicsSummary.Stats(1.0, 20.0, 10.5, 19.0));
+        assertThat(summary.accelerometerX().min()).isEqualTo(-1.1);
+        assertThat(summary.firstGpsLatitude()).isEqualTo(41.0);
+        assertThat(summary.lastGpsLatitude()).isEqualTo(60.0);
+        assertThat(summary.hardBrakingCount()).isEqualTo(1);
+        assertThat(summary.rapidAccelerationCount()).isZero();
+
+        // The next window starts afresh
+        assertThat(service.add(driver, message(21, 0.1, 61.0))).isNull();
+    }
+
+    private static FlatTelematicsMessage message(int second, double accelX, double latitude) {
+        double gForce = Math.sqrt(accelX * accelX + 1.0);
+        return new FlatTelematicsMessage(200124, 301000, "1HGBH41JXMN100000", Instant.ofEpochSecond(second),
+            second, 35, gForce, 999002, "Main St", null,
+            latitude, -74.0, 330.0, second * 0.44704, 90.0, 2.0, 11, 80L,
+            accelX, 0.0, 1.0, 0.0, 0.0, 0.0, 25.0, -10.0, 45.0, 90.0,
+            1015.0, 90, -70, "landscape", true, false);
+    }
+}
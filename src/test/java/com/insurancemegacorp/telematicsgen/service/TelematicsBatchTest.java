@@ -0,0 +1,70 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.DriverState;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
+import com.insurancemegacorp.telematicsgen.model.MutableTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.util.SensorKernel;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TelematicsBatchTest {
+
+    private static final DriverState[] STATES = {
+        DriverState.DRIVING, DriverState.PARKED, DriverState.TRAFFIC_STOP, DriverState.POST_CRASH_IDLE
+    };
+
+    @Test
+    void generate_shouldMatchOneAtATimeReportsWithBothKernels() {
+        TelematicsDataGenerator generator = new TelematicsDataGenerator();
+        assertThat(SensorKernel.preferred().name()).startsWith("vector");
+
+        for (SensorKernel kernel : List.of(SensorKernel.scalar(), SensorKernel.preferred())) {
+            List<Driver> expected = fleet(101);
+            List<Driver> actual = fleet(101);
+            TelematicsBatch batch = new TelematicsBatch(generator, kernel, 64);
+            MutableTelematicsMessage out = new MutableTelematicsMessage();
+
+            for (int round = 0; round < 20; round++) {
+                for (int from = 0; from < actual.size(); from += batch.capacity()) {
+                    int to = Math.min(from + batch.capacity(), actual.size());
+                    batch.generate(actual, from, to);
+                    for (int i = 0; i < batch.size(); i++) {
+                        assertThat(batch.fill(i, out).toRecord())
+                            .as("%s driver %d round %d", kernel.name(), from + i, round)
+                            .isEqualTo(generator.generateTelematicsData(expected.get(from + i)));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void newBatch_shouldFallBackToScalarKernelWhenDisabled() {
+        TelematicsDataGenerator generator = new TelematicsDataGenerator();
+        ReflectionTestUtils.setField(generator, "vectorSensors", false);
+
+        assertThat(generator.newBatch(8).kernel().name()).isEqualTo("scalar");
+    }
+
+    private static List<Driver> fleet(int size) {
+        FleetState fleet = new FleetState(size, 7L);
+        fleet.setClock(Clock.fixed(Instant.parse("2024-03-01T08:00:00Z"), ZoneOffset.UTC));
+        List<Driver> drivers = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Driver driver = fleet.add(400000 + i, 200000 + i, 300000 + i, "VIN-" + i, 33.7490, -84.3880, i % 3 == 0);
+            driver.setCurrentState(STATES[i % STATES.length]);
+            driver.setCurrentSpeed(25.0 + i % 40);
+            drivers.add(driver);
+        }
+        return drivers;
+    }
+}
@@ -1,13 +1,31 @@
 package com.insurancemegacorp.telematicsgen.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.insurancemegacorp.telematicsgen.model.AccidentType;
+import com.insurancemegacorp.telematicsgen.model.CrashPulse;
 import com.insurancemegacorp.telematicsgen.model.Driver;
 import com.insurancemegacorp.telematicsgen.model.DriverState;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
 import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.model.MutableTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.util.SensorTraceLibrary;
+import com.insurancemegacorp.telematicsgen.util.SimulationClock;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 @SpringBootTest(classes = TelematicsDataGenerator.class)
 class TelematicsDataGeneratorTest {
@@ -112,4 +130,133 @@ class TelematicsDataGeneratorTest {
 
         assertThat(message.accidentType()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void generateTelematicsData_bufferShouldSerializeLikeRecord() {
+        TelematicsDataGenerator dataGenerator = new TelematicsDataGenerator();
+        Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+        Driver recordDriver = seededDriver();
+        Driver bufferDriver = seededDriver();
+        MutableTelematicsMessage buffer = new MutableTelematicsMessage();
+
+        for (DriverState state : new DriverState[] {DriverState.DRIVING, DriverState.PARKED, DriverState.POST_CRASH_IDLE}) {
+            recordDriver.setCurrentState(state);
+            bufferDriver.setCurrentState(state);
+            FlatTelematicsMessage record = dataGenerator.generateTelematicsData(recordDriver);
+            dataGenerator.generateTelematicsData(bufferDriver, buffer);
+
+            assertThat(buffer.toRecord()).isEqualTo(record);
+            assertThat(new String(converter.toMessage(buffer, new MessageProperties()).getBody()))
+                .isEqualTo(new String(converter.toMessage(record, new MessageProperties()).getBody()));
+        }
+    }
+
+    @Test
+    void generateCrashPulse_shouldShapeBurstAroundImpactFromProfile() throws Exception {
+        TelematicsDataGenerator dataGenerator = new TelematicsDataGenerator();
+        Driver testDriver = seededDriver();
+        CrashPulse pulse = new CrashPulse(2_000);
+        long impact = Instant.parse("2024-03-01T08:00:00.123Z").toEpochMilli();
+
+        dataGenerator.generateCrashPulse(testDriver, AccidentType.HEAD_ON, impact, 1_000, 2_000, pulse);
+
+        assertThat(pulse.size()).isEqualTo(2_000);
+        assertThat(pulse.startOffsetMs()).isEqualTo(-1_000);
+        // Driving vibration before the impact, profile peak half-way through the pulse
+        assertThat(pulse.accelerometerX(500) / 10000.0).isBetween(-0.05, 0.05);
+        assertThat(pulse.accelerometerZ(500) / 10000.0).isBetween(0.95, 1.05);
+        assertThat(pulse.accelerometerX(1_000 + TelematicsDataGenerator.IMPACT_MS / 2) / 10000.0).isBetween(-12.01, -7.99);
+        assertThat(pulse.accelerometerX(1_999) / 10000.0).isBetween(-0.01, 0.01);
+
+        JsonNode json = new ObjectMapper().registerModule(new JavaTimeModule()).readTree(
+            new Jackson2JsonMessageConverter().toMessage(pulse, new MessageProperties()).getBody());
+        assertThat(json.get("message_type").asText()).isEqualTo(CrashPulse.MESSAGE_TYPE);
+        assertThat(json.get("accident_type").asText()).isEqualTo("HEAD_ON");
+        assertThat(json.get("sample_rate_hz").asInt()).isEqualTo(1_000);
+        assertThat(json.get("gyroscope_z")).hasSize(2_000);
+        assertThat(json.get("accelerometer_x").get(1_050).asInt()).isEqualTo(pulse.accelerometerX(1_050));
+    }
+
+    @Test
+    void generateTelematicsData_shouldDeriveAccelerationAndYawFromMotion() {
+        TelematicsDataGenerator dataGenerator = new TelematicsDataGenerator();
+        Driver testDriver = seededDriver();
+        SimulationClock clock = new SimulationClock(Instant.parse("2024-03-01T08:00:00Z").toEpochMilli(), 1.0, true, ZoneOffset.UTC);
+        testDriver.getFleetState().setClock(clock);
+        testDriver.setCurrentState(DriverState.DRIVING);
+        testDriver.setCurrentBearing(90.0);
+        dataGenerator.generateTelematicsData(testDriver);
+
+        // 5 mph faster and 10 degrees to the right one second later
+        clock.advance(Duration.ofSeconds(1));
+        testDriver.setCurrentSpeed(35.0);
+        testDriver.setCurrentBearing(100.0);
+        FlatTelematicsMessage message = dataGenerator.generateTelematicsData(testDriver);
+
+        double yawRate = -Math.toRadians(10.0);
+        assertThat(testDriver.getLongitudinalAccel()).isCloseTo(5 * 0.44704 / 9.80665, within(1e-9));
+        assertThat(testDriver.getYawRate()).isCloseTo(yawRate, within(1e-9));
+        assertThat(message.accelerometerY()).isCloseTo(35 * 0.44704 * yawRate / 9.80665, within(0.051));
+        assertThat(message.gyroscopeZ()).isCloseTo(yawRate, within(0.051));
+    }
+
+    @Test
+    void generateTelematicsData_shouldReportHarshEventsOnlyFromTheSpeedChange() {
+        TelematicsDataGenerator dataGenerator = new TelematicsDataGenerator();
+        Driver testDriver = seededDriver();
+        SimulationClock clock = new SimulationClock(Instant.parse("2024-03-01T08:00:00Z").toEpochMilli(), 1.0, true, ZoneOffset.UTC);
+        testDriver.getFleetState().setClock(clock);
+        testDriver.setCurrentState(DriverState.DRIVING);
+        dataGenerator.generateTelematicsData(testDriver);
+
+        clock.advance(Duration.ofSeconds(1));
+        testDriver.harshManeuver(-1.1);
+        FlatTelematicsMessage braking = dataGenerator.generateTelematicsData(testDriver);
+
+        assertThat(testDriver.getCurrentSpeed()).isCloseTo(30.0 - 1.1 * 9.80665 / 0.44704, within(1e-9));
+        assertThat(testDriver.getLongitudinalAccel()).isCloseTo(-1.1, within(1e-9));
+        assertThat(TelematicsDataGenerator.isHardBraking(braking.accelerometerX(), braking.gForce())).isTrue();
+
+        clock.advance(Duration.ofSeconds(1));
+        testDriver.harshManeuver(1.0);
+        FlatTelematicsMessage accelerating = dataGenerator.generateTelematicsData(testDriver);
+
+        assertThat(testDriver.getLongitudinalAccel()).isCloseTo(1.0, within(1e-9));
+        assertThat(TelematicsDataGenerator.isRapidAcceleration(accelerating.accelerometerX(), accelerating.gForce())).isTrue();
+
+        // Without a harsh maneuver the same jump is clamped to what a car does
+        clock.advance(Duration.ofSeconds(1));
+        testDriver.setCurrentSpeed(testDriver.getCurrentSpeed() + 30.0);
+        dataGenerator.generateTelematicsData(testDriver);
+
+        assertThat(testDriver.getLongitudinalAccel()).isEqualTo(0.5);
+    }
+
+    private static Driver seededDriver() {
+        FleetState fleet = new FleetState(1, 42L);
+        fleet.setClock(Clock.fixed(Instant.parse("2024-03-01T08:00:00.123Z"), ZoneOffset.UTC));
+        Driver driver = fleet.add(999002, 200124, 301000, "1HGBH41JXMN100000", 40.7128, -74.0060, false);
+        driver.setCurrentSpeed(30.0);
+        driver.setCurrentStreet("Main St");
+        return driver;
+    }
+
+    @Test
+    void generateTelematicsData_shouldReplaySensorTracesWhenLoaded(@TempDir Path tempDir) throws Exception {
+        TelematicsDataGenerator dataGenerator = new TelematicsDataGenerator();
+        SensorTraceLibrary library = SensorTraceLibrary.create(tempDir.resolve("traces.bin"), 256, 3L);
+        dataGenerator.setSensorTraces(library);
+        Driver testDriver = seededDriver();
+        testDriver.setCurrentState(DriverState.PARKED);
+        MutableTelematicsMessage message = new MutableTelematicsMessage();
+
+        for (int step = 0; step < 3; step++) {
+            dataGenerator.generateTelematicsData(testDriver, message);
+            int sample = library.sample(SensorTraceLibrary.PARKED, testDriver.getDriverId(), testDriver.getMessageCount());
+            assertThat(message.accelerometerZFixed()).isEqualTo(library.read(sample, SensorTraceLibrary.ACCEL_Z));
+            assertThat(message.gyroscopeYFixed()).isEqualTo(library.read(sample, SensorTraceLibrary.GYRO_Y));
+            assertThat(message.magnetometerXFixed()).isEqualTo(library.read(sample, SensorTraceLibrary.MAG_X));
+            testDriver.incrementMessageCount();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.insurancemegacorp.telematicsgen.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TelematicsRateServiceTest {
+
+    @Test
+    void calculateAndResetRate_shouldMeasureDriftOnGeneratedReports() {
+        TelematicsRateService rateService = new TelematicsRateService(new SimpleMeterRegistry());
+        rateService.setTargetRate(1000);
+        // A long window, so the time the test itself takes does not show up in the rates
+        ReflectionTestUtils.setField(rateService, "windowStartNanos", System.nanoTime() - 100_000_000_000L);
+
+        // 1000 reports per second generated, folded into 10 summaries per second
+        for (int i = 0; i < 100_000; i++) {
+            rateService.incrementGeneratedCount();
+        }
+        for (int i = 0; i < 1000; i++) {
+            rateService.incrementMessageCount();
+        }
+        rateService.calculateAndResetRate();
+
+        assertThat(rateService.getGeneratedRate()).isCloseTo(1000L, within(5L));
+        assertThat(rateService.getCurrentRate()).isEqualTo(10);
+        assertThat(rateService.getDriftPercent()).isCloseTo(0, within(1.0));
+    }
+}
@@ -0,0 +1,46 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FixedPointTest {
+
+    @Test
+    void format_shouldMatchDoubleToStringOfTheRoundedValue() {
+        char[] buf = new char[FixedPoint.MAX_CHARS];
+        for (int units = -250_000; units <= 250_000; units++) {
+            assertFormat(units, FixedPoint.FOUR_DECIMALS, buf);
+            assertFormat(units, FixedPoint.TWO_DECIMALS, buf);
+        }
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 0; i < 100_000; i++) {
+            assertFormat(random.nextInt(), FixedPoint.FOUR_DECIMALS, buf);
+            assertFormat(random.nextInt(), FixedPoint.TWO_DECIMALS, buf);
+        }
+        assertFormat(Integer.MIN_VALUE, FixedPoint.FOUR_DECIMALS, buf);
+        assertFormat(Integer.MAX_VALUE, FixedPoint.TWO_DECIMALS, buf);
+        assertFormat(1_000_000_000, FixedPoint.TWO_DECIMALS, buf);
+    }
+
+    @Test
+    void fourDecimals_shouldRoundTripLikeMathRound() {
+        double value = -0.87654321;
+
+        int units = FixedPoint.fourDecimals(value);
+
+        assertThat(units).isEqualTo(-8765);
+        assertThat(FixedPoint.toDouble(units, FixedPoint.FOUR_DECIMALS))
+            .isEqualTo(Math.round(value * 10000.0) / 10000.0);
+        assertThat(FixedPoint.twoDecimals(42.125)).isEqualTo(4213);
+    }
+
+    private static void assertFormat(int units, int decimals, char[] buf) {
+        int length = FixedPoint.format(units, decimals, buf, 0);
+        assertThat(new String(buf, 0, length))
+            .as("%d at %d decimals", units, decimals)
+            .isEqualTo(Double.toString(FixedPoint.toDouble(units, decimals)));
+    }
+}
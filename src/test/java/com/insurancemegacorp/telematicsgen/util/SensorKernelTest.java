@@ -0,0 +1,46 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SensorKernelTest {
+
+    @Test
+    void vectorKernel_shouldRoundLikeMathRoundIncludingTiesAndNegatives() {
+        int n = 1_003;
+        SplittableRandom random = new SplittableRandom(3);
+        double[] u = new double[n];
+        double[] shift = new double[n];
+        double[] scale = new double[n];
+        double[] bias = new double[n];
+        for (int i = 0; i < n; i++) {
+            u[i] = random.nextDouble();
+            shift[i] = -0.5;
+            scale[i] = random.nextDouble() * 4 - 2;
+            bias[i] = random.nextInt(3) - 1;
+        }
+        // Exact half-way points, negative ties and the largest double below one half
+        double[] edges = {0.00005, -0.00005, 0.00015, -0.00025, 0.49999999999999994 / 10000.0, -1.00005, 0.0, -0.0};
+        for (int i = 0; i < edges.length; i++) {
+            u[i] = edges[i];
+            shift[i] = 0.0;
+            scale[i] = 1.0;
+            bias[i] = 0.0;
+        }
+        double[] expected = new double[n];
+        double[] actual = new double[n];
+
+        SensorKernel vector = SensorKernel.preferred();
+        SensorKernel.scalar().affineFourDecimals(u, shift, scale, bias, expected, n);
+        vector.affineFourDecimals(u, shift, scale, bias, actual, n);
+        assertThat(vector.name()).startsWith("vector");
+        assertThat(actual).containsExactly(expected);
+
+        SensorKernel.scalar().magnitudeFourDecimals(u, scale, bias, expected, n);
+        vector.magnitudeFourDecimals(u, scale, bias, actual, n);
+        assertThat(actual).containsExactly(expected);
+    }
+}
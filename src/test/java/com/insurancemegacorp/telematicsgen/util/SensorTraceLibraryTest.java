@@ -0,0 +1,52 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import com.insurancemegacorp.telematicsgen.model.AccidentType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SensorTraceLibraryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void create_shouldWriteSmoothLoopingTracesWithinTheRegimeRanges() throws IOException {
+        Path file = tempDir.resolve("traces.bin");
+        SensorTraceLibrary library = SensorTraceLibrary.create(file, 1024, 5L);
+
+        SensorTraceLibrary reopened = SensorTraceLibrary.open(file);
+        assertThat(reopened.samples()).isEqualTo(1024);
+        assertThat(reopened.seed()).isEqualTo(5L);
+
+        long totalStep = 0;
+        for (int step = 0; step < 1024; step++) {
+            int value = library.read(library.sample(SensorTraceLibrary.HARD_BRAKE, 42, step), SensorTraceLibrary.ACCEL_X);
+            int next = library.read(library.sample(SensorTraceLibrary.HARD_BRAKE, 42, step + 1), SensorTraceLibrary.ACCEL_X);
+            assertThat(value).isBetween(-14_000, -9_000);
+            totalStep += Math.abs(next - value);
+        }
+        // Independent uniform readings over the 5000-unit range would move 1667 on average
+        assertThat(totalStep / 1024).isLessThan(700);
+        int last = library.read(SensorTraceLibrary.HARD_BRAKE * 1024 + 1023, SensorTraceLibrary.ACCEL_X);
+        int first = library.read(SensorTraceLibrary.HARD_BRAKE * 1024, SensorTraceLibrary.ACCEL_X);
+        assertThat(Math.abs(first - last)).isLessThan(1_500);
+        assertThat(reopened.read(5, SensorTraceLibrary.MAG_Z)).isEqualTo(library.read(5, SensorTraceLibrary.MAG_Z));
+
+        int rollover = library.sample(SensorTraceLibrary.traceFor(AccidentType.ROLLOVER), 42, 0);
+        assertThat(Math.abs(library.read(rollover, SensorTraceLibrary.GYRO_Y))).isBetween(60_000, 120_000);
+    }
+
+    @Test
+    void open_shouldRejectForeignFiles() throws IOException {
+        Path file = Files.write(tempDir.resolve("other.bin"), new byte[64]);
+
+        assertThatThrownBy(() -> SensorTraceLibrary.open(file)).isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,46 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class SimulationClockTest {
+
+    @Test
+    void millis_shouldRunAtWarpFactor() throws InterruptedException {
+        SimulationClock clock = new SimulationClock(0, 100.0, false, ZoneOffset.UTC);
+
+        Thread.sleep(200);
+
+        // 200ms real at 100x is 20s simulated; allow for scheduling delay
+        assertThat((double) clock.millis()).isCloseTo(20_000, within(10_000.0));
+    }
+
+    @Test
+    void manualMode_shouldOnlyMoveWhenAdvanced() throws InterruptedException {
+        SimulationClock clock = new SimulationClock(1_000, 60.0, true, ZoneOffset.UTC);
+
+        Thread.sleep(50);
+        assertThat(clock.millis()).isEqualTo(1_000);
+
+        clock.advance(Duration.ofMinutes(15));
+        assertThat(clock.millis()).isEqualTo(1_000 + 15 * 60_000);
+    }
+
+    @Test
+    void switchingModes_shouldNotJump() {
+        SimulationClock clock = new SimulationClock(5_000, 1.0, true, ZoneOffset.UTC);
+
+        clock.setManual(false);
+        clock.setWarpFactor(1000.0);
+        clock.setManual(true);
+
+        assertThat(clock.millis()).isBetween(5_000L, 6_000L);
+        assertThatThrownBy(() -> clock.setWarpFactor(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,73 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import com.insurancemegacorp.telematicsgen.config.TelematicsMessageConverter;
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.DriverState;
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
+import com.insurancemegacorp.telematicsgen.model.MutableTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.service.TelematicsDataGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TelematicsEncodingTest {
+
+    @Test
+    void encode_shouldRoundTripEveryFormat() throws Exception {
+        TelematicsDataGenerator dataGenerator = new TelematicsDataGenerator();
+        FleetState fleet = new FleetState(1, 42L);
+        fleet.setClock(new SimulationClock(Instant.parse("2024-03-01T08:00:00.123Z").toEpochMilli(), 1.0, true, ZoneOffset.UTC));
+        Driver driver = fleet.add(999002, 200124, 301000, "1HGBH41JXMN100000", 40.7128, -74.0060, false);
+        driver.setCurrentSpeed(30.0);
+        driver.setCurrentStreet("Main St");
+        MutableTelematicsMessage buffer = new MutableTelematicsMessage();
+        int jsonBytes = 0;
+
+        for (WireFormat format : WireFormat.values()) {
+            TelematicsEncoding encoding = format.newEncoding();
+            assertThat(encoding.format()).isEqualTo(format);
+            assertThat(encoding.schema() != null).isEqualTo(format == WireFormat.AVRO || format == WireFormat.PROTOBUF);
+            for (DriverState state : new DriverState[] {DriverState.DRIVING, DriverState.POST_CRASH_IDLE}) {
+                driver.setCurrentState(state);
+                FlatTelematicsMessage record = dataGenerator.generateTelematicsData(driver);
+                dataGenerator.generateTelematicsData(driver, buffer);
+
+                byte[] bytes = encoding.encode(record);
+                assertThat(encoding.decode(bytes)).as("%s", format).isEqualTo(record);
+                assertThat(encoding.decode(encoding.encode(buffer))).as("%s", format).isEqualTo(buffer.toRecord());
+                byte[][] sunk = new byte[1][];
+                encoding.encode(buffer, (sinkBytes, length) -> sunk[0] = Arrays.copyOf(sinkBytes, length));
+                assertThat(sunk[0]).as("%s", format).isEqualTo(encoding.encode(buffer));
+                if (format == WireFormat.JSON) {
+                    jsonBytes = bytes.length;
+                } else {
+                    assertThat(bytes.length).as("%s", format).isLessThan(jsonBytes);
+                }
+            }
+        }
+    }
+
+    @Test
+    void converter_shouldAdvertiseFormatInContentType() {
+        TelematicsMessageConverter converter = new TelematicsMessageConverter(WireFormat.PROTOBUF.newEncoding());
+        FlatTelematicsMessage message = new FlatTelematicsMessage(200124, 301000, "1HGBH41JXMN100000",
+            Instant.parse("2024-03-01T08:00:00.123Z"), 31.25, 35, 1.02, 999002, "Main St", null,
+            33.749, -84.388, 330.5, 13.97, 90.0, 2.0, 11, 80L,
+            0.1234, -0.0567, 0.9812, 0.01, 0.002, -0.003, 25.0, -10.0, 45.0, 90.0,
+            1015.0, 90, -70, "landscape", true, false);
+
+        Message amqp = converter.toMessage(message, new MessageProperties());
+
+        assertThat(amqp.getMessageProperties().getContentType()).isEqualTo("application/x-protobuf");
+        assertThat(amqp.getMessageProperties().getContentEncoding()).isNull();
+        assertThat(amqp.getMessageProperties().getContentLength()).isEqualTo(amqp.getBody().length);
+        assertThat(converter.fromMessage(amqp)).isEqualTo(message);
+    }
+}
@@ -0,0 +1,95 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import com.insurancemegacorp.telematicsgen.config.TelematicsMessageConverter;
+import com.insurancemegacorp.telematicsgen.model.Driver;
+import com.insurancemegacorp.telematicsgen.model.DriverState;
+import com.insurancemegacorp.telematicsgen.model.FlatTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.model.FleetState;
+import com.insurancemegacorp.telematicsgen.model.MutableTelematicsMessage;
+import com.insurancemegacorp.telematicsgen.service.TelematicsDataGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TelematicsJsonWriterTest {
+
+    private final Jackson2JsonMessageConverter jackson = new Jackson2JsonMessageConverter();
+    private final TelematicsJsonWriter writer = new TelematicsJsonWriter();
+
+    @Test
+    void write_shouldMatchJacksonForGeneratedReports() {
+        TelematicsDataGenerator dataGenerator = new TelematicsDataGenerator();
+        SimulationClock clock =
+            new SimulationClock(Instant.parse("2024-03-01T08:00:00.123Z").toEpochMilli(), 1.0, true, ZoneOffset.UTC);
+        FleetState fleet = new FleetState(1, 42L);
+        fleet.setClock(clock);
+        Driver driver = fleet.add(999002, 200124, 301000, "1HGBH41JXMN100000", 40.7128, -74.0060, false);
+        driver.setCurrentSpeed(30.0);
+        driver.setCurrentStreet("Main St");
+        MutableTelematicsMessage buffer = new MutableTelematicsMessage();
+
+        DriverState[] states = {DriverState.DRIVING, DriverState.PARKED, DriverState.TRAFFIC_STOP, DriverState.POST_CRASH_IDLE};
+        for (int i = 0; i < 400; i++) {
+            driver.setCurrentState(states[i % states.length]);
+            FlatTelematicsMessage record = dataGenerator.generateTelematicsData(driver);
+            dataGenerator.generateTelematicsData(driver, buffer);
+            clock.advance(Duration.ofMillis(1_007));
+
+            assertThat(new String(writer.write(record))).isEqualTo(jacksonJson(record));
+            assertThat(new String(writer.write(buffer))).isEqualTo(jacksonJson(buffer));
+        }
+    }
+
+    @Test
+    void write_shouldMatchJacksonForEdgeValues() {
+        double[] doubles = {Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, -0.0, 1e-5, 1e7,
+            Double.MIN_VALUE, Double.MAX_VALUE};
+        String[] strings = {null, "", "O'Brien \"Bud\" Ave\\", "tab\tnew\nline\r\b\f\u0001\u001f\u007f/",
+            "Straße", "大道", "🚗 Lane", "\ud83d lone"};
+        Instant[] instants = {Instant.EPOCH, Instant.ofEpochSecond(0, 1), Instant.ofEpochSecond(-1, 5),
+            Instant.ofEpochMilli(-1), Instant.ofEpochSecond(1_709_280_000, 120_000_000)};
+
+        for (int i = 0; i < doubles.length; i++) {
+            FlatTelematicsMessage message = message(doubles[i], strings[i % strings.length],
+                instants[i % instants.length], i % 2 == 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE, Long.MIN_VALUE + i);
+            assertThat(new String(writer.write(message))).isEqualTo(jacksonJson(message));
+        }
+        for (String street : strings) {
+            FlatTelematicsMessage message = message(0.5, street, Instant.EPOCH, -70, 0L);
+            assertThat(writer.write(message)).isEqualTo(jackson.toMessage(message, new MessageProperties()).getBody());
+        }
+    }
+
+    @Test
+    void converter_shouldProduceJacksonBodyAndHeaders() {
+        TelematicsMessageConverter converter = new TelematicsMessageConverter();
+        FlatTelematicsMessage message = message(12.5, "Main St", Instant.ofEpochSecond(1_709_280_000), -70, 80L);
+
+        Message expected = jackson.toMessage(message, new MessageProperties());
+        Message actual = converter.toMessage(message, new MessageProperties());
+
+        assertThat(actual.getBody()).isEqualTo(expected.getBody());
+        assertThat(actual.getMessageProperties()).isEqualTo(expected.getMessageProperties());
+        assertThat(converter.fromMessage(actual)).isEqualTo(message);
+    }
+
+    private String jacksonJson(Object message) {
+        return new String(jackson.toMessage(message, new MessageProperties()).getBody());
+    }
+
+    private static FlatTelematicsMessage message(double value, String street, Instant eventTime,
+                                                 int signal, long fixTime) {
+        return new FlatTelematicsMessage(200124, 301000, "1HGBH41JXMN100000", eventTime,
+            value, 35, value, 999002, street, street,
+            value, -value, 330.0, value, 90.0, 2.0, 11, fixTime,
+            value, 0.0, 1.0, -value, 0.0, 0.0, 25.0, -10.0, 45.0, value,
+            1015.0, 90, signal, street, true, false);
+    }
+}
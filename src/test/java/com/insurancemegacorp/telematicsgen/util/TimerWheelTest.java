@@ -0,0 +1,66 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimerWheelTest {
+
+    @Test
+    void advance_shouldFireTimersAtTheirTickAcrossLevels() {
+        TimerWheel<String> wheel = new TimerWheel<>(100, 0);
+        wheel.schedule("short", 250);             // level 0
+        wheel.schedule("minutes", 5 * 60_000);    // level 1 after cascading
+        wheel.schedule("hours", 3 * 3_600_000);   // level 2
+        wheel.schedule("weeks", 30L * 86_400_000); // beyond the top level
+        List<String> fired = new ArrayList<>();
+
+        assertThat(wheel.advance(200, fired::add)).isZero();
+        wheel.advance(300, fired::add);
+        assertThat(fired).containsExactly("short");
+
+        wheel.advance(5 * 60_000 - 100, fired::add);
+        assertThat(fired).containsExactly("short");
+        wheel.advance(5 * 60_000, fired::add);
+        assertThat(fired).containsExactly("short", "minutes");
+
+        wheel.advance(3 * 3_600_000, fired::add);
+        assertThat(fired).containsExactly("short", "minutes", "hours");
+
+        wheel.advance(30L * 86_400_000 - 100, fired::add);
+        assertThat(fired).hasSize(3);
+        wheel.advance(30L * 86_400_000, fired::add);
+        assertThat(fired).containsExactly("short", "minutes", "hours", "weeks");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void schedule_shouldFirePastDueTimersOnNextAdvance() {
+        TimerWheel<Integer> wheel = new TimerWheel<>(100, 0);
+        wheel.advance(1_000, item -> { });
+        wheel.schedule(1, 500);
+        List<Integer> fired = new ArrayList<>();
+
+        wheel.advance(1_100, fired::add);
+
+        assertThat(fired).containsExactly(1);
+    }
+
+    @Test
+    void advance_shouldAllowSchedulingFromCallback() {
+        TimerWheel<Integer> wheel = new TimerWheel<>(100, 0);
+        wheel.schedule(1, 100);
+        List<Integer> fired = new ArrayList<>();
+
+        wheel.advance(100, item -> {
+            fired.add(item);
+            wheel.schedule(item + 1, 400);
+        });
+        wheel.advance(400, fired::add);
+
+        assertThat(fired).containsExactly(1, 2);
+    }
+}
@@ -0,0 +1,59 @@
+package com.insurancemegacorp.telematicsgen.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketPacerTest {
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void acquire_shouldHoldTheRateWhateverTheCallCadence() {
+        TokenBucketPacer pacer = new TokenBucketPacer(2000, 1024, 0.1, nanos::get);
+        assertThat(pacer.acquire(0)).isZero();
+
+        // Uneven work per call, 1 s in total: the slow calls get bigger batches
+        long granted = 0;
+        for (int i = 0; i < 1000; i++) {
+            nanos.addAndGet(i % 2 == 0 ? 300_000 : 1_700_000);
+            granted += pacer.acquire(0);
+        }
+
+        assertThat(granted).isEqualTo(2000);
+        assertThat(pacer.getShortfall()).isZero();
+    }
+
+    @Test
+    void acquire_shouldCapAStallAtTheBurstAndCountTheRestAsShortfall() {
+        TokenBucketPacer pacer = new TokenBucketPacer(1000, 100, 0.05, nanos::get);
+        pacer.acquire(0);
+
+        nanos.addAndGet(30_000_000);
+        assertThat(pacer.acquire(0)).isEqualTo(30);
+
+        nanos.addAndGet(1_000_000_000);
+        assertThat(pacer.acquire(0)).isEqualTo(100);
+        assertThat(pacer.getShortfall()).isEqualTo(900);
+        assertThat(pacer.acquire(0)).isZero();
+    }
+
+    @Test
+    void acquire_shouldApplyANewRateFromTheMomentItIsSet() {
+        TokenBucketPacer pacer = new TokenBucketPacer(1000, 1024, 0.1, nanos::get);
+        pacer.acquire(0);
+        nanos.addAndGet(10_000_000);
+        assertThat(pacer.acquire(0)).isEqualTo(10);
+
+        pacer.setRate(0);
+        nanos.addAndGet(10_000_000);
+        assertThat(pacer.acquire(0)).isZero();
+
+        pacer.setRate(5000);
+        assertThat(pacer.acquire(0)).isZero();
+        nanos.addAndGet(10_000_000);
+        assertThat(pacer.acquire(0)).isEqualTo(50);
+    }
+}